@@ -0,0 +1,163 @@
+package com.tylerbartnick.benchmarks;
+
+import com.tylerbartnick.datastructures.BoundedBlockingQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures handing items from two producer threads to two consumer threads through BoundedBlockingQueue<T>,
+ * one at a time and in batches, against java.util.concurrent.ArrayBlockingQueue. Producers and consumers
+ * never wait indefinitely, so neither side is left blocked when the other stops at the end of an iteration,
+ * which means an invocation may move fewer than `batch` items or none at all. Compare the `produced` and
+ * `consumed` counters, which count items, rather than the invocation scores.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class BoundedBlockingQueueBenchmark {
+    private static final int CAPACITY = 1024;
+
+    @Param({ "1", "64" })
+    public int batch;
+
+    private BoundedBlockingQueue<Long> queue;
+    private ArrayBlockingQueue<Long> baseline;
+    private List<Long> items;
+
+    @Setup
+    public void setUp() {
+        queue = new BoundedBlockingQueue<>(CAPACITY);
+        baseline = new ArrayBlockingQueue<>(CAPACITY);
+        items = new ArrayList<>(batch);
+        for (long i = 0; i < batch; i++) {
+            items.add(i);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Drain {
+        final List<Long> target = new ArrayList<>();
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Items {
+        public long produced;
+        public long consumed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            produced = 0;
+            consumed = 0;
+        }
+    }
+
+    @Benchmark
+    @Group("single")
+    @GroupThreads(2)
+    public void singleProduce(Items counters) throws InterruptedException {
+        for (Long item : items) {
+            if (queue.enqueue(item, 1, TimeUnit.MILLISECONDS)) { counters.produced++; }
+        }
+    }
+
+    @Benchmark
+    @Group("single")
+    @GroupThreads(2)
+    public void singleConsume(Items counters) throws InterruptedException {
+        for (int i = 0; i < batch; i++) {
+            if (queue.dequeue(1, TimeUnit.MILLISECONDS) != null) { counters.consumed++; }
+        }
+    }
+
+    @Benchmark
+    @Group("batched")
+    @GroupThreads(2)
+    public void batchedProduce(Items counters) throws InterruptedException {
+        // enqueueAll() waits for space indefinitely, so only offer a batch there is room for; the
+        // other producer may still take the room first, in which case this waits for the consumers.
+        // yield rather than spin when full so the consumers get to run even on a single core
+        if (queue.remainingCapacity() >= batch) {
+            counters.produced += queue.enqueueAll(items);
+        } else {
+            Thread.yield();
+        }
+    }
+
+    @Benchmark
+    @Group("batched")
+    @GroupThreads(2)
+    public void batchedConsume(Items counters, Drain drain) throws InterruptedException {
+        drain.target.clear();
+        int taken = queue.drainTo(drain.target, batch);
+        if (taken == 0 && queue.dequeue(1, TimeUnit.MILLISECONDS) != null) { taken++; }
+        counters.consumed += taken;
+    }
+
+    @Benchmark
+    @Group("baselineSingle")
+    @GroupThreads(2)
+    public void baselineSingleProduce(Items counters) throws InterruptedException {
+        for (Long item : items) {
+            if (baseline.offer(item, 1, TimeUnit.MILLISECONDS)) { counters.produced++; }
+        }
+    }
+
+    @Benchmark
+    @Group("baselineSingle")
+    @GroupThreads(2)
+    public void baselineSingleConsume(Items counters) throws InterruptedException {
+        for (int i = 0; i < batch; i++) {
+            if (baseline.poll(1, TimeUnit.MILLISECONDS) != null) { counters.consumed++; }
+        }
+    }
+
+    @Benchmark
+    @Group("baselineBatched")
+    @GroupThreads(2)
+    public void baselineBatchedProduce(Items counters) {
+        // ArrayBlockingQueue has no batch insert, adding a batch takes the lock per element
+        for (Long item : items) {
+            if (!baseline.offer(item)) {
+                Thread.yield();
+                return;
+            }
+            counters.produced++;
+        }
+    }
+
+    @Benchmark
+    @Group("baselineBatched")
+    @GroupThreads(2)
+    public void baselineBatchedConsume(Items counters, Drain drain) throws InterruptedException {
+        drain.target.clear();
+        int taken = baseline.drainTo(drain.target, batch);
+        if (taken == 0 && baseline.poll(1, TimeUnit.MILLISECONDS) != null) { taken++; }
+        counters.consumed += taken;
+    }
+}
@@ -0,0 +1,89 @@
+package com.tylerbartnick.benchmarks;
+
+import com.tylerbartnick.datastructures.DoubleLinkedList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the bulk operations of the linked lists against doing the same work one element at a time:
+ * filling a DoubleLinkedList<T> from a batch by appendAll() rather than append(), and cutting a list of
+ * `size` elements in half and joining it back together by splitAt() and concat() rather than moving the back
+ * half across element by element.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkOperationsBenchmark {
+    @Param({ "1000", "100000" })
+    public int size;
+
+    private List<Long> batch;
+    private DoubleLinkedList<Long> linked;
+
+    @Setup
+    public void setUp() {
+        batch = new ArrayList<>();
+        linked = new DoubleLinkedList<>();
+        for (long i = 0; i < size; i++) {
+            batch.add(i);
+            linked.append(i);
+        }
+    }
+
+    @Benchmark
+    public int appendEach() {
+        DoubleLinkedList<Long> list = new DoubleLinkedList<>();
+        for (Long value : batch) {
+            list.append(value);
+        }
+        return list.getCount();
+    }
+
+    @Benchmark
+    public int appendAll() {
+        DoubleLinkedList<Long> list = new DoubleLinkedList<>();
+        list.appendAll(batch);
+        return list.getCount();
+    }
+
+    @Benchmark
+    public int linkedMoveEachAndBack() {
+        DoubleLinkedList<Long> back = new DoubleLinkedList<>();
+        int half = size / 2;
+        for (int i = half; i < size; i++) {
+            back.insert(linked.get(linked.getCount() - 1), 0);
+            linked.delete(linked.getCount() - 1);
+        }
+        for (Long value : back) {
+            linked.append(value);
+        }
+        return linked.getCount();
+    }
+
+    @Benchmark
+    public int linkedSplitAndConcat() {
+        DoubleLinkedList<Long> back = linked.splitAt(size / 2);
+        linked.concat(back);
+        return linked.getCount();
+    }
+}
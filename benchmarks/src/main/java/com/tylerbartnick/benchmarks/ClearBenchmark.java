@@ -0,0 +1,94 @@
+package com.tylerbartnick.benchmarks;
+
+import com.tylerbartnick.datastructures.DoubleLinkedList;
+import com.tylerbartnick.datastructures.SingleLinkedList;
+
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures clearing SingleLinkedList<T> and DoubleLinkedList<T> in constant time and with scrubbing against
+ * java.util.LinkedList, which always unlinks every node. The lists are rebuilt before every invocation, so
+ * only the clear itself is timed; at small sizes the timer's own overhead dominates.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ClearBenchmark {
+    @Param({ "10000", "1000000" })
+    public int size;
+
+    private Integer[] items;
+    private SingleLinkedList<Integer> single;
+    private DoubleLinkedList<Integer> dbl;
+    private LinkedList<Integer> baseline;
+
+    @Setup(Level.Trial)
+    public void box() {
+        items = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            items[i] = i;
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void fill() {
+        single = new SingleLinkedList<>();
+        dbl = new DoubleLinkedList<>();
+        baseline = new LinkedList<>();
+        for (Integer item : items) {
+            single.append(item);
+            dbl.append(item);
+            baseline.add(item);
+        }
+    }
+
+    @Benchmark
+    public int singleClear() {
+        single.clear();
+        return single.getCount();
+    }
+
+    @Benchmark
+    public int singleClearScrubbed() {
+        single.clear(true);
+        return single.getCount();
+    }
+
+    @Benchmark
+    public int doubleClear() {
+        dbl.clear();
+        return dbl.getCount();
+    }
+
+    @Benchmark
+    public int doubleClearScrubbed() {
+        dbl.clear(true);
+        return dbl.getCount();
+    }
+
+    @Benchmark
+    public int baselineClear() {
+        baseline.clear();
+        return baseline.size();
+    }
+}
@@ -0,0 +1,103 @@
+package com.tylerbartnick.benchmarks;
+
+import com.tylerbartnick.datastructures.ConcurrentQueue;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures ConcurrentQueue<T> against java.util.concurrent.ConcurrentLinkedQueue as the number of threads
+ * sharing one queue grows. Each invocation enqueues an item and then dequeues one, so every thread is both
+ * a producer and a consumer and the queue stays short, which is where contention on the head and tail is
+ * highest. Run with more threads than there are cores the results mostly measure scheduling, so compare
+ * counts up to the number of cores of the machine.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentQueueBenchmark {
+    private ConcurrentQueue<Long> queue;
+    private ConcurrentLinkedQueue<Long> baseline;
+
+    @Setup
+    public void setUp() {
+        queue = new ConcurrentQueue<>();
+        baseline = new ConcurrentLinkedQueue<>();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Long enqueueDequeue1() {
+        return enqueueDequeue();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public Long enqueueDequeue2() {
+        return enqueueDequeue();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Long enqueueDequeue4() {
+        return enqueueDequeue();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Long enqueueDequeue8() {
+        return enqueueDequeue();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Long baselineOfferPoll1() {
+        return offerPoll();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public Long baselineOfferPoll2() {
+        return offerPoll();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Long baselineOfferPoll4() {
+        return offerPoll();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Long baselineOfferPoll8() {
+        return offerPoll();
+    }
+
+    private Long enqueueDequeue() {
+        queue.enqueue(1L);
+        return queue.dequeue();
+    }
+
+    private Long offerPoll() {
+        baseline.offer(1L);
+        return baseline.poll();
+    }
+}
@@ -0,0 +1,91 @@
+package com.tylerbartnick.benchmarks;
+
+import com.tylerbartnick.datastructures.ConcurrentStack;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures ConcurrentStack<T>, with and without its elimination array, against
+ * java.util.concurrent.ConcurrentLinkedDeque used as a stack, from 1 to 64 threads sharing one stack.
+ * Each invocation pushes an item and then pops one, so every thread contends on the top on every call.
+ * Each nested class runs the same benchmarks at a different thread count, e.g. select a single count
+ * with `ConcurrentStackBenchmark.Threads16`.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public abstract class ConcurrentStackBenchmark {
+    /**
+     * Elimination slots for the eliminating stack, enough to spread 64 threads thinly.
+     */
+    private static final int ELIMINATION_SLOTS = 16;
+
+    private ConcurrentStack<Long> treiber;
+    private ConcurrentStack<Long> eliminating;
+    private ConcurrentLinkedDeque<Long> baseline;
+
+    @Setup
+    public void setUp() {
+        treiber = new ConcurrentStack<>();
+        eliminating = new ConcurrentStack<>(ELIMINATION_SLOTS);
+        baseline = new ConcurrentLinkedDeque<>();
+    }
+
+    @Benchmark
+    public Long treiberPushPop() {
+        treiber.push(1L);
+        return treiber.pop();
+    }
+
+    @Benchmark
+    public Long eliminatingPushPop() {
+        eliminating.push(1L);
+        return eliminating.pop();
+    }
+
+    @Benchmark
+    public Long baselinePushPop() {
+        baseline.push(1L);
+        return baseline.poll();
+    }
+
+    @Threads(1)
+    public static class Threads1 extends ConcurrentStackBenchmark { }
+
+    @Threads(2)
+    public static class Threads2 extends ConcurrentStackBenchmark { }
+
+    @Threads(4)
+    public static class Threads4 extends ConcurrentStackBenchmark { }
+
+    @Threads(8)
+    public static class Threads8 extends ConcurrentStackBenchmark { }
+
+    @Threads(16)
+    public static class Threads16 extends ConcurrentStackBenchmark { }
+
+    @Threads(32)
+    public static class Threads32 extends ConcurrentStackBenchmark { }
+
+    @Threads(64)
+    public static class Threads64 extends ConcurrentStackBenchmark { }
+}
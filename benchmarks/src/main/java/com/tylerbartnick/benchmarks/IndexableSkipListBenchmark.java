@@ -0,0 +1,141 @@
+package com.tylerbartnick.benchmarks;
+
+import com.tylerbartnick.datastructures.DoubleLinkedList;
+import com.tylerbartnick.datastructures.ILinkedList;
+import com.tylerbartnick.datastructures.IndexableSkipList;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures IndexableSkipList<T> against DoubleLinkedList<T>: a get and an insert/delete pair at the middle
+ * index and at a random index, a full scan, and building the list by appending.
+ * Run with `-prof gc` to compare the memory allocated per element while building.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IndexableSkipListBenchmark {
+    @Param({ "10000", "1000000" })
+    public int size;
+
+    private Integer[] items;
+    private IndexableSkipList<Integer> skip;
+    private DoubleLinkedList<Integer> dbl;
+    private SplittableRandom random;
+    private int middle;
+
+    @Setup
+    public void setUp() {
+        items = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            items[i] = i;
+        }
+        skip = fill(new IndexableSkipList<>());
+        dbl = fill(new DoubleLinkedList<>());
+        random = new SplittableRandom(17);
+        middle = size / 2;
+    }
+
+    @Benchmark
+    public Integer skipGetMiddle() {
+        return skip.get(middle);
+    }
+
+    @Benchmark
+    public Integer doubleGetMiddle() {
+        return dbl.get(middle);
+    }
+
+    @Benchmark
+    public Integer skipGetRandom() {
+        return skip.get(random.nextInt(size));
+    }
+
+    @Benchmark
+    public Integer doubleGetRandom() {
+        return dbl.get(random.nextInt(size));
+    }
+
+    @Benchmark
+    public int skipInsertThenDeleteAtMiddle() {
+        skip.insert(-1, middle);
+        skip.delete(middle);
+        return skip.getCount();
+    }
+
+    @Benchmark
+    public int doubleInsertThenDeleteAtMiddle() {
+        dbl.insert(-1, middle);
+        dbl.delete(middle);
+        return dbl.getCount();
+    }
+
+    @Benchmark
+    public int skipInsertThenDeleteAtRandom() {
+        int index = random.nextInt(size);
+        skip.insert(-1, index);
+        skip.delete(index);
+        return skip.getCount();
+    }
+
+    @Benchmark
+    public int doubleInsertThenDeleteAtRandom() {
+        int index = random.nextInt(size);
+        dbl.insert(-1, index);
+        dbl.delete(index);
+        return dbl.getCount();
+    }
+
+    @Benchmark
+    public void skipIterate(Blackhole bh) {
+        iterate(skip, bh);
+    }
+
+    @Benchmark
+    public void doubleIterate(Blackhole bh) {
+        iterate(dbl, bh);
+    }
+
+    @Benchmark
+    public IndexableSkipList<Integer> skipAppend() {
+        return fill(new IndexableSkipList<>());
+    }
+
+    @Benchmark
+    public DoubleLinkedList<Integer> doubleAppend() {
+        return fill(new DoubleLinkedList<>());
+    }
+
+    private <L extends ILinkedList<Integer>> L fill(L list) {
+        for (Integer item : items) {
+            list.append(item);
+        }
+        return list;
+    }
+
+    private static void iterate(Iterable<Integer> list, Blackhole bh) {
+        for (Integer value : list) {
+            bh.consume(value);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.tylerbartnick.benchmarks;
+
+import com.tylerbartnick.datastructures.DoubleLinkedList;
+import com.tylerbartnick.datastructures.SingleLinkedList;
+
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures SingleLinkedList<T> and DoubleLinkedList<T> against java.util.LinkedList at several sizes.
+ * Building measures append, and building then clearing isolates clear by difference. Insert, delete and
+ * get work on a pre-built list at the middle index, the worst case for traversal; each insert is paired
+ * with a delete so the list stays the same size across invocations.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LinkedListBenchmark {
+    @Param({ "100", "10000", "100000" })
+    public int size;
+
+    private SingleLinkedList<Integer> single;
+    private DoubleLinkedList<Integer> dbl;
+    private LinkedList<Integer> baseline;
+    private int middle;
+
+    @Setup
+    public void setUp() {
+        single = buildSingle(size);
+        dbl = buildDouble(size);
+        baseline = buildBaseline(size);
+        middle = size / 2;
+    }
+
+    @Benchmark
+    public SingleLinkedList<Integer> singleAppend() {
+        return buildSingle(size);
+    }
+
+    @Benchmark
+    public DoubleLinkedList<Integer> doubleAppend() {
+        return buildDouble(size);
+    }
+
+    @Benchmark
+    public LinkedList<Integer> baselineAppend() {
+        return buildBaseline(size);
+    }
+
+    @Benchmark
+    public int singleAppendThenClear() {
+        SingleLinkedList<Integer> list = buildSingle(size);
+        list.clear();
+        return list.getCount();
+    }
+
+    @Benchmark
+    public int doubleAppendThenClear() {
+        DoubleLinkedList<Integer> list = buildDouble(size);
+        list.clear();
+        return list.getCount();
+    }
+
+    @Benchmark
+    public int baselineAppendThenClear() {
+        LinkedList<Integer> list = buildBaseline(size);
+        list.clear();
+        return list.size();
+    }
+
+    @Benchmark
+    public int singleInsertThenDeleteAtMiddle() {
+        single.insert(-1, middle);
+        single.delete(middle);
+        return single.getCount();
+    }
+
+    @Benchmark
+    public int doubleInsertThenDeleteAtMiddle() {
+        dbl.insert(-1, middle);
+        dbl.delete(middle);
+        return dbl.getCount();
+    }
+
+    @Benchmark
+    public int baselineInsertThenDeleteAtMiddle() {
+        baseline.add(middle, -1);
+        baseline.remove(middle);
+        return baseline.size();
+    }
+
+    @Benchmark
+    public Integer singleGetMiddle() {
+        return single.get(middle);
+    }
+
+    @Benchmark
+    public Integer doubleGetMiddle() {
+        return dbl.get(middle);
+    }
+
+    @Benchmark
+    public Integer baselineGetMiddle() {
+        return baseline.get(middle);
+    }
+
+    @Benchmark
+    public void singleIterate(Blackhole bh) {
+        for (Integer value : single) {
+            bh.consume(value);
+        }
+    }
+
+    @Benchmark
+    public void doubleIterate(Blackhole bh) {
+        for (Integer value : dbl) {
+            bh.consume(value);
+        }
+    }
+
+    @Benchmark
+    public void baselineIterate(Blackhole bh) {
+        for (Integer value : baseline) {
+            bh.consume(value);
+        }
+    }
+
+    private static SingleLinkedList<Integer> buildSingle(int size) {
+        SingleLinkedList<Integer> list = new SingleLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.append(i);
+        }
+        return list;
+    }
+
+    private static DoubleLinkedList<Integer> buildDouble(int size) {
+        DoubleLinkedList<Integer> list = new DoubleLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.append(i);
+        }
+        return list;
+    }
+
+    private static LinkedList<Integer> buildBaseline(int size) {
+        LinkedList<Integer> list = new LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
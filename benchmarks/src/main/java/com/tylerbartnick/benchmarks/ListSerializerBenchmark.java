@@ -0,0 +1,97 @@
+package com.tylerbartnick.benchmarks;
+
+import com.tylerbartnick.datastructures.ElementCodecs;
+import com.tylerbartnick.datastructures.ListSerializer;
+import com.tylerbartnick.datastructures.SingleLinkedList;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.channels.Channels;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures ListSerializer<T> writing a SingleLinkedList<Long> to, and loading one from, an in-memory channel
+ * against Java serialization of a java.util.LinkedList holding the same elements.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListSerializerBenchmark {
+    @Param({ "10000", "1000000" })
+    public int size;
+
+    private ListSerializer<Long> serializer;
+    private SingleLinkedList<Long> list;
+    private LinkedList<Long> baseline;
+    private byte[] serialized;
+    private byte[] javaSerialized;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setUp() throws IOException {
+        serializer = new ListSerializer<>(ElementCodecs.LONG);
+        list = new SingleLinkedList<>();
+        baseline = new LinkedList<>();
+        for (long i = 0; i < size; i++) {
+            list.append(i);
+            baseline.add(i);
+        }
+        out = new ByteArrayOutputStream(16 * size + 1024);
+        serializer.write(list, Channels.newChannel(out));
+        serialized = out.toByteArray();
+        out.reset();
+        try (ObjectOutputStream objects = new ObjectOutputStream(out)) {
+            objects.writeObject(baseline);
+        }
+        javaSerialized = out.toByteArray();
+    }
+
+    @Benchmark
+    public long serializerWrite() throws IOException {
+        out.reset();
+        return serializer.write(list, Channels.newChannel(out));
+    }
+
+    @Benchmark
+    public SingleLinkedList<Long> serializerRead() throws IOException {
+        return serializer.read(Channels.newChannel(new ByteArrayInputStream(serialized)), new SingleLinkedList<>());
+    }
+
+    @Benchmark
+    public int javaWrite() throws IOException {
+        out.reset();
+        try (ObjectOutputStream objects = new ObjectOutputStream(out)) {
+            objects.writeObject(baseline);
+        }
+        return out.size();
+    }
+
+    @Benchmark
+    public Object javaRead() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream objects = new ObjectInputStream(new ByteArrayInputStream(javaSerialized))) {
+            return objects.readObject();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.tylerbartnick.benchmarks;
+
+import com.tylerbartnick.datastructures.ElementCodecs;
+import com.tylerbartnick.datastructures.MappedFileQueue;
+import com.tylerbartnick.datastructures.Queue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures MappedFileQueue<T> against the in-memory Queue<T>: each invocation enqueues `size` Longs or
+ * Strings onto a queue that is reused between invocations and then drains it, rolling over and deleting
+ * 4 MiB segments as it goes. Run with `-prof gc` to compare the heap allocated per element.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MappedFileQueueBenchmark {
+    @Param({ "10000", "1000000" })
+    public int size;
+
+    private Path directory;
+    private MappedFileQueue<Long> mappedLongs;
+    private MappedFileQueue<String> mappedStrings;
+    private Queue<Long> linked;
+    private String[] strings;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("mapped-queue-benchmark");
+        mappedLongs = new MappedFileQueue<>(directory.resolve("longs"), ElementCodecs.LONG, 4 << 20);
+        mappedStrings = new MappedFileQueue<>(directory.resolve("strings"), ElementCodecs.STRING, 4 << 20);
+        linked = new Queue<>();
+        strings = new String[1024];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = "sample-" + i;
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        mappedLongs.close();
+        mappedStrings.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long mappedEnqueueDequeue() {
+        for (long i = 0; i < size; i++) {
+            mappedLongs.enqueue(i);
+        }
+        long sum = 0;
+        while (!mappedLongs.empty()) {
+            sum += mappedLongs.dequeue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long mappedStringEnqueueDequeue() {
+        for (int i = 0; i < size; i++) {
+            mappedStrings.enqueue(strings[i & 1023]);
+        }
+        long length = 0;
+        while (!mappedStrings.empty()) {
+            length += mappedStrings.dequeue().length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public long linkedEnqueueDequeue() {
+        for (long i = 0; i < size; i++) {
+            linked.enqueue(i);
+        }
+        long sum = 0;
+        while (!linked.empty()) {
+            sum += linked.dequeue();
+        }
+        return sum;
+    }
+}
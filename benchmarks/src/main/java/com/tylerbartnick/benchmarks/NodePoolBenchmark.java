@@ -0,0 +1,99 @@
+package com.tylerbartnick.benchmarks;
+
+import com.tylerbartnick.datastructures.NodePool;
+import com.tylerbartnick.datastructures.Queue;
+import com.tylerbartnick.datastructures.Stack;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures Queue<T> and Stack<T> under churn with and without a NodePool. Each invocation fills the
+ * structure to `depth` and empties it again, so with a pool large enough for the depth every Node is
+ * recycled. The data is pre-boxed so the only allocation left is the Nodes; run with `-prof gc` and compare
+ * gc.alloc.rate.norm to see the allocation the pool removes.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NodePoolBenchmark {
+    @Param({ "16", "1024" })
+    public int depth;
+
+    private Queue<Long> queue;
+    private Queue<Long> pooledQueue;
+    private Stack<Long> stack;
+    private Stack<Long> pooledStack;
+    private Long[] items;
+
+    @Setup
+    public void setUp() {
+        queue = new Queue<>();
+        pooledQueue = new Queue<>(new NodePool<>(depth));
+        stack = new Stack<>();
+        pooledStack = new Stack<>(new NodePool<>(depth));
+        items = new Long[depth];
+        for (int i = 0; i < depth; i++) {
+            items[i] = (long) i;
+        }
+    }
+
+    @Benchmark
+    public long queueChurn() {
+        return churn(queue);
+    }
+
+    @Benchmark
+    public long pooledQueueChurn() {
+        return churn(pooledQueue);
+    }
+
+    @Benchmark
+    public long stackChurn() {
+        return churn(stack);
+    }
+
+    @Benchmark
+    public long pooledStackChurn() {
+        return churn(pooledStack);
+    }
+
+    private long churn(Queue<Long> target) {
+        for (Long item : items) {
+            target.enqueue(item);
+        }
+        long sum = 0;
+        while (!target.empty()) {
+            sum += target.dequeue();
+        }
+        return sum;
+    }
+
+    private long churn(Stack<Long> target) {
+        for (Long item : items) {
+            target.push(item);
+        }
+        long sum = 0;
+        while (!target.empty()) {
+            sum += target.pop();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,146 @@
+package com.tylerbartnick.benchmarks;
+
+import com.tylerbartnick.datastructures.LongStack;
+import com.tylerbartnick.datastructures.OffHeapDoubleQueue;
+import com.tylerbartnick.datastructures.OffHeapLongQueue;
+import com.tylerbartnick.datastructures.OffHeapLongStack;
+import com.tylerbartnick.datastructures.Queue;
+import com.tylerbartnick.datastructures.Stack;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the off-heap queues and stack against the boxed Queue<T> and Stack<T>, java.util.ArrayDeque and
+ * the on-heap LongStack. Each invocation fills a structure that is reused between invocations with `size`
+ * values and then drains it, crossing many chunk boundaries. Run with `-prof gc` to see that the off-heap
+ * structures allocate nothing on the heap.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OffHeapBenchmark {
+    @Param({ "10000", "1000000" })
+    public int size;
+
+    private OffHeapLongQueue offHeapQueue;
+    private OffHeapDoubleQueue offHeapDoubleQueue;
+    private OffHeapLongStack offHeapStack;
+    private Queue<Long> linkedQueue;
+    private Stack<Long> linkedStack;
+    private LongStack primitiveStack;
+    private ArrayDeque<Long> baseline;
+
+    @Setup
+    public void setUp() {
+        offHeapQueue = new OffHeapLongQueue();
+        offHeapDoubleQueue = new OffHeapDoubleQueue();
+        offHeapStack = new OffHeapLongStack();
+        linkedQueue = new Queue<>();
+        linkedStack = new Stack<>();
+        primitiveStack = new LongStack();
+        baseline = new ArrayDeque<>();
+    }
+
+    @Benchmark
+    public long offHeapEnqueueDequeue() {
+        for (long i = 0; i < size; i++) {
+            offHeapQueue.enqueue(i);
+        }
+        long sum = 0;
+        while (!offHeapQueue.empty()) {
+            sum += offHeapQueue.dequeue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double offHeapDoubleEnqueueDequeue() {
+        for (int i = 0; i < size; i++) {
+            offHeapDoubleQueue.enqueue(i * 0.5d);
+        }
+        double sum = 0;
+        while (!offHeapDoubleQueue.empty()) {
+            sum += offHeapDoubleQueue.dequeue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long linkedEnqueueDequeue() {
+        for (long i = 0; i < size; i++) {
+            linkedQueue.enqueue(i);
+        }
+        long sum = 0;
+        while (!linkedQueue.empty()) {
+            sum += linkedQueue.dequeue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long baselineEnqueueDequeue() {
+        for (long i = 0; i < size; i++) {
+            baseline.addLast(i);
+        }
+        long sum = 0;
+        while (!baseline.isEmpty()) {
+            sum += baseline.pollFirst();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long offHeapPushPop() {
+        for (long i = 0; i < size; i++) {
+            offHeapStack.push(i);
+        }
+        long sum = 0;
+        while (!offHeapStack.empty()) {
+            sum += offHeapStack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long linkedPushPop() {
+        for (long i = 0; i < size; i++) {
+            linkedStack.push(i);
+        }
+        long sum = 0;
+        while (!linkedStack.empty()) {
+            sum += linkedStack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long primitivePushPop() {
+        for (long i = 0; i < size; i++) {
+            primitiveStack.push(i);
+        }
+        long sum = 0;
+        while (!primitiveStack.empty()) {
+            sum += primitiveStack.pop();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,135 @@
+package com.tylerbartnick.benchmarks;
+
+import com.tylerbartnick.datastructures.PersistentStack;
+import com.tylerbartnick.datastructures.Stack;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures PersistentStack<T> against Stack<T> for speculative evaluation: snapshot a stack `depth` deep,
+ * push and pop a few items ahead of it, then roll back to the snapshot. Stack<T> has to be copied by popping
+ * everything off and pushing it back, while the persistent stack's snapshot is just a reference. Plain
+ * push/pop throughput is measured too. Run with `-prof gc` to compare the memory allocated.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersistentStackBenchmark {
+    /**
+     * The number of items pushed ahead of each snapshot before rolling back.
+     */
+    private static final int SPECULATION = 16;
+
+    @Param({ "100", "10000" })
+    public int depth;
+
+    private Stack<Long> linked;
+    private PersistentStack<Long> persistent;
+
+    @Setup
+    public void setUp() {
+        linked = new Stack<>();
+        persistent = PersistentStack.emptyStack();
+        for (long i = 0; i < depth; i++) {
+            linked.push(i);
+            persistent = persistent.push(i);
+        }
+    }
+
+    @Benchmark
+    public long linkedSnapshotAndRollBack() {
+        Stack<Long> snapshot = copy(linked);
+        long sum = speculate(linked);
+        linked = snapshot;
+        return sum;
+    }
+
+    @Benchmark
+    public long persistentSnapshotAndRollBack() {
+        PersistentStack<Long> stack = persistent;
+        for (long i = 0; i < SPECULATION; i++) {
+            stack = stack.push(i);
+        }
+        long sum = 0;
+        for (int i = 0; i < SPECULATION / 2; i++) {
+            sum += stack.peek();
+            stack = stack.pop();
+        }
+        // rolling back is dropping the speculative version
+        return sum + stack.count();
+    }
+
+    @Benchmark
+    public long linkedPushPop() {
+        for (long i = 0; i < SPECULATION; i++) {
+            linked.push(i);
+        }
+        long sum = 0;
+        for (int i = 0; i < SPECULATION; i++) {
+            sum += linked.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long persistentPushPop() {
+        PersistentStack<Long> stack = persistent;
+        for (long i = 0; i < SPECULATION; i++) {
+            stack = stack.push(i);
+        }
+        long sum = 0;
+        for (int i = 0; i < SPECULATION; i++) {
+            sum += stack.peek();
+            stack = stack.pop();
+        }
+        return sum;
+    }
+
+    private static long speculate(Stack<Long> stack) {
+        for (long i = 0; i < SPECULATION; i++) {
+            stack.push(i);
+        }
+        long sum = 0;
+        for (int i = 0; i < SPECULATION / 2; i++) {
+            sum += stack.pop();
+        }
+        return sum + stack.count();
+    }
+
+    /**
+     * Copies a Stack the only way its interface allows, popping everything off and pushing it back.
+     * @param stack The Stack to copy, left as it was
+     * @return The copy
+     */
+    private static Stack<Long> copy(Stack<Long> stack) {
+        Stack<Long> reversed = new Stack<>();
+        while (!stack.empty()) {
+            reversed.push(stack.pop());
+        }
+        Stack<Long> copy = new Stack<>();
+        while (!reversed.empty()) {
+            Long value = reversed.pop();
+            stack.push(value);
+            copy.push(value);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,131 @@
+package com.tylerbartnick.benchmarks;
+
+import com.tylerbartnick.datastructures.ArrayQueue;
+import com.tylerbartnick.datastructures.IQueue;
+import com.tylerbartnick.datastructures.Queue;
+
+import java.util.ArrayDeque;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures Queue<T> and ArrayQueue<T> against java.util.ArrayDeque and java.util.LinkedList at several
+ * sizes. Each invocation enqueues `size` items onto a queue that is reused between invocations and then
+ * dequeues or clears them all, so steady-state allocation is visible with the GC profiler.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QueueBenchmark {
+    @Param({ "100", "10000", "1000000" })
+    public int size;
+
+    private Queue<Long> linked;
+    private ArrayQueue<Long> array;
+    private ArrayDeque<Long> arrayBaseline;
+    private LinkedList<Long> linkedBaseline;
+
+    @Setup
+    public void setUp() {
+        linked = new Queue<>();
+        array = new ArrayQueue<>();
+        arrayBaseline = new ArrayDeque<>();
+        linkedBaseline = new LinkedList<>();
+    }
+
+    @Benchmark
+    public long linkedEnqueueDequeue() {
+        return enqueueDequeue(linked, size);
+    }
+
+    @Benchmark
+    public long arrayEnqueueDequeue() {
+        return enqueueDequeue(array, size);
+    }
+
+    @Benchmark
+    public long arrayBaselineOfferPoll() {
+        return offerPoll(arrayBaseline, size);
+    }
+
+    @Benchmark
+    public long linkedBaselineOfferPoll() {
+        return offerPoll(linkedBaseline, size);
+    }
+
+    @Benchmark
+    public int linkedEnqueueClear() {
+        return enqueueClear(linked, size);
+    }
+
+    @Benchmark
+    public int arrayEnqueueClear() {
+        return enqueueClear(array, size);
+    }
+
+    @Benchmark
+    public int arrayBaselineOfferClear() {
+        for (long i = 0; i < size; i++) {
+            arrayBaseline.offer(i);
+        }
+        arrayBaseline.clear();
+        return arrayBaseline.size();
+    }
+
+    @Benchmark
+    public int linkedBaselineOfferClear() {
+        for (long i = 0; i < size; i++) {
+            linkedBaseline.offer(i);
+        }
+        linkedBaseline.clear();
+        return linkedBaseline.size();
+    }
+
+    private static long enqueueDequeue(IQueue<Long> queue, int size) {
+        for (long i = 0; i < size; i++) {
+            queue.enqueue(i);
+        }
+        long sum = 0;
+        while (!queue.empty()) {
+            sum += queue.dequeue();
+        }
+        return sum;
+    }
+
+    private static int enqueueClear(IQueue<Long> queue, int size) {
+        for (long i = 0; i < size; i++) {
+            queue.enqueue(i);
+        }
+        queue.clear();
+        return queue.count();
+    }
+
+    private static long offerPoll(java.util.Queue<Long> queue, int size) {
+        for (long i = 0; i < size; i++) {
+            queue.offer(i);
+        }
+        long sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.poll();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,95 @@
+package com.tylerbartnick.benchmarks;
+
+import com.tylerbartnick.programs.CompiledExpression;
+import com.tylerbartnick.programs.RpnBatchEvaluator;
+import com.tylerbartnick.programs.RpnEvaluator;
+import com.tylerbartnick.programs.RpnProgram;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the Reverse Polish Notation engine at several expression lengths: parsing and evaluating the
+ * CLI's tokens as ReversePolishNotation does, evaluating a compiled expression, and evaluating a compiled
+ * expression over a column of 1024 rows.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RpnBenchmark {
+    /**
+     * The number of operators in the expression.
+     */
+    @Param({ "1", "10", "100" })
+    public int operators;
+
+    private String[] tokens;
+    private CompiledExpression compiled;
+    private RpnEvaluator evaluator;
+    private RpnBatchEvaluator batch;
+    private double[] bindings;
+    private double[][] columns;
+    private double[] result;
+
+    @Setup
+    public void setUp() {
+        // a left-fold chain in the CLI's "operand operand operator" shape, alternating a constant and x
+        String[] ops = { "+", "-", "*", "/" };
+        StringBuilder expression = new StringBuilder("1");
+        for (int i = 0; i < operators; i++) {
+            expression.append(i % 2 == 0 ? " 3 " : " x ").append(ops[i % ops.length]);
+        }
+
+        tokens = expression.toString().replace("x", "2").split(" ");
+        compiled = CompiledExpression.compile(expression.toString(), "x");
+        evaluator = new RpnEvaluator();
+        batch = new RpnBatchEvaluator(compiled);
+        bindings = new double[] { 2.0d };
+
+        Random random = new Random(42);
+        columns = new double[1][1024];
+        for (int i = 0; i < columns[0].length; i++) {
+            columns[0][i] = random.nextDouble();
+        }
+        result = new double[columns[0].length];
+    }
+
+    @Benchmark
+    public double parseAndEvaluate() {
+        return RpnProgram.parse(tokens).evaluate();
+    }
+
+    @Benchmark
+    public double evaluateCompiled() {
+        return compiled.evaluate(bindings);
+    }
+
+    @Benchmark
+    public double evaluateCompiledShared() {
+        return evaluator.evaluate(compiled, bindings);
+    }
+
+    @Benchmark
+    public double[] evaluateColumnOf1024() {
+        batch.evaluate(columns, result);
+        return result;
+    }
+}
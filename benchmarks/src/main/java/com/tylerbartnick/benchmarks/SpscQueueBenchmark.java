@@ -0,0 +1,161 @@
+package com.tylerbartnick.benchmarks;
+
+import com.tylerbartnick.datastructures.BoundedBlockingQueue;
+import com.tylerbartnick.datastructures.SpscQueue;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures handing items from one producer thread to one consumer thread through SpscQueue<T>, one at a time
+ * and in batches, against BoundedBlockingQueue<T> and java.util.concurrent.ArrayBlockingQueue. No operation waits,
+ * so an invocation may move nothing when the queue is full or empty; compare the `produced` and `consumed`
+ * counters, which count items, rather than the invocation scores.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class SpscQueueBenchmark {
+    private static final int CAPACITY = 64 * 1024;
+    private static final int BATCH_SIZE = 256;
+    private static final Long ITEM = 1L;
+
+    private SpscQueue<Long> spsc;
+    private BoundedBlockingQueue<Long> blocking;
+    private ArrayBlockingQueue<Long> baseline;
+    private Long[] source;
+
+    @Setup
+    public void setUp() {
+        spsc = new SpscQueue<>(CAPACITY);
+        blocking = new BoundedBlockingQueue<>(CAPACITY);
+        baseline = new ArrayBlockingQueue<>(CAPACITY);
+        source = new Long[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            source[i] = ITEM;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Target {
+        final Long[] batch = new Long[BATCH_SIZE];
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Items {
+        public long produced;
+        public long consumed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            produced = 0;
+            consumed = 0;
+        }
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public void spscProduce(Items counters) {
+        if (spsc.tryEnqueue(ITEM)) {
+            counters.produced++;
+        } else {
+            Thread.yield();
+        }
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public void spscConsume(Items counters) {
+        if (spsc.dequeue() != null) {
+            counters.consumed++;
+        } else {
+            Thread.yield();
+        }
+    }
+
+    @Benchmark
+    @Group("spscBatched")
+    @GroupThreads(1)
+    public void spscBatchedProduce(Items counters) {
+        int added = spsc.enqueueBatch(source, 0, BATCH_SIZE);
+        if (added == 0) { Thread.yield(); }
+        counters.produced += added;
+    }
+
+    @Benchmark
+    @Group("spscBatched")
+    @GroupThreads(1)
+    public void spscBatchedConsume(Items counters, Target target) {
+        int taken = spsc.dequeueBatch(target.batch, 0, BATCH_SIZE);
+        if (taken == 0) { Thread.yield(); }
+        counters.consumed += taken;
+    }
+
+    @Benchmark
+    @Group("blocking")
+    @GroupThreads(1)
+    public void blockingProduce(Items counters) {
+        if (blocking.tryEnqueue(ITEM)) {
+            counters.produced++;
+        } else {
+            Thread.yield();
+        }
+    }
+
+    @Benchmark
+    @Group("blocking")
+    @GroupThreads(1)
+    public void blockingConsume(Items counters) {
+        if (blocking.tryDequeue() != null) {
+            counters.consumed++;
+        } else {
+            Thread.yield();
+        }
+    }
+
+    @Benchmark
+    @Group("baseline")
+    @GroupThreads(1)
+    public void baselineProduce(Items counters) {
+        if (baseline.offer(ITEM)) {
+            counters.produced++;
+        } else {
+            Thread.yield();
+        }
+    }
+
+    @Benchmark
+    @Group("baseline")
+    @GroupThreads(1)
+    public void baselineConsume(Items counters) {
+        if (baseline.poll() != null) {
+            counters.consumed++;
+        } else {
+            Thread.yield();
+        }
+    }
+}
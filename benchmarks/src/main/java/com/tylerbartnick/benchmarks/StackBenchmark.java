@@ -0,0 +1,125 @@
+package com.tylerbartnick.benchmarks;
+
+import com.tylerbartnick.datastructures.ArrayStack;
+import com.tylerbartnick.datastructures.IStack;
+import com.tylerbartnick.datastructures.LongStack;
+import com.tylerbartnick.datastructures.Stack;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures Stack<T>, ArrayStack<T> and LongStack against java.util.ArrayDeque at several sizes. Each
+ * invocation pushes `size` items onto a stack that is reused between invocations and then pops or clears
+ * them all, so steady-state allocation is visible with the GC profiler.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StackBenchmark {
+    @Param({ "100", "10000", "1000000" })
+    public int size;
+
+    private Stack<Long> linked;
+    private ArrayStack<Long> array;
+    private LongStack primitive;
+    private ArrayDeque<Long> baseline;
+
+    @Setup
+    public void setUp() {
+        linked = new Stack<>();
+        array = new ArrayStack<>();
+        primitive = new LongStack();
+        baseline = new ArrayDeque<>();
+    }
+
+    @Benchmark
+    public long linkedPushPop() {
+        return pushPop(linked, size);
+    }
+
+    @Benchmark
+    public long arrayPushPop() {
+        return pushPop(array, size);
+    }
+
+    @Benchmark
+    public long primitivePushPop() {
+        for (long i = 0; i < size; i++) {
+            primitive.push(i);
+        }
+        long sum = 0;
+        while (!primitive.empty()) {
+            sum += primitive.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long baselinePushPop() {
+        for (long i = 0; i < size; i++) {
+            baseline.push(i);
+        }
+        long sum = 0;
+        while (!baseline.isEmpty()) {
+            sum += baseline.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int linkedPushClear() {
+        return pushClear(linked, size);
+    }
+
+    @Benchmark
+    public int arrayPushClear() {
+        return pushClear(array, size);
+    }
+
+    @Benchmark
+    public int baselinePushClear() {
+        for (long i = 0; i < size; i++) {
+            baseline.push(i);
+        }
+        baseline.clear();
+        return baseline.size();
+    }
+
+    private static long pushPop(IStack<Long> stack, int size) {
+        for (long i = 0; i < size; i++) {
+            stack.push(i);
+        }
+        long sum = 0;
+        while (!stack.empty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    private static int pushClear(IStack<Long> stack, int size) {
+        for (long i = 0; i < size; i++) {
+            stack.push(i);
+        }
+        stack.clear();
+        return stack.count();
+    }
+}
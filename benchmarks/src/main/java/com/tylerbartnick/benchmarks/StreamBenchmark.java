@@ -0,0 +1,79 @@
+package com.tylerbartnick.benchmarks;
+
+import com.tylerbartnick.datastructures.DoubleLinkedList;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures streams over a DoubleLinkedList<T> of `size` elements: a sum by a plain loop against sequential
+ * and parallel streams, and toArray() through the list's sized spliterator against the unsized one that
+ * Iterable<T> gives by default, which cannot allocate the array up front. The parallel results depend on
+ * the number of cores available to the fork/join common pool.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StreamBenchmark {
+    @Param({ "1000", "1000000" })
+    public int size;
+
+    private DoubleLinkedList<Long> list;
+
+    @Setup
+    public void setUp() {
+        list = new DoubleLinkedList<>();
+        for (long i = 0; i < size; i++) {
+            list.append(i);
+        }
+    }
+
+    @Benchmark
+    public long loopSum() {
+        long sum = 0;
+        for (Long value : list) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long streamSum() {
+        return list.stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallelStreamSum() {
+        return list.parallelStream().mapToLong(Long::longValue).sum();
+    }
+
+    @Benchmark
+    public Object[] sizedToArray() {
+        return list.stream().toArray();
+    }
+
+    @Benchmark
+    public Object[] unsizedToArray() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(list.iterator(), Spliterator.ORDERED), false).toArray();
+    }
+}
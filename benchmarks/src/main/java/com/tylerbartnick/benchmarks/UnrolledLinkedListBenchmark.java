@@ -0,0 +1,154 @@
+package com.tylerbartnick.benchmarks;
+
+import com.tylerbartnick.datastructures.DoubleLinkedList;
+import com.tylerbartnick.datastructures.ILinkedList;
+import com.tylerbartnick.datastructures.UnrolledLinkedList;
+
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures UnrolledLinkedList<T> at two block capacities against DoubleLinkedList<T> and java.util.LinkedList:
+ * a full scan, a get and an insert/delete pair at the middle index, and building the list by appending.
+ * Run with `-prof gc` to compare the memory allocated per element while building.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UnrolledLinkedListBenchmark {
+    @Param({ "10000", "1000000" })
+    public int size;
+
+    private Integer[] items;
+    private UnrolledLinkedList<Integer> unrolled32;
+    private UnrolledLinkedList<Integer> unrolled64;
+    private DoubleLinkedList<Integer> dbl;
+    private LinkedList<Integer> baseline;
+    private int middle;
+
+    @Setup
+    public void setUp() {
+        items = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            items[i] = i;
+        }
+        unrolled32 = fill(new UnrolledLinkedList<>(32));
+        unrolled64 = fill(new UnrolledLinkedList<>(64));
+        dbl = fill(new DoubleLinkedList<>());
+        baseline = new LinkedList<>();
+        for (Integer item : items) {
+            baseline.add(item);
+        }
+        middle = size / 2;
+    }
+
+    @Benchmark
+    public void unrolled32Iterate(Blackhole bh) {
+        iterate(unrolled32, bh);
+    }
+
+    @Benchmark
+    public void unrolled64Iterate(Blackhole bh) {
+        iterate(unrolled64, bh);
+    }
+
+    @Benchmark
+    public void doubleIterate(Blackhole bh) {
+        iterate(dbl, bh);
+    }
+
+    @Benchmark
+    public void baselineIterate(Blackhole bh) {
+        iterate(baseline, bh);
+    }
+
+    @Benchmark
+    public Integer unrolled32GetMiddle() {
+        return unrolled32.get(middle);
+    }
+
+    @Benchmark
+    public Integer unrolled64GetMiddle() {
+        return unrolled64.get(middle);
+    }
+
+    @Benchmark
+    public Integer doubleGetMiddle() {
+        return dbl.get(middle);
+    }
+
+    @Benchmark
+    public Integer baselineGetMiddle() {
+        return baseline.get(middle);
+    }
+
+    @Benchmark
+    public int unrolled32InsertThenDeleteAtMiddle() {
+        unrolled32.insert(-1, middle);
+        unrolled32.delete(middle);
+        return unrolled32.getCount();
+    }
+
+    @Benchmark
+    public int unrolled64InsertThenDeleteAtMiddle() {
+        unrolled64.insert(-1, middle);
+        unrolled64.delete(middle);
+        return unrolled64.getCount();
+    }
+
+    @Benchmark
+    public int doubleInsertThenDeleteAtMiddle() {
+        dbl.insert(-1, middle);
+        dbl.delete(middle);
+        return dbl.getCount();
+    }
+
+    @Benchmark
+    public int baselineInsertThenDeleteAtMiddle() {
+        baseline.add(middle, -1);
+        baseline.remove(middle);
+        return baseline.size();
+    }
+
+    @Benchmark
+    public UnrolledLinkedList<Integer> unrolled32Append() {
+        return fill(new UnrolledLinkedList<>(32));
+    }
+
+    @Benchmark
+    public DoubleLinkedList<Integer> doubleAppend() {
+        return fill(new DoubleLinkedList<>());
+    }
+
+    private <L extends ILinkedList<Integer>> L fill(L list) {
+        for (Integer item : items) {
+            list.append(item);
+        }
+        return list;
+    }
+
+    private static void iterate(Iterable<Integer> list, Blackhole bh) {
+        for (Integer value : list) {
+            bh.consume(value);
+        }
+    }
+}
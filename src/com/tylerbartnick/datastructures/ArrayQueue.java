@@ -0,0 +1,235 @@
+package com.tylerbartnick.datastructures;
+
+import java.lang.IllegalArgumentException;
+import java.lang.IllegalStateException;
+import java.lang.IndexOutOfBoundsException;
+import java.lang.NullPointerException;
+import java.util.Arrays;
+
+/**
+ * Implementation of a Queue using a circular array. The capacity is always a power of two
+ * so that wrapping around the end of the array is a single bitwise AND rather than a
+ * modulo. Once the array has grown large enough for the workload, enqueueing and
+ * dequeueing allocate nothing at all.
+ *
+ * The queue may optionally be created with a fixed capacity, in which case it will never
+ * grow and attempting to enqueue into a full queue fails instead.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class ArrayQueue<T> implements IQueue<T> {
+    /**
+     * The capacity used by the default constructor.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The largest power of two that can back an array.
+     */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /**
+     * The circular buffer holding the elements. Its length is always a power of two.
+     */
+    private Object[] elements;
+
+    /**
+     * Always elements.length - 1, used to wrap indexes around the end of the buffer.
+     */
+    private int mask;
+
+    /**
+     * The index of the element at the head of the queue.
+     */
+    private int head;
+
+    /**
+     * The current number of elements in the queue.
+     */
+    private int count;
+
+    /**
+     * Whether the buffer is allowed to grow once full.
+     */
+    private final boolean fixedCapacity;
+
+    /**
+     * Default constructor, creates an empty, growable queue.
+     */
+    public ArrayQueue() {
+        this(DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * Creates an empty, growable queue able to hold at least the given number of elements
+     * before it needs to grow.
+     * @param initialCapacity The minimum initial capacity, rounded up to a power of two
+     * @throws IllegalArgumentException Thrown if the initial capacity is out of range
+     */
+    public ArrayQueue(int initialCapacity) throws IllegalArgumentException {
+        this(initialCapacity, false);
+    }
+
+    /**
+     * Creates an empty queue able to hold at least the given number of elements.
+     * @param capacity The minimum capacity, rounded up to a power of two
+     * @param fixedCapacity true to never grow past the initial capacity, false otherwise
+     * @throws IllegalArgumentException Thrown if the capacity is out of range
+     */
+    public ArrayQueue(int capacity, boolean fixedCapacity) throws IllegalArgumentException {
+        if (capacity < 1 || capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException(String.format("Capacity %d is out of range.", capacity));
+        }
+
+        this.elements = new Object[roundUpToPowerOfTwo(capacity)];
+        this.mask = elements.length - 1;
+        this.head = 0;
+        this.count = 0;
+        this.fixedCapacity = fixedCapacity;
+    }
+
+    /**
+     * Add the data supplied to the end of the queue. A constant time operation, amortized
+     * over any growth of the buffer.
+     * @param data The data to add
+     * @return The data added
+     * @throws IllegalArgumentException Thrown if the data is null
+     * @throws IllegalStateException Thrown if the queue is fixed capacity and full
+     */
+    public T enqueue(T data) throws IllegalArgumentException, IllegalStateException {
+        if (!tryEnqueue(data)) {
+            throw new IllegalStateException("Queue is full.");
+        }
+        return data;
+    }
+
+    /**
+     * Attempts to add the data supplied to the end of the queue. Only a fixed capacity
+     * queue can refuse the data.
+     * @param data The data to add
+     * @return true if the data was added, false if the queue is full
+     * @throws IllegalArgumentException Thrown if the data is null
+     */
+    public boolean tryEnqueue(T data) throws IllegalArgumentException {
+        if (data == null) {
+            throw new IllegalArgumentException("Argument `data` cannot be null.", new NullPointerException());
+        }
+
+        if (count == elements.length) {
+            if (fixedCapacity || elements.length == MAXIMUM_CAPACITY) { return false; }
+            grow();
+        }
+
+        elements[(head + count) & mask] = data;
+        count++;
+        return true;
+    }
+
+    /**
+     * Remove and return the data at the head of the queue. A constant time operation.
+     * @return The data at the head of the queue
+     * @throws IllegalArgumentException Thrown if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T dequeue() throws IllegalArgumentException {
+        if (count == 0) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+
+        T temp = (T) elements[head];
+        // release the slot so the element can be collected
+        elements[head] = null;
+        head = (head + 1) & mask;
+        count--;
+        return temp;
+    }
+
+    /**
+     * Gets the number of elements in the queue. A constant time operation.
+     * @return The number of elements in the queue.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Gets the number of elements the queue can hold before it must grow.
+     * @return The length of the backing buffer.
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Determines if the queue is empty. True if so, false otherwise.
+     * @return true if empty, false otherwise
+     */
+    public boolean empty() {
+        return count == 0;
+    }
+
+    /**
+     * Clears all elements in the queue. The buffer is kept at its current capacity.
+     */
+    public void clear() {
+        if (count == 0) { return; }
+        int tail = (head + count) & mask;
+        if (head < tail) {
+            Arrays.fill(elements, head, tail, null);
+        } else {
+            Arrays.fill(elements, head, elements.length, null);
+            Arrays.fill(elements, 0, tail, null);
+        }
+        head = 0;
+        count = 0;
+    }
+
+    /**
+     * Gets and returns the data at the head of the queue, but does not remove it from the queue.
+     * @return The data at the head of the queue
+     * @throws IllegalArgumentException Thrown if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peekHead() throws IllegalArgumentException {
+        if (count == 0) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+        return (T) elements[head];
+    }
+
+    /**
+     * Gets and returns the data at the tail of the queue, but does not remove it from the queue.
+     * @return The data at the tail of the queue
+     * @throws IllegalArgumentException Thrown if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peekTail() throws IllegalArgumentException {
+        if (count == 0) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+        return (T) elements[(head + count - 1) & mask];
+    }
+
+    /**
+     * Doubles the size of the buffer, unwrapping the elements so the head lands at index 0.
+     */
+    private void grow() {
+        Object[] larger = new Object[elements.length << 1];
+        int headToEnd = elements.length - head;
+        System.arraycopy(elements, head, larger, 0, headToEnd);
+        System.arraycopy(elements, 0, larger, headToEnd, head);
+        elements = larger;
+        mask = larger.length - 1;
+        head = 0;
+    }
+
+    /**
+     * Rounds the given value up to the nearest power of two.
+     * @param value A value between 1 and MAXIMUM_CAPACITY
+     * @return The smallest power of two greater than or equal to the value
+     */
+    private static int roundUpToPowerOfTwo(int value) {
+        return value == 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+}
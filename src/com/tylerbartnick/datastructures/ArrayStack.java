@@ -0,0 +1,109 @@
+package com.tylerbartnick.datastructures;
+
+import java.lang.IllegalArgumentException;
+import java.util.Arrays;
+
+/**
+ * A contiguous, array-backed implementation of a Stack data structure. The top of the
+ * Stack is the last occupied slot of the array, so pushing and popping never allocate
+ * once the array has grown large enough for the workload. Unlike Stack<T>, null data
+ * may be pushed; use empty() rather than a null check on pop() to detect the bottom.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class ArrayStack<T> implements IStack<T> {
+    /**
+     * The capacity used by the default constructor.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The internal representation of the Stack, the bottom of the Stack being index 0.
+     */
+    private Object[] elements;
+
+    /**
+     * The current number of elements in the Stack, also the index of the next free slot.
+     */
+    private int count;
+
+    /**
+     * Default constructor creates an empty Stack.
+     */
+    public ArrayStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty Stack able to hold the given number of elements before it needs to grow.
+     * @param initialCapacity The initial capacity
+     * @throws IllegalArgumentException Thrown if the initial capacity is less than 1
+     */
+    public ArrayStack(int initialCapacity) throws IllegalArgumentException {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException(String.format("Capacity %d is out of range.", initialCapacity));
+        }
+        this.elements = new Object[initialCapacity];
+        this.count = 0;
+    }
+
+    /**
+     * The data to push onto the top of the Stack.
+     * @param data The data to be added to the Stack, may be null.
+     */
+    public void push(T data) {
+        if (count == elements.length) {
+            elements = Arrays.copyOf(elements, PrimitiveArrays.grownCapacity(elements.length));
+        }
+        elements[count++] = data;
+    }
+
+    /**
+     * Removes and returns the data at the top of the Stack.
+     * @return The data at the top of the Stack, null if empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T pop() {
+        if (count == 0) { return null; }
+
+        T temp = (T) elements[--count];
+        // release the slot so the data can be collected
+        elements[count] = null;
+        return temp;
+    }
+
+    /**
+     * Returns, but DOES NOT remove the data at the top of the stack.
+     * @return The data at the top of the Stack, null if empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        if (count == 0) { return null; }
+        return (T) elements[count - 1];
+    }
+
+    /**
+     * Returns the total number of elements in the Stack.
+     * @return The number of elements in the Stack.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Tests for emptiness of the Stack. Returns true if empty, false otherwise.
+     * @return true if empty, false otherwise.
+     */
+    public boolean empty() {
+        return count == 0;
+    }
+
+    /**
+     * Empties the Stack. The backing array is kept at its current capacity.
+     */
+    public void clear() {
+        Arrays.fill(elements, 0, count, null);
+        count = 0;
+    }
+}
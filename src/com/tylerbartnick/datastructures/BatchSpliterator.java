@@ -0,0 +1,123 @@
+package com.tylerbartnick.datastructures;
+
+import java.lang.NullPointerException;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * A Spliterator over a linked list, shared by all of the list implementations. A linked list cannot be cut
+ * in the middle without walking to it, so the spliterator splits off a batch from the front instead: it
+ * copies the next elements into an array and hands the array off, each batch larger than the last. A
+ * parallel stream therefore gets the list in pieces as fast as one thread can walk it, and other threads
+ * work on the arrays while it does, the way java.util.LinkedList's spliterator works.
+ *
+ * The list is not read until the spliterator is first used, and is sized from its count at that point. The
+ * spliterator walks the list through its iterator, which fails fast if the list is changed.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+final class BatchSpliterator<T> implements Spliterator<T> {
+    /**
+     * The growth of each batch over the one before it.
+     */
+    private static final int BATCH_UNIT = 1 << 10;
+
+    /**
+     * The largest batch copied into a single array.
+     */
+    private static final int MAXIMUM_BATCH = 1 << 25;
+
+    private final ILinkedList<T> list;
+
+    /**
+     * The list's iterator, null until the spliterator is first used.
+     */
+    private Iterator<T> iterator;
+
+    /**
+     * The number of elements left to traverse.
+     */
+    private long remaining;
+
+    /**
+     * The size of the last batch split off.
+     */
+    private int batch;
+
+    /**
+     * Creates a spliterator over the whole list.
+     * @param list The list to traverse
+     */
+    BatchSpliterator(ILinkedList<T> list) {
+        this.list = list;
+    }
+
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (action == null) { throw new NullPointerException(); }
+        bind();
+        if (remaining == 0) { return false; }
+        remaining--;
+        action.accept(next());
+        return true;
+    }
+
+    public void forEachRemaining(Consumer<? super T> action) {
+        if (action == null) { throw new NullPointerException(); }
+        bind();
+        for (; remaining > 0; remaining--) {
+            action.accept(next());
+        }
+    }
+
+    /**
+     * Copies the next batch of elements into an array and returns a spliterator over it.
+     * @return A spliterator over the next batch, null if no elements are left
+     */
+    public Spliterator<T> trySplit() {
+        bind();
+        if (remaining <= 1) { return null; }
+        int size = (int) Math.min(Math.min(batch + BATCH_UNIT, MAXIMUM_BATCH), remaining);
+        Object[] elements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = next();
+        }
+        remaining -= size;
+        batch = size;
+        return Spliterators.spliterator(elements, 0, size, characteristics());
+    }
+
+    public long estimateSize() {
+        bind();
+        return remaining;
+    }
+
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+    }
+
+    /**
+     * Starts iterating the list, if it has not been already.
+     */
+    private void bind() {
+        if (iterator == null) {
+            iterator = list.iterator();
+            remaining = list.getCount();
+        }
+    }
+
+    /**
+     * Gets the next element, which the count says is there.
+     * @return The next element
+     * @throws ConcurrentModificationException Thrown if the list has been shortened
+     */
+    private T next() {
+        if (!iterator.hasNext()) {
+            throw new ConcurrentModificationException();
+        }
+        return iterator.next();
+    }
+}
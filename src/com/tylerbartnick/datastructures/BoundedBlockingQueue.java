@@ -0,0 +1,396 @@
+package com.tylerbartnick.datastructures;
+
+import java.lang.IllegalArgumentException;
+import java.lang.IllegalStateException;
+import java.lang.InterruptedException;
+import java.lang.NullPointerException;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe Queue holding at most a fixed number of elements, for handing work between threads with
+ * back-pressure. Producers block while the queue is full and consumers block while it is empty, so a fast
+ * producer is slowed to the pace of its consumers instead of filling the heap. The elements are held in a
+ * fixed capacity ArrayQueue<T> guarded by a single lock.
+ *
+ * The IQueue methods enqueue() and dequeue() block indefinitely; timed variants give up after a timeout and
+ * tryEnqueue() and tryDequeue() never block. The batch operations enqueueAll() and drainTo() take the lock
+ * once for a whole batch rather than once per element, which is far cheaper when there is contention.
+ * The peek methods return null when the queue is empty.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class BoundedBlockingQueue<T> implements IQueue<T> {
+    /**
+     * The elements, in a buffer at least as large as the capacity.
+     */
+    private final ArrayQueue<T> queue;
+
+    /**
+     * The most elements the queue may hold, which may be less than the buffer's power of two length.
+     */
+    private final int capacity;
+
+    /**
+     * Guards every access to the elements.
+     */
+    private final ReentrantLock lock;
+
+    /**
+     * Signalled when elements are removed, waited on by producers while the queue is full.
+     */
+    private final Condition notFull;
+
+    /**
+     * Signalled when elements are added, waited on by consumers while the queue is empty.
+     */
+    private final Condition notEmpty;
+
+    /**
+     * Creates an empty queue holding at most the given number of elements.
+     * @param capacity The most elements the queue may hold
+     * @throws IllegalArgumentException Thrown if the capacity is out of range
+     */
+    public BoundedBlockingQueue(int capacity) throws IllegalArgumentException {
+        this(capacity, false);
+    }
+
+    /**
+     * Creates an empty queue holding at most the given number of elements.
+     * @param capacity The most elements the queue may hold
+     * @param fair true to grant the lock to waiting threads in arrival order, at some cost to throughput
+     * @throws IllegalArgumentException Thrown if the capacity is out of range
+     */
+    public BoundedBlockingQueue(int capacity, boolean fair) throws IllegalArgumentException {
+        this.queue = new ArrayQueue<>(capacity, true);
+        this.capacity = capacity;
+        this.lock = new ReentrantLock(fair);
+        this.notFull = lock.newCondition();
+        this.notEmpty = lock.newCondition();
+    }
+
+    /**
+     * Add the data supplied to the end of the queue, waiting for space if the queue is full.
+     * @param data The data to add
+     * @return The data added
+     * @throws IllegalArgumentException Thrown if the data is null
+     * @throws IllegalStateException Thrown if interrupted while waiting, with the interrupt status restored
+     */
+    public T enqueue(T data) throws IllegalArgumentException, IllegalStateException {
+        requireData(data);
+        try {
+            lock.lockInterruptibly();
+            try {
+                while (queue.count() == capacity) {
+                    notFull.await();
+                }
+                insert(data);
+            } finally {
+                lock.unlock();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to enqueue.", ex);
+        }
+        return data;
+    }
+
+    /**
+     * Add the data supplied to the end of the queue, waiting up to the given time for space if the queue is full.
+     * @param data The data to add
+     * @param timeout How long to wait
+     * @param unit The unit of the timeout
+     * @return true if the data was added, false if the queue was still full when the time ran out
+     * @throws IllegalArgumentException Thrown if the data is null
+     * @throws InterruptedException Thrown if interrupted while waiting
+     */
+    public boolean enqueue(T data, long timeout, TimeUnit unit) throws IllegalArgumentException, InterruptedException {
+        requireData(data);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (queue.count() == capacity) {
+                if (nanos <= 0L) { return false; }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            insert(data);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Attempts to add the data supplied to the end of the queue without waiting.
+     * @param data The data to add
+     * @return true if the data was added, false if the queue is full
+     * @throws IllegalArgumentException Thrown if the data is null
+     */
+    public boolean tryEnqueue(T data) throws IllegalArgumentException {
+        requireData(data);
+        lock.lock();
+        try {
+            if (queue.count() == capacity) { return false; }
+            insert(data);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds every element of the collection to the end of the queue in order, taking the lock once for the whole
+     * batch. Elements are added as fast as space allows, waiting whenever the queue is full, so a batch larger
+     * than the capacity is fed through as consumers make room.
+     * @param data The elements to add
+     * @return The number of elements added
+     * @throws IllegalArgumentException Thrown if the collection or any of its elements is null, before any are added
+     * @throws InterruptedException Thrown if interrupted while waiting, some elements may already have been added
+     */
+    public int enqueueAll(Collection<? extends T> data) throws IllegalArgumentException, InterruptedException {
+        if (data == null) {
+            throw new IllegalArgumentException("Argument `data` cannot be null.", new NullPointerException());
+        }
+        for (T element : data) {
+            requireData(element);
+        }
+
+        int added = 0;
+        lock.lockInterruptibly();
+        try {
+            for (T element : data) {
+                while (queue.count() == capacity) {
+                    // let consumers at what has been added so far before waiting for them
+                    if (added > 0) { notEmpty.signalAll(); }
+                    notFull.await();
+                }
+                queue.enqueue(element);
+                added++;
+            }
+            if (added > 0) { notEmpty.signalAll(); }
+        } finally {
+            lock.unlock();
+        }
+        return added;
+    }
+
+    /**
+     * Remove and return the data at the head of the queue, waiting for an element if the queue is empty.
+     * @return The data at the head of the queue
+     * @throws IllegalStateException Thrown if interrupted while waiting, with the interrupt status restored
+     */
+    public T dequeue() throws IllegalStateException {
+        try {
+            lock.lockInterruptibly();
+            try {
+                while (queue.empty()) {
+                    notEmpty.await();
+                }
+                return remove();
+            } finally {
+                lock.unlock();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to dequeue.", ex);
+        }
+    }
+
+    /**
+     * Remove and return the data at the head of the queue, waiting up to the given time for an element if the
+     * queue is empty.
+     * @param timeout How long to wait
+     * @param unit The unit of the timeout
+     * @return The data at the head of the queue, null if the queue was still empty when the time ran out
+     * @throws InterruptedException Thrown if interrupted while waiting
+     */
+    public T dequeue(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (queue.empty()) {
+                if (nanos <= 0L) { return null; }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return remove();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Attempts to remove and return the data at the head of the queue without waiting.
+     * @return The data at the head of the queue, null if empty
+     */
+    public T tryDequeue() {
+        lock.lock();
+        try {
+            return queue.empty() ? null : remove();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes up to the given number of elements from the head of the queue and adds them to the collection
+     * in order, taking the lock once for the whole batch. Does not wait for elements. Each element is only
+     * removed once the collection has accepted it, so if adding one throws, it and the rest stay in the queue.
+     * @param target The collection to add the elements to
+     * @param max The most elements to remove
+     * @return The number of elements removed
+     * @throws IllegalArgumentException Thrown if the collection is null or max is negative
+     */
+    public int drainTo(Collection<? super T> target, int max) throws IllegalArgumentException {
+        if (target == null) {
+            throw new IllegalArgumentException("Argument `target` cannot be null.", new NullPointerException());
+        }
+        if (max < 0) {
+            throw new IllegalArgumentException(String.format("Maximum %d is out of range.", max));
+        }
+
+        int removed = 0;
+        lock.lock();
+        try {
+            while (removed < max && !queue.empty()) {
+                target.add(queue.peekHead());
+                queue.dequeue();
+                removed++;
+            }
+        } finally {
+            // wake producers for the room made even if the collection threw part way through
+            if (removed > 0) { notFull.signalAll(); }
+            lock.unlock();
+        }
+        return removed;
+    }
+
+    /**
+     * Removes every element from the queue and adds them to the collection in order, taking the lock once.
+     * @param target The collection to add the elements to
+     * @return The number of elements removed
+     * @throws IllegalArgumentException Thrown if the collection is null
+     */
+    public int drainTo(Collection<? super T> target) throws IllegalArgumentException {
+        return drainTo(target, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets the number of elements in the queue. Only a snapshot when other threads are using the queue.
+     * @return The number of elements in the queue.
+     */
+    public int count() {
+        lock.lock();
+        try {
+            return queue.count();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the most elements the queue may hold.
+     * @return The capacity of the queue.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of elements that could be added without waiting. Only a snapshot when other threads
+     * are using the queue.
+     * @return The remaining capacity of the queue.
+     */
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - queue.count();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Determines if the queue is empty. True if so, false otherwise.
+     * @return true if empty, false otherwise
+     */
+    public boolean empty() {
+        lock.lock();
+        try {
+            return queue.empty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Clears all elements in the queue, waking every producer waiting for space.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            queue.clear();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets and returns the data at the head of the queue, but does not remove it from the queue.
+     * @return The data at the head of the queue, null if empty
+     */
+    public T peekHead() {
+        lock.lock();
+        try {
+            return queue.empty() ? null : queue.peekHead();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets and returns the data at the tail of the queue, but does not remove it from the queue.
+     * @return The data at the tail of the queue, null if empty
+     */
+    public T peekTail() {
+        lock.lock();
+        try {
+            return queue.empty() ? null : queue.peekTail();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds a single element and wakes a consumer. The lock must be held and the queue not full.
+     * @param data The data to add
+     */
+    private void insert(T data) {
+        queue.enqueue(data);
+        notEmpty.signal();
+    }
+
+    /**
+     * Removes a single element and wakes a producer. The lock must be held and the queue not empty.
+     * @return The data removed
+     */
+    private T remove() {
+        T data = queue.dequeue();
+        notFull.signal();
+        return data;
+    }
+
+    /**
+     * Rejects null data, which would be indistinguishable from an empty queue.
+     * @param data The data to check
+     * @throws IllegalArgumentException Thrown if the data is null
+     */
+    private static void requireData(Object data) throws IllegalArgumentException {
+        if (data == null) {
+            throw new IllegalArgumentException("Argument `data` cannot be null.", new NullPointerException());
+        }
+    }
+}
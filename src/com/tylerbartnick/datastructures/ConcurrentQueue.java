@@ -0,0 +1,186 @@
+package com.tylerbartnick.datastructures;
+
+import java.lang.IllegalArgumentException;
+import java.lang.NullPointerException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A lock-free, multi-producer/multi-consumer Queue using the Michael-Scott algorithm. The head always
+ * points at a dummy Node whose successor holds the first element, so enqueuers only ever contend on the
+ * tail and dequeuers only ever contend on the head. Every update is a single compare-and-set on a
+ * VarHandle, and a thread that finds the tail lagging behind helps advance it instead of waiting.
+ *
+ * Unlike Queue<T>, dequeue() and the peek methods return null when the queue is empty, since with
+ * other threads involved checking empty() first cannot guarantee an element. count() traverses the
+ * queue and is only a snapshot.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class ConcurrentQueue<T> implements IQueue<T> {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(ConcurrentQueue.class, "head", LinkedNode.class);
+            TAIL = lookup.findVarHandle(ConcurrentQueue.class, "tail", LinkedNode.class);
+            NEXT = lookup.findVarHandle(LinkedNode.class, "next", LinkedNode.class);
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    /**
+     * The dummy Node before the first element. Only ever moved forward by compare-and-set.
+     */
+    private volatile LinkedNode<T> head;
+
+    /**
+     * The last Node, or very briefly the one before it while an enqueue is completing.
+     */
+    private volatile LinkedNode<T> tail;
+
+    /**
+     * Default constructor, creates an empty queue.
+     */
+    public ConcurrentQueue() {
+        LinkedNode<T> dummy = new LinkedNode<>(null);
+        this.head = dummy;
+        this.tail = dummy;
+    }
+
+    /**
+     * Add the data supplied to the end of the queue. Lock-free.
+     * @param data The data to add
+     * @return The data added
+     * @throws IllegalArgumentException Thrown if the data is null
+     */
+    public T enqueue(T data) throws IllegalArgumentException {
+        if (data == null) {
+            throw new IllegalArgumentException("Argument `data` cannot be null.", new NullPointerException());
+        }
+
+        LinkedNode<T> node = new LinkedNode<>(data);
+        while (true) {
+            LinkedNode<T> last = tail;
+            LinkedNode<T> next = last.next;
+            if (last != tail) { continue; }
+
+            if (next == null) {
+                if (NEXT.compareAndSet(last, null, node)) {
+                    // failing here is fine, another thread has already helped
+                    TAIL.compareAndSet(this, last, node);
+                    return data;
+                }
+            } else {
+                // the tail is lagging, help the other enqueue along before retrying
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    /**
+     * Remove and return the data at the head of the queue. Lock-free.
+     * @return The data at the head of the queue, null if empty
+     */
+    public T dequeue() {
+        while (true) {
+            LinkedNode<T> first = head;
+            LinkedNode<T> last = tail;
+            LinkedNode<T> next = first.next;
+            if (first != head) { continue; }
+
+            if (next == null) { return null; }
+            if (first == last) {
+                // never let the head pass the tail, help the lagging enqueue along instead
+                TAIL.compareAndSet(this, last, next);
+                continue;
+            }
+
+            T data = next.data;
+            if (HEAD.compareAndSet(this, first, next)) {
+                // the successor becomes the new dummy, release its data for collection
+                next.data = null;
+                return data;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of elements in the queue by traversing it. A linear time operation, and only
+     * a snapshot when other threads are using the queue.
+     * @return The number of elements in the queue.
+     */
+    public int count() {
+        int count = 0;
+        for (LinkedNode<T> node = head.next; node != null && count < Integer.MAX_VALUE; node = node.next) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Determines if the queue is empty. True if so, false otherwise.
+     * @return true if empty, false otherwise
+     */
+    public boolean empty() {
+        return head.next == null;
+    }
+
+    /**
+     * Removes every element present when called. Elements enqueued concurrently may or may not remain.
+     */
+    public void clear() {
+        while (dequeue() != null) { }
+    }
+
+    /**
+     * Gets and returns the data at the head of the queue, but does not remove it from the queue.
+     * @return The data at the head of the queue, null if empty
+     */
+    public T peekHead() {
+        while (true) {
+            LinkedNode<T> first = head;
+            LinkedNode<T> next = first.next;
+            if (next == null) { return null; }
+            T data = next.data;
+            if (first == head) { return data; }
+        }
+    }
+
+    /**
+     * Gets and returns the data at the tail of the queue, but does not remove it from the queue.
+     * @return The data at the tail of the queue, null if empty
+     */
+    public T peekTail() {
+        LinkedNode<T> last = tail;
+        for (LinkedNode<T> next = last.next; next != null; next = next.next) {
+            last = next;
+        }
+        // if the last Node has become the dummy the queue was empty
+        return last.data;
+    }
+
+    /**
+     * A Node of the queue. Node<T> is not used as its links are not volatile.
+     */
+    private static final class LinkedNode<T> {
+        /**
+         * The data held, cleared once the Node becomes the dummy.
+         */
+        volatile T data;
+
+        /**
+         * The next Node, only ever set once from null by compare-and-set.
+         */
+        volatile LinkedNode<T> next;
+
+        LinkedNode(T data) {
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.tylerbartnick.datastructures;
+
+import java.lang.IllegalArgumentException;
+import java.lang.NullPointerException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A lock-free, thread-safe Stack using Treiber's algorithm: the top of the Stack is a single reference that
+ * push() and pop() replace by compare-and-set on a VarHandle. Like Stack<T>, null data is rejected and pop()
+ * and peek() return null when empty.
+ *
+ * Under heavy contention every thread is fighting over that one reference, so the Stack may optionally be
+ * given an elimination array. A push or pop that loses the race on the top parks in a random slot of the
+ * array for a moment instead of retrying straight away, and a push and a pop that meet in a slot cancel
+ * each other out without touching the top at all. A pop paired this way returns data that never appeared
+ * on the Stack, which is indistinguishable from the push and pop having happened back to back.
+ *
+ * Each Node records the size of the Stack beneath and including it, so count() is a constant time snapshot.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class ConcurrentStack<T> implements IStack<T> {
+    private static final VarHandle TOP;
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            TOP = MethodHandles.lookup().findVarHandle(ConcurrentStack.class, "top", LinkedNode.class);
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    /**
+     * How many times a push waits in the elimination array for a pop to take its Node before retrying.
+     */
+    private static final int ELIMINATION_SPINS = 64;
+
+    /**
+     * The Node at the top of the Stack, null if empty.
+     */
+    private volatile LinkedNode<T> top;
+
+    /**
+     * The elimination array, each slot either null or holding a Node offered by a push. Null if disabled.
+     */
+    private final Object[] eliminationSlots;
+
+    /**
+     * Default constructor, creates an empty Stack without an elimination array.
+     */
+    public ConcurrentStack() {
+        this.eliminationSlots = null;
+    }
+
+    /**
+     * Creates an empty Stack with an elimination array of the given size. Roughly half the number of threads
+     * expected to contend is a reasonable size.
+     * @param eliminationSlots The number of slots in the elimination array, 0 to disable elimination
+     * @throws IllegalArgumentException Thrown if the number of slots is negative
+     */
+    public ConcurrentStack(int eliminationSlots) throws IllegalArgumentException {
+        if (eliminationSlots < 0) {
+            throw new IllegalArgumentException(String.format("Elimination slots %d is out of range.", eliminationSlots));
+        }
+        this.eliminationSlots = eliminationSlots == 0 ? null : new Object[eliminationSlots];
+    }
+
+    /**
+     * The data to push onto the top of the Stack. Lock-free.
+     * @param data The data to be added to the Stack.
+     * @throws IllegalArgumentException Thrown if the data is null
+     */
+    public void push(T data) throws IllegalArgumentException {
+        if (data == null) {
+            throw new IllegalArgumentException("Argument `data` cannot be null.", new NullPointerException());
+        }
+
+        LinkedNode<T> node = new LinkedNode<>(data);
+        while (true) {
+            LinkedNode<T> current = top;
+            node.next = current;
+            node.size = current == null ? 1 : current.size + 1;
+            if (TOP.compareAndSet(this, current, node)) { return; }
+            if (eliminationSlots != null && offer(node)) { return; }
+        }
+    }
+
+    /**
+     * Removes and returns the data at the top of the Stack. Lock-free.
+     * @return The data at the top of the Stack, null if empty.
+     */
+    public T pop() {
+        while (true) {
+            LinkedNode<T> current = top;
+            if (current == null) { return null; }
+            if (TOP.compareAndSet(this, current, current.next)) { return current.data; }
+            if (eliminationSlots != null) {
+                T data = take();
+                if (data != null) { return data; }
+            }
+        }
+    }
+
+    /**
+     * Returns, but DOES NOT remove the data at the top of the stack.
+     * @return The data at the top of the Stack, null if empty.
+     */
+    public T peek() {
+        LinkedNode<T> current = top;
+        return current == null ? null : current.data;
+    }
+
+    /**
+     * Returns the total number of elements in the Stack. Constant time, but only a snapshot when other
+     * threads are using the Stack.
+     * @return The number of elements in the Stack.
+     */
+    public int count() {
+        LinkedNode<T> current = top;
+        return current == null ? 0 : current.size;
+    }
+
+    /**
+     * Tests for emptiness of the Stack. Returns true if empty, false otherwise.
+     * @return true if empty, false otherwise.
+     */
+    public boolean empty() {
+        return top == null;
+    }
+
+    /**
+     * Empties the Stack in a single step. Pushes made concurrently may or may not remain.
+     */
+    public void clear() {
+        top = null;
+    }
+
+    /**
+     * Offers a Node to a pop waiting in, or arriving at, a random slot of the elimination array.
+     * @param node The Node to hand over
+     * @return true if a pop took the Node, false if the push must retry on the Stack
+     */
+    private boolean offer(LinkedNode<T> node) {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationSlots.length);
+        if (!SLOT.compareAndSet(eliminationSlots, slot, null, node)) { return false; }
+
+        for (int i = 0; i < ELIMINATION_SPINS; i++) {
+            if (SLOT.getVolatile(eliminationSlots, slot) != node) { return true; }
+            Thread.onSpinWait();
+        }
+        // withdraw the offer, failing means a pop took it at the last moment
+        return !SLOT.compareAndSet(eliminationSlots, slot, node, null);
+    }
+
+    /**
+     * Takes a Node offered by a push in a random slot of the elimination array, if there is one.
+     * @return The data offered, null if the slot was empty or another pop took it first
+     */
+    @SuppressWarnings("unchecked")
+    private T take() {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationSlots.length);
+        Object offered = SLOT.getVolatile(eliminationSlots, slot);
+        if (offered != null && SLOT.compareAndSet(eliminationSlots, slot, offered, null)) {
+            return ((LinkedNode<T>) offered).data;
+        }
+        return null;
+    }
+
+    /**
+     * A Node of the Stack. The links are only written before the Node is published by compare-and-set, so
+     * they need not be volatile.
+     */
+    private static final class LinkedNode<T> {
+        final T data;
+        LinkedNode<T> next;
+        int size;
+
+        LinkedNode(T data) {
+            this.data = data;
+        }
+    }
+}
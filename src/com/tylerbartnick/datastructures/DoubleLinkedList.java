@@ -3,6 +3,9 @@ package com.tylerbartnick.datastructures;
 import java.lang.IllegalArgumentException;
 import java.lang.IndexOutOfBoundsException;
 import java.lang.NullPointerException;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * A performance-oriented implementation of a doubly-linked list. Pointers to both
@@ -29,6 +32,16 @@ public class DoubleLinkedList<T> implements ILinkedList<T> {
      */
     private Node<T> tail;
 
+    /**
+     * The number of structural modifications made to the list, used by cursors to fail fast.
+     */
+    private int modCount;
+
+    /**
+     * Where removed Nodes are recycled and new Nodes come from, null if Nodes are not recycled.
+     */
+    private final NodePool<T> pool;
+
     /**
      * Default constructor to create an empty doubly-linked list.
      */
@@ -36,6 +49,20 @@ public class DoubleLinkedList<T> implements ILinkedList<T> {
         this.count = 0;
         this.head = null;
         this.tail = null;
+        this.pool = null;
+    }
+
+    /**
+     * Constructor for an empty doubly-linked list recycling its Nodes through the given pool.
+     * Nodes returned by getHead() and getTail() must not be used once removed from the list.
+     * 
+     * @param pool The pool to take Nodes from and return them to, null to not recycle Nodes.
+     */
+    public DoubleLinkedList(NodePool<T> pool) {
+        this.count = 0;
+        this.head = null;
+        this.tail = null;
+        this.pool = pool;
     }
 
     /**
@@ -45,6 +72,7 @@ public class DoubleLinkedList<T> implements ILinkedList<T> {
      * @param data The data to add.
      */
     public DoubleLinkedList(T data) {
+        this.pool = null;
         try {
             // leverage the append functionality here to protect against errors
             append(data);
@@ -92,7 +120,7 @@ public class DoubleLinkedList<T> implements ILinkedList<T> {
             throw new IllegalArgumentException("Argument `data` cannot be null.", new NullPointerException());
         }
 
-        Node<T> node = new Node<>(data);
+        Node<T> node = newNode(data);
         if (empty()) {
             head = node;
             tail = node;
@@ -105,11 +133,12 @@ public class DoubleLinkedList<T> implements ILinkedList<T> {
         }
 
         count++;
+        modCount++;
         return data;
     }
 
     /**
-     * Inserts the data specified into the index specified.
+     * Inserts the data specified into the index specified. Inserting at index getCount() appends.
      * 
      * @param data The data
      * @param index The index
@@ -121,24 +150,15 @@ public class DoubleLinkedList<T> implements ILinkedList<T> {
             throw new IllegalArgumentException("Argument `data` cannot be null.", new NullPointerException());
         }
 
-        if (index < 0 || index >= getCount()) {
+        if (index < 0 || index > getCount()) {
             throw new IllegalArgumentException(new IndexOutOfBoundsException());
         }
 
-        Node<T> node = new Node<>(data);
-        if (index == 0) {
-            head.setPrev(node);
-            node.setNext(head);
-            head = node;
-        } else {
-            Node<T> currPtr = getNodeAt(index);
-            node.setNext(currPtr);
-            node.setPrev(currPtr.getPrev());
-            currPtr.getPrev().setNext(node);
-            currPtr.setPrev(node);
+        if (index == getCount()) {
+            return append(data);
         }
 
-        count++;
+        linkBefore(data, getNodeAt(index));
         return data;
     }
 
@@ -153,35 +173,7 @@ public class DoubleLinkedList<T> implements ILinkedList<T> {
             throw new IllegalArgumentException(new IndexOutOfBoundsException());
         }
 
-        if (index == 0) {
-            Node<T> temp = head;
-            head = head.getNext();
-            if (head != null) {
-                head.setPrev(null);
-                temp.setNext(null);
-            } else {
-                // if we're in here, we know we're trying to delete the last element
-                tail.setPrev(null);
-                tail = null;
-            }
-        } else if (index == getCount() - 1) {
-            Node<T> temp = tail;
-            tail = tail.getPrev();
-            if (tail != null) {
-                tail.setNext(null);
-                temp.setPrev(null);
-                // if we're in here, we know we're trying to delete the last element
-                head.setPrev(null);
-                head = null;
-            }
-        } else {
-            Node<T> currPtr = getNodeAt(index);
-            currPtr.getPrev().setNext(currPtr.getNext());
-            currPtr.getNext().setPrev(currPtr.getPrev());
-            deleteAllNodeData(currPtr);
-        }
-
-        count--;
+        unlink(getNodeAt(index));
     }
 
     /**
@@ -207,13 +199,228 @@ public class DoubleLinkedList<T> implements ILinkedList<T> {
     }
 
     /**
-     * Deletes all items in the list.
+     * Deletes all items in the list. A constant time operation: the Nodes are simply dropped and left to
+     * the garbage collector, apart from as many as the pool, if any, has room for.
      */
     public void clear() {
-        if (head == null && tail == null && getCount() == 0) { return; }
-        while (getCount() != 0) {
-            delete(0);
+        clear(false);
+    }
+
+    /**
+     * Deletes all items in the list, optionally scrubbing every Node of its data and refs. Scrubbing is a
+     * linear time operation, but guarantees no data stays reachable through a Node obtained from getHead()
+     * or getTail() before the clear, and that the pool, if any, is filled from the Nodes removed.
+     * 
+     * @param scrub true to wipe every Node, false to drop them in constant time.
+     */
+    public void clear(boolean scrub) {
+        if (empty()) { return; }
+        Node<T> currPtr = head;
+        int toWipe = scrub ? count : pool == null ? 0 : pool.room();
+        while (currPtr != null && toWipe-- > 0) {
+            Node<T> next = currPtr.getNext();
+            recycle(currPtr);
+            currPtr = next;
         }
+        if (currPtr != null) {
+            // the unwiped remainder must not refer back into the wiped Nodes or the pool
+            currPtr.setPrev(null);
+        }
+        head = null;
+        tail = null;
+        count = 0;
+        modCount++;
+    }
+
+    /**
+     * Appends every element of the given data to the end of the list, in order. The new Nodes are chained
+     * together in a single traversal of the data and then linked on after the tail in one step, so a null
+     * element leaves the list unchanged.
+     * @param data The elements to add, which may be this list
+     * @throws IllegalArgumentException Thrown if the data or one of its elements is null
+     */
+    public void appendAll(Iterable<? extends T> data) throws IllegalArgumentException {
+        if (data == null) {
+            throw new IllegalArgumentException("Argument `data` cannot be null.", new NullPointerException());
+        }
+
+        Node<T> first = null;
+        Node<T> last = null;
+        int added = 0;
+        for (T element : data) {
+            if (element == null) {
+                throw new IllegalArgumentException("Argument `data` cannot hold null.", new NullPointerException());
+            }
+            Node<T> node = newNode(element);
+            if (first == null) {
+                first = node;
+            } else {
+                last.setNext(node);
+                node.setPrev(last);
+            }
+            last = node;
+            added++;
+        }
+        if (first == null) { return; }
+        linkAllBefore(first, last, added, null);
+    }
+
+    /**
+     * Moves every Node of the other list onto the end of this one, leaving the other list empty. A constant
+     * time operation, as the Nodes are relinked rather than copied.
+     * @param other The list to take the Nodes of
+     * @throws IllegalArgumentException Thrown if the other list is null or this list
+     */
+    public void concat(DoubleLinkedList<T> other) throws IllegalArgumentException {
+        splice(count, other);
+    }
+
+    /**
+     * Moves every element of the other list into this one at the given index, in order, leaving the other
+     * list empty. A list of the same kind has its Nodes relinked in constant time once the index is found,
+     * which traverses from the nearer end and is immediate at either end.
+     * @param index The index to insert the elements at, getCount() to append them
+     * @param other The list to move the elements from
+     * @throws IllegalArgumentException Thrown if the other list is null or this list, or the index is out of range
+     */
+    public void splice(int index, ILinkedList<T> other) throws IllegalArgumentException {
+        if (!(other instanceof DoubleLinkedList)) {
+            ILinkedList.super.splice(index, other);
+            return;
+        }
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot splice a list into itself.");
+        }
+        if (index < 0 || index > count) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+
+        DoubleLinkedList<T> source = (DoubleLinkedList<T>) other;
+        if (source.empty()) { return; }
+        Node<T> first = source.head;
+        Node<T> last = source.tail;
+        int moved = source.count;
+        source.head = null;
+        source.tail = null;
+        source.count = 0;
+        source.modCount++;
+        linkAllBefore(first, last, moved, index == count ? null : getNodeAt(index));
+    }
+
+    /**
+     * Removes the elements from the given index to the end of the list and returns them as a new list
+     * sharing this list's pool. The Nodes are handed over rather than copied, so only the traversal to the
+     * index, from the nearer end, is needed.
+     * @param index The index of the first element to move, getCount() to move none
+     * @return A list of the elements removed
+     * @throws IllegalArgumentException Thrown if the index is out of range
+     */
+    public DoubleLinkedList<T> splitAt(int index) throws IllegalArgumentException {
+        if (index < 0 || index > count) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+
+        DoubleLinkedList<T> split = new DoubleLinkedList<>(pool);
+        if (index == count) { return split; }
+        Node<T> first = getNodeAt(index);
+        Node<T> last = first.getPrev();
+        split.head = first;
+        split.tail = tail;
+        split.count = count - index;
+        first.setPrev(null);
+        if (last == null) {
+            head = null;
+        } else {
+            last.setNext(null);
+        }
+        tail = last;
+        count = index;
+        modCount++;
+        return split;
+    }
+
+    /**
+     * Gets an iterator over the data in the list, from head to tail.
+     * @return An iterator, which is also a cursor.
+     */
+    public Iterator<T> iterator() {
+        return cursor();
+    }
+
+    /**
+     * Gets a cursor positioned before the head of the list. The cursor can move in either
+     * direction, and inserts and removes at its position in constant time.
+     * @return A cursor at the start of the list.
+     */
+    public ListCursor<T> cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Links a new Node holding the given data in before the given Node.
+     * @param data The data to link in
+     * @param successor The Node to link before, must be in the list
+     */
+    private void linkBefore(T data, Node<T> successor) {
+        Node<T> node = newNode(data);
+        Node<T> predecessor = successor.getPrev();
+        node.setNext(successor);
+        node.setPrev(predecessor);
+        successor.setPrev(node);
+        if (predecessor == null) {
+            head = node;
+        } else {
+            predecessor.setNext(node);
+        }
+        count++;
+        modCount++;
+    }
+
+    /**
+     * Links a chain of Nodes in before the given Node, fixing up head, tail and count.
+     * @param first The first Node of the chain
+     * @param last The last Node of the chain
+     * @param length The number of Nodes in the chain
+     * @param successor The Node to link before, null to link at the tail
+     */
+    private void linkAllBefore(Node<T> first, Node<T> last, int length, Node<T> successor) {
+        Node<T> predecessor = successor == null ? tail : successor.getPrev();
+        first.setPrev(predecessor);
+        last.setNext(successor);
+        if (predecessor == null) {
+            head = first;
+        } else {
+            predecessor.setNext(first);
+        }
+        if (successor == null) {
+            tail = last;
+        } else {
+            successor.setPrev(last);
+        }
+        count += length;
+        modCount++;
+    }
+
+    /**
+     * Unlinks the given Node from the list, fixing up head and tail as needed.
+     * @param node The Node to unlink, must be in the list
+     */
+    private void unlink(Node<T> node) {
+        Node<T> predecessor = node.getPrev();
+        Node<T> successor = node.getNext();
+        if (predecessor == null) {
+            head = successor;
+        } else {
+            predecessor.setNext(successor);
+        }
+        if (successor == null) {
+            tail = predecessor;
+        } else {
+            successor.setPrev(predecessor);
+        }
+        recycle(node);
+        count--;
+        modCount++;
     }
 
     /**
@@ -262,6 +469,24 @@ public class DoubleLinkedList<T> implements ILinkedList<T> {
         return currPtr;
     }
 
+    /**
+     * Gets a Node holding the given data, from the pool if there is one.
+     * @param data The data for the Node to hold
+     * @return A Node holding only the data
+     */
+    private Node<T> newNode(T data) {
+        return pool == null ? new Node<>(data) : pool.acquire(data);
+    }
+
+    /**
+     * Wipes a Node that has been removed from the list and returns it to the pool, if there is one.
+     * @param node The Node removed
+     */
+    private void recycle(Node<T> node) {
+        deleteAllNodeData(node);
+        if (pool != null) { pool.release(node); }
+    }
+
     /**
      * Private helper method to ensure all references to other Nodes on a specified Node
      * are cleared. This is intended to aid garbage collection and prevent memeory leaks.
@@ -284,4 +509,106 @@ public class DoubleLinkedList<T> implements ILinkedList<T> {
         eraseNodeRefs(node);
         node.setData(null);
     }
+
+    /**
+     * Bidirectional cursor over the list, tracking the Node after the cursor and the Node last
+     * returned so that both can be linked around in constant time.
+     */
+    private final class Cursor implements ListCursor<T> {
+        /**
+         * The Node after the cursor, null if the cursor is at the end of the list.
+         */
+        private Node<T> after;
+
+        /**
+         * The Node last returned by next() or previous(), null if it may not be removed.
+         */
+        private Node<T> lastReturned;
+
+        private int nextIndex;
+        private int expectedModCount;
+
+        Cursor() {
+            this.after = head;
+            this.lastReturned = null;
+            this.nextIndex = 0;
+            this.expectedModCount = modCount;
+        }
+
+        public boolean hasNext() {
+            checkForComodification();
+            return after != null;
+        }
+
+        public T next() {
+            checkForComodification();
+            if (after == null) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = after;
+            after = after.getNext();
+            nextIndex++;
+            return lastReturned.getData();
+        }
+
+        public boolean hasPrevious() {
+            checkForComodification();
+            return nextIndex > 0;
+        }
+
+        public T previous() {
+            checkForComodification();
+            if (nextIndex == 0) {
+                throw new NoSuchElementException();
+            }
+            after = after == null ? tail : after.getPrev();
+            lastReturned = after;
+            nextIndex--;
+            return lastReturned.getData();
+        }
+
+        public int nextIndex() {
+            checkForComodification();
+            return nextIndex;
+        }
+
+        public void insert(T data) {
+            checkForComodification();
+            if (data == null) {
+                throw new IllegalArgumentException("Argument `data` cannot be null.", new NullPointerException());
+            }
+
+            if (after == null) {
+                append(data);
+            } else {
+                linkBefore(data, after);
+            }
+            lastReturned = null;
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException("Neither next() nor previous() has been called since the last insert() or remove().");
+            }
+
+            if (lastReturned == after) {
+                // moving backward, the cursor was before the removed Node
+                after = after.getNext();
+            } else {
+                nextIndex--;
+            }
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
 }
@@ -0,0 +1,36 @@
+package com.tylerbartnick.datastructures;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts elements to and from bytes, for the data structures that keep their elements outside the heap
+ * or on disk. Elements are written straight into and read straight out of the destination buffer, which
+ * may be a memory-mapped file, so no intermediate byte arrays are needed. Standard codecs for common
+ * element types can be found in ElementCodecs.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public interface ElementCodec<T> {
+    /**
+     * Gets the number of bytes encode() will write for the data.
+     * @param data The data, never null
+     * @return The encoded size in bytes
+     */
+    public int size(T data);
+
+    /**
+     * Writes the data at the buffer's position, advancing it by exactly size(data) bytes.
+     * @param data The data, never null
+     * @param target The buffer to write to, with at least size(data) bytes remaining
+     */
+    public void encode(T data, ByteBuffer target);
+
+    /**
+     * Reads an element of the given encoded size from the buffer's position, advancing it by that many bytes.
+     * @param source The buffer to read from
+     * @param length The number of bytes encode() wrote for the element
+     * @return The element
+     */
+    public T decode(ByteBuffer source, int length);
+}
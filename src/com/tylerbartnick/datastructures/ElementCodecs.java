@@ -0,0 +1,144 @@
+package com.tylerbartnick.datastructures;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Standard ElementCodec<T> implementations for boxed primitives, Strings and byte arrays. Numbers are
+ * written in the buffer's byte order and Strings as UTF-8.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public final class ElementCodecs {
+    /**
+     * Encodes a Long as 8 bytes.
+     */
+    public static final ElementCodec<Long> LONG = new ElementCodec<Long>() {
+        public int size(Long data) {
+            return Long.BYTES;
+        }
+
+        public void encode(Long data, ByteBuffer target) {
+            target.putLong(data);
+        }
+
+        public Long decode(ByteBuffer source, int length) {
+            return source.getLong();
+        }
+    };
+
+    /**
+     * Encodes an Integer as 4 bytes.
+     */
+    public static final ElementCodec<Integer> INTEGER = new ElementCodec<Integer>() {
+        public int size(Integer data) {
+            return Integer.BYTES;
+        }
+
+        public void encode(Integer data, ByteBuffer target) {
+            target.putInt(data);
+        }
+
+        public Integer decode(ByteBuffer source, int length) {
+            return source.getInt();
+        }
+    };
+
+    /**
+     * Encodes a Double as 8 bytes, NaNs included bit for bit.
+     */
+    public static final ElementCodec<Double> DOUBLE = new ElementCodec<Double>() {
+        public int size(Double data) {
+            return Double.BYTES;
+        }
+
+        public void encode(Double data, ByteBuffer target) {
+            target.putLong(Double.doubleToRawLongBits(data));
+        }
+
+        public Double decode(ByteBuffer source, int length) {
+            return Double.longBitsToDouble(source.getLong());
+        }
+    };
+
+    /**
+     * Encodes a String as UTF-8, measuring and writing it without an intermediate byte array. Unpaired
+     * surrogates are written as '?', as String.getBytes() does.
+     */
+    public static final ElementCodec<String> STRING = new ElementCodec<String>() {
+        public int size(String data) {
+            int size = 0;
+            for (int i = 0; i < data.length(); i++) {
+                char c = data.charAt(i);
+                if (c < 0x80) {
+                    size++;
+                } else if (c < 0x800) {
+                    size += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < data.length() && Character.isLowSurrogate(data.charAt(i + 1))) {
+                    size += 4;
+                    i++;
+                } else {
+                    size += Character.isSurrogate(c) ? 1 : 3;
+                }
+            }
+            return size;
+        }
+
+        public void encode(String data, ByteBuffer target) {
+            for (int i = 0; i < data.length(); i++) {
+                char c = data.charAt(i);
+                if (c < 0x80) {
+                    target.put((byte) c);
+                } else if (c < 0x800) {
+                    target.put((byte) (0xC0 | (c >> 6)));
+                    target.put((byte) (0x80 | (c & 0x3F)));
+                } else if (Character.isHighSurrogate(c) && i + 1 < data.length() && Character.isLowSurrogate(data.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, data.charAt(++i));
+                    target.put((byte) (0xF0 | (codePoint >> 18)));
+                    target.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                    target.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                    target.put((byte) (0x80 | (codePoint & 0x3F)));
+                } else if (Character.isSurrogate(c)) {
+                    target.put((byte) '?');
+                } else {
+                    target.put((byte) (0xE0 | (c >> 12)));
+                    target.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                    target.put((byte) (0x80 | (c & 0x3F)));
+                }
+            }
+        }
+
+        public String decode(ByteBuffer source, int length) {
+            if (source.hasArray()) {
+                int start = source.arrayOffset() + source.position();
+                source.position(source.position() + length);
+                return new String(source.array(), start, length, StandardCharsets.UTF_8);
+            }
+            byte[] bytes = new byte[length];
+            source.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    /**
+     * Encodes a byte array as its contents.
+     */
+    public static final ElementCodec<byte[]> BYTES = new ElementCodec<byte[]>() {
+        public int size(byte[] data) {
+            return data.length;
+        }
+
+        public void encode(byte[] data, ByteBuffer target) {
+            target.put(data);
+        }
+
+        public byte[] decode(ByteBuffer source, int length) {
+            byte[] bytes = new byte[length];
+            source.get(bytes);
+            return bytes;
+        }
+    };
+
+    private ElementCodecs() { }
+}
@@ -1,12 +1,21 @@
 package com.tylerbartnick.datastructures;
 
+import java.lang.IllegalArgumentException;
+import java.lang.IndexOutOfBoundsException;
+import java.lang.NullPointerException;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
- * Interface for all linked lists, both singly- and doubly-linked.
- * 
+ * Interface for all linked lists, both singly- and doubly-linked. Lists are iterable in
+ * order, and cursor() gives positional access for linear-time scans and in-place edits.
+ * stream() and parallelStream() run stream pipelines over the elements, in order.
+ *
  * @author Tyler Bartnick
  * @version 1.0.0
  */
-public interface ILinkedList<T> {
+public interface ILinkedList<T> extends Iterable<T> {
     public int getCount();
     public T append(T data);
     public T insert(T data, int index);
@@ -14,4 +23,91 @@ public interface ILinkedList<T> {
     public T get(int index);
     public boolean empty();
     public void clear();
+    public ListCursor<T> cursor();
+
+    /**
+     * Removes the elements from the given index to the end of the list and returns them, in order, as a new
+     * list of the same kind.
+     * @param index The index of the first element to move, getCount() to move none
+     * @return A list of the elements removed
+     * @throws IllegalArgumentException Thrown if the index is out of range
+     */
+    public ILinkedList<T> splitAt(int index);
+
+    /**
+     * Appends every element of the given data to the end of the list, in order. The default appends them one
+     * at a time; the linked lists link them in with a single traversal of the data.
+     * @param data The elements to add, which may be this list
+     * @throws IllegalArgumentException Thrown if the data or one of its elements is null
+     */
+    public default void appendAll(Iterable<? extends T> data) throws IllegalArgumentException {
+        if (data == null) {
+            throw new IllegalArgumentException("Argument `data` cannot be null.", new NullPointerException());
+        }
+        if (data == this) {
+            // appending would change the list being iterated, so walk it by index up to its original end
+            int count = getCount();
+            for (int i = 0; i < count; i++) {
+                append(get(i));
+            }
+            return;
+        }
+        for (T element : data) {
+            append(element);
+        }
+    }
+
+    /**
+     * Moves every element of the other list into this one at the given index, in order, leaving the other
+     * list empty. The default inserts them one at a time through a cursor; the linked lists relink a list of
+     * their own kind without touching its elements.
+     * @param index The index to insert the elements at, getCount() to append them
+     * @param other The list to move the elements from
+     * @throws IllegalArgumentException Thrown if the other list is null or this list, or the index is out of range
+     */
+    public default void splice(int index, ILinkedList<T> other) throws IllegalArgumentException {
+        if (other == null) {
+            throw new IllegalArgumentException("Argument `other` cannot be null.", new NullPointerException());
+        }
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot splice a list into itself.");
+        }
+        if (index < 0 || index > getCount()) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+
+        ListCursor<T> cursor = cursor();
+        for (int i = 0; i < index; i++) {
+            cursor.next();
+        }
+        for (T element : other) {
+            cursor.insert(element);
+        }
+        other.clear();
+    }
+
+    /**
+     * Gets a spliterator over the list, sized from its count. It splits by copying batches of elements
+     * from the front into arrays, so a parallel stream can hand them out to other threads.
+     * @return A spliterator over the list
+     */
+    public default Spliterator<T> spliterator() {
+        return new BatchSpliterator<>(this);
+    }
+
+    /**
+     * Gets a sequential stream over the list, from head to tail.
+     * @return A stream of the elements
+     */
+    public default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Gets a parallel stream over the list. The list must not be changed while the stream runs.
+     * @return A parallel stream of the elements
+     */
+    public default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
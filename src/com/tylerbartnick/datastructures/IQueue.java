@@ -0,0 +1,18 @@
+package com.tylerbartnick.datastructures;
+
+/**
+ * Interface for all queues, regardless of their internal representation. Allows
+ * callers to swap between the linked and array-backed implementations freely.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public interface IQueue<T> {
+    public T enqueue(T data);
+    public T dequeue();
+    public int count();
+    public boolean empty();
+    public void clear();
+    public T peekHead();
+    public T peekTail();
+}
@@ -0,0 +1,17 @@
+package com.tylerbartnick.datastructures;
+
+/**
+ * Interface for all stacks, regardless of their internal representation. Allows
+ * callers to swap between the linked and array-backed implementations freely.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public interface IStack<T> {
+    public void push(T data);
+    public T pop();
+    public T peek();
+    public int count();
+    public boolean empty();
+    public void clear();
+}
@@ -0,0 +1,428 @@
+package com.tylerbartnick.datastructures;
+
+import java.lang.IllegalArgumentException;
+import java.lang.IndexOutOfBoundsException;
+import java.lang.NullPointerException;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+/**
+ * A list kept in order of position as a skip list. Every Node is on the bottom level, and each Node is also
+ * on a random number of the levels above it, half as many Nodes on each level as the one beneath. Every
+ * link records its span, the number of positions it skips, so a search for an index follows the longest
+ * links that do not overshoot it and reaches any position in O(log n) expected steps. get(), insert() and
+ * delete() are therefore all O(log n) wherever the index lies, rather than O(n) from the nearer end.
+ *
+ * The bottom level is also linked backward, so cursors move in either direction in constant time; edits
+ * made through a cursor cost O(log n) to update the spans above.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class IndexableSkipList<T> implements ILinkedList<T> {
+    /**
+     * The most levels the list may have, enough for far more elements than an int can count.
+     */
+    private static final int MAX_LEVEL = 32;
+
+    /**
+     * The sentinel before the first element, present on every level. Its position is -1.
+     */
+    private final SkipNode head;
+
+    /**
+     * The last Node on the bottom level, null if the list is empty.
+     */
+    private SkipNode tail;
+
+    /**
+     * The number of levels in use, at least 1.
+     */
+    private int level;
+
+    /**
+     * The current number of elements in the list.
+     */
+    private int count;
+
+    /**
+     * The number of structural modifications made to the list, used by cursors to fail fast.
+     */
+    private int modCount;
+
+    /**
+     * Chooses the level of each new Node.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * Reused by each search: the last Node visited on each level, and its position.
+     */
+    private final SkipNode[] update = new SkipNode[MAX_LEVEL];
+    private final int[] rank = new int[MAX_LEVEL];
+
+    /**
+     * Default constructor, creates an empty list.
+     */
+    public IndexableSkipList() {
+        this.head = new SkipNode(null, MAX_LEVEL);
+        // the bottom level starts out as a single link from the head to the end
+        this.head.span[0] = 1;
+        this.tail = null;
+        this.level = 1;
+        this.count = 0;
+        this.random = new SplittableRandom();
+    }
+
+    /**
+     * Gets the number of elements in the list.
+     * @return The number of elements in the list.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Appends the data to the end of the list. An O(log n) operation.
+     * @param data The data to add
+     * @return The data added
+     * @throws IllegalArgumentException Thrown if the data is null
+     */
+    public T append(T data) throws IllegalArgumentException {
+        return insert(data, count);
+    }
+
+    /**
+     * Inserts the data at the given index. Inserting at index getCount() appends. An O(log n) operation.
+     * @param data The data to add
+     * @param index The index to insert at
+     * @return The data added
+     * @throws IllegalArgumentException Thrown if the data is null or the index is out of range
+     */
+    public T insert(T data, int index) throws IllegalArgumentException {
+        if (data == null) {
+            throw new IllegalArgumentException("Argument `data` cannot be null.", new NullPointerException());
+        }
+        if (index < 0 || index > count) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+
+        findPredecessors(index);
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int l = level; l < nodeLevel; l++) {
+                // a new level starts out as a single link from the head to the end
+                update[l] = head;
+                rank[l] = -1;
+                head.next[l] = null;
+                head.span[l] = count + 1;
+            }
+            level = nodeLevel;
+        }
+
+        SkipNode node = new SkipNode(data, nodeLevel);
+        for (int l = 0; l < nodeLevel; l++) {
+            SkipNode predecessor = update[l];
+            node.next[l] = predecessor.next[l];
+            // the old link now runs past one more position, split between the predecessor and the new Node
+            node.span[l] = rank[l] + predecessor.span[l] + 1 - index;
+            predecessor.next[l] = node;
+            predecessor.span[l] = index - rank[l];
+        }
+        for (int l = nodeLevel; l < level; l++) {
+            update[l].span[l]++;
+        }
+
+        SkipNode successor = node.next[0];
+        node.prev = update[0] == head ? null : update[0];
+        if (successor == null) {
+            tail = node;
+        } else {
+            successor.prev = node;
+        }
+        count++;
+        modCount++;
+        return data;
+    }
+
+    /**
+     * Deletes the element at the given index. An O(log n) operation.
+     * @param index The index of the element to delete
+     * @throws IllegalArgumentException Thrown if the index is out of range
+     */
+    public void delete(int index) throws IllegalArgumentException {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+
+        findPredecessors(index);
+        SkipNode node = update[0].next[0];
+        for (int l = 0; l < level; l++) {
+            SkipNode predecessor = update[l];
+            if (predecessor.next[l] == node) {
+                predecessor.next[l] = node.next[l];
+                predecessor.span[l] += node.span[l] - 1;
+            } else {
+                predecessor.span[l]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+
+        SkipNode successor = node.next[0];
+        if (successor == null) {
+            tail = node.prev;
+        } else {
+            successor.prev = node.prev;
+        }
+        // release the data, the links are left for any cursor still holding the Node
+        node.data = null;
+        count--;
+        modCount++;
+    }
+
+    /**
+     * Gets the data at the given index. An O(log n) operation, and constant time for the last element.
+     * @param index The index desired
+     * @return The data at the index
+     * @throws IllegalArgumentException Thrown if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) throws IllegalArgumentException {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+        if (index == count - 1) { return (T) tail.data; }
+
+        SkipNode node = head;
+        int position = -1;
+        for (int l = level - 1; l >= 0; l--) {
+            while (node.next[l] != null && position + node.span[l] <= index) {
+                position += node.span[l];
+                node = node.next[l];
+            }
+            if (position == index) { break; }
+        }
+        return (T) node.data;
+    }
+
+    /**
+     * Tests for emptiness of the list.
+     * @return true for an empty list, false otherwise
+     */
+    public boolean empty() {
+        return count == 0;
+    }
+
+    /**
+     * Deletes all elements in the list. A constant time operation, the Nodes are left to the garbage collector.
+     */
+    public void clear() {
+        Arrays.fill(head.next, null);
+        head.span[0] = 1;
+        tail = null;
+        level = 1;
+        count = 0;
+        modCount++;
+    }
+
+    /**
+     * Removes the elements from the given index to the end of the list and returns them as a new list. An
+     * O(log n) operation: the Nodes are handed over rather than copied, and only the links crossing the index
+     * on each level are cut, with their spans recomputed for the list each side now belongs to.
+     * @param index The index of the first element to move, getCount() to move none
+     * @return A list of the elements removed
+     * @throws IllegalArgumentException Thrown if the index is out of range
+     */
+    public IndexableSkipList<T> splitAt(int index) throws IllegalArgumentException {
+        if (index < 0 || index > count) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+
+        IndexableSkipList<T> split = new IndexableSkipList<>();
+        if (index == count) { return split; }
+        findPredecessors(index);
+        for (int l = 0; l < level; l++) {
+            SkipNode predecessor = update[l];
+            // the link crossing the index now starts at the split's head, position -1 where it was index - 1
+            split.head.next[l] = predecessor.next[l];
+            split.head.span[l] = rank[l] + predecessor.span[l] - index + 1;
+            predecessor.next[l] = null;
+            predecessor.span[l] = index - rank[l];
+        }
+        split.level = level;
+        while (split.level > 1 && split.head.next[split.level - 1] == null) {
+            split.level--;
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+
+        split.head.next[0].prev = null;
+        split.tail = tail;
+        split.count = count - index;
+        tail = update[0] == head ? null : update[0];
+        count = index;
+        modCount++;
+        return split;
+    }
+
+    /**
+     * Gets an iterator over the data in the list, from head to tail.
+     * @return An iterator, which is also a cursor.
+     */
+    public Iterator<T> iterator() {
+        return cursor();
+    }
+
+    /**
+     * Gets a cursor positioned before the head of the list. The cursor moves in either direction in constant
+     * time, and inserts and removes at its position in O(log n).
+     * @return A cursor at the start of the list.
+     */
+    public ListCursor<T> cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Fills update and rank with the last Node before the given index on each level in use, and its position.
+     * @param index An index from 0 to getCount() inclusive
+     */
+    private void findPredecessors(int index) {
+        SkipNode node = head;
+        int position = -1;
+        for (int l = level - 1; l >= 0; l--) {
+            while (node.next[l] != null && position + node.span[l] < index) {
+                position += node.span[l];
+                node = node.next[l];
+            }
+            update[l] = node;
+            rank[l] = position;
+        }
+    }
+
+    /**
+     * Picks a level for a new Node: 1 with probability 1/2, 2 with probability 1/4, and so on.
+     * @return A level from 1 to MAX_LEVEL
+     */
+    private int randomLevel() {
+        return Integer.numberOfTrailingZeros(random.nextInt() | (1 << (MAX_LEVEL - 1))) + 1;
+    }
+
+    /**
+     * A Node of the skip list. span[l] is the number of positions from this Node to next[l], or to one past
+     * the last element if next[l] is null.
+     */
+    private static final class SkipNode {
+        private Object data;
+        private final SkipNode[] next;
+        private final int[] span;
+        private SkipNode prev;
+
+        SkipNode(Object data, int level) {
+            this.data = data;
+            this.next = new SkipNode[level];
+            this.span = new int[level];
+        }
+    }
+
+    /**
+     * Bidirectional cursor over the list, walking the bottom level and tracking the Node after the cursor
+     * and the Node last returned.
+     */
+    private final class Cursor implements ListCursor<T> {
+        /**
+         * The Node after the cursor, null if the cursor is at the end of the list.
+         */
+        private SkipNode after;
+
+        /**
+         * The Node last returned by next() or previous(), null if it may not be removed.
+         */
+        private SkipNode lastReturned;
+
+        private int nextIndex;
+        private int expectedModCount;
+
+        Cursor() {
+            this.after = head.next[0];
+            this.lastReturned = null;
+            this.nextIndex = 0;
+            this.expectedModCount = modCount;
+        }
+
+        public boolean hasNext() {
+            checkForComodification();
+            return after != null;
+        }
+
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            if (after == null) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = after;
+            after = after.next[0];
+            nextIndex++;
+            return (T) lastReturned.data;
+        }
+
+        public boolean hasPrevious() {
+            checkForComodification();
+            return nextIndex > 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        public T previous() {
+            checkForComodification();
+            if (nextIndex == 0) {
+                throw new NoSuchElementException();
+            }
+            after = after == null ? tail : after.prev;
+            lastReturned = after;
+            nextIndex--;
+            return (T) lastReturned.data;
+        }
+
+        public int nextIndex() {
+            checkForComodification();
+            return nextIndex;
+        }
+
+        public void insert(T data) {
+            checkForComodification();
+            IndexableSkipList.this.insert(data, nextIndex);
+            lastReturned = null;
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException("Neither next() nor previous() has been called since the last insert() or remove().");
+            }
+
+            if (lastReturned == after) {
+                // moving backward, the cursor was before the removed Node
+                after = after.next[0];
+            } else {
+                nextIndex--;
+            }
+            delete(nextIndex);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
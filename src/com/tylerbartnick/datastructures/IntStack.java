@@ -0,0 +1,107 @@
+package com.tylerbartnick.datastructures;
+
+import java.lang.IllegalArgumentException;
+import java.lang.IndexOutOfBoundsException;
+import java.util.Arrays;
+
+/**
+ * An array-backed Stack of primitive ints. Values are stored unboxed, so pushing and
+ * popping never allocate once the array has grown large enough for the workload.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class IntStack {
+    /**
+     * The capacity used by the default constructor.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The internal representation of the Stack, the bottom of the Stack being index 0.
+     */
+    private int[] elements;
+
+    /**
+     * The current number of values in the Stack, also the index of the next free slot.
+     */
+    private int count;
+
+    /**
+     * Default constructor creates an empty Stack.
+     */
+    public IntStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty Stack able to hold the given number of values before it needs to grow.
+     * @param initialCapacity The initial capacity
+     * @throws IllegalArgumentException Thrown if the initial capacity is less than 1
+     */
+    public IntStack(int initialCapacity) throws IllegalArgumentException {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException(String.format("Capacity %d is out of range.", initialCapacity));
+        }
+        this.elements = new int[initialCapacity];
+        this.count = 0;
+    }
+
+    /**
+     * The value to push onto the top of the Stack.
+     * @param value The value to be added to the Stack.
+     */
+    public void push(int value) {
+        if (count == elements.length) {
+            elements = Arrays.copyOf(elements, PrimitiveArrays.grownCapacity(elements.length));
+        }
+        elements[count++] = value;
+    }
+
+    /**
+     * Removes and returns the value at the top of the Stack.
+     * @return The value at the top of the Stack.
+     * @throws IllegalArgumentException Thrown if the Stack is empty
+     */
+    public int pop() throws IllegalArgumentException {
+        if (count == 0) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+        return elements[--count];
+    }
+
+    /**
+     * Returns, but DOES NOT remove the value at the top of the stack.
+     * @return The value at the top of the Stack.
+     * @throws IllegalArgumentException Thrown if the Stack is empty
+     */
+    public int peek() throws IllegalArgumentException {
+        if (count == 0) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+        return elements[count - 1];
+    }
+
+    /**
+     * Returns the total number of values in the Stack.
+     * @return The number of values in the Stack.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Tests for emptiness of the Stack. Returns true if empty, false otherwise.
+     * @return true if empty, false otherwise.
+     */
+    public boolean empty() {
+        return count == 0;
+    }
+
+    /**
+     * Empties the Stack. A constant time operation, as there are no references to release.
+     */
+    public void clear() {
+        count = 0;
+    }
+}
@@ -0,0 +1,64 @@
+package com.tylerbartnick.datastructures;
+
+import java.util.Iterator;
+
+/**
+ * A cursor over a linked list that sits between two elements and can insert or remove at its
+ * position in constant time, without re-traversing the list from either end. Moving forward is
+ * always supported; moving backward is only supported by doubly-linked lists.
+ *
+ * A cursor is fail-fast: once its list has been structurally modified by anything other than
+ * the cursor itself, every further operation throws a ConcurrentModificationException.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public interface ListCursor<T> extends Iterator<T> {
+    /**
+     * Determines if there is an element after the cursor.
+     * @return true if next() will return an element, false otherwise
+     */
+    public boolean hasNext();
+
+    /**
+     * Moves the cursor past the next element and returns it.
+     * @return The element after the cursor
+     * @throws java.util.NoSuchElementException Thrown if the cursor is at the end of the list
+     */
+    public T next();
+
+    /**
+     * Determines if there is an element before the cursor.
+     * @return true if previous() will return an element, false otherwise
+     * @throws UnsupportedOperationException Thrown if the list cannot be traversed backward
+     */
+    public boolean hasPrevious();
+
+    /**
+     * Moves the cursor back past the previous element and returns it.
+     * @return The element before the cursor
+     * @throws java.util.NoSuchElementException Thrown if the cursor is at the start of the list
+     * @throws UnsupportedOperationException Thrown if the list cannot be traversed backward
+     */
+    public T previous();
+
+    /**
+     * Gets the index of the element after the cursor.
+     * @return The index next() would return the element of, or the list's count at the end
+     */
+    public int nextIndex();
+
+    /**
+     * Inserts data at the cursor, so that it is the element before the cursor. A subsequent next()
+     * is unaffected, while a subsequent previous() returns the inserted data. A constant time operation.
+     * @param data The data to insert
+     * @throws IllegalArgumentException Thrown if the data is null
+     */
+    public void insert(T data);
+
+    /**
+     * Removes the element last returned by next() or previous(). A constant time operation.
+     * @throws IllegalStateException Thrown if neither has been called since the last insert() or remove()
+     */
+    public void remove();
+}
@@ -0,0 +1,297 @@
+package com.tylerbartnick.datastructures;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.lang.IllegalArgumentException;
+import java.lang.IllegalStateException;
+import java.lang.NullPointerException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes the linked structures to a channel in a compact binary format and reads them back. The format is a
+ * short header holding the element count, followed by each element as its encoded length and then the bytes
+ * an ElementCodec<T> encodes it to:
+ *
+ *     int magic, int version, long count, then count times: int length, byte[length] element
+ *
+ * Elements are streamed through a single reusable buffer, so writing a list never holds more than one buffer
+ * of it in memory, and both directions walk the list in a loop rather than recursing down a chain of Nodes
+ * as Java serialization does, so the length of a list is limited only by memory. Reading appends each element
+ * at the tail, a constant time operation for the linked lists, so loading never traverses the list.
+ *
+ * Reading is buffered and may read past the end of a list, so a channel should hold nothing after the list
+ * it is read from. A serializer reuses its buffer between calls and so may only be used by one thread at a
+ * time.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class ListSerializer<T> {
+    /**
+     * "LLST", identifying the format.
+     */
+    private static final int MAGIC = 0x4C4C5354;
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES;
+    private static final int LENGTH_SIZE = Integer.BYTES;
+
+    /**
+     * The buffer size used by the default constructor, 64 KiB.
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 64 << 10;
+
+    private final ElementCodec<T> codec;
+
+    /**
+     * Elements are encoded into and decoded out of this buffer. Elements too large for it get a buffer of
+     * their own.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Creates a serializer with a 64 KiB buffer.
+     * @param codec Encodes and decodes the elements
+     * @throws IllegalArgumentException Thrown if the codec is null
+     */
+    public ListSerializer(ElementCodec<T> codec) throws IllegalArgumentException {
+        this(codec, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a serializer streaming through a buffer of the given size.
+     * @param codec Encodes and decodes the elements
+     * @param bufferSize The size of the buffer in bytes
+     * @throws IllegalArgumentException Thrown if the codec is null or the buffer size is out of range
+     */
+    public ListSerializer(ElementCodec<T> codec, int bufferSize) throws IllegalArgumentException {
+        if (codec == null) {
+            throw new IllegalArgumentException("Argument `codec` cannot be null.", new NullPointerException());
+        }
+        if (bufferSize < HEADER_SIZE) {
+            throw new IllegalArgumentException(String.format("Buffer size %d is out of range.", bufferSize));
+        }
+        this.codec = codec;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Writes the list to the channel, from head to tail.
+     * @param list The list to write
+     * @param channel The channel to write to, left open
+     * @return The number of bytes written
+     * @throws IllegalArgumentException Thrown if the list or channel is null
+     * @throws IOException Thrown if the channel cannot be written to
+     */
+    public long write(ILinkedList<T> list, WritableByteChannel channel) throws IllegalArgumentException, IOException {
+        if (list == null) {
+            throw new IllegalArgumentException("Argument `list` cannot be null.", new NullPointerException());
+        }
+        return write(list, list.getCount(), channel);
+    }
+
+    /**
+     * Writes the Stack to the channel, from the top down, leaving it unchanged.
+     * @param stack The Stack to write
+     * @param channel The channel to write to, left open
+     * @return The number of bytes written
+     * @throws IllegalArgumentException Thrown if the Stack or channel is null
+     * @throws IOException Thrown if the channel cannot be written to
+     */
+    public long write(Stack<T> stack, WritableByteChannel channel) throws IllegalArgumentException, IOException {
+        if (stack == null) {
+            throw new IllegalArgumentException("Argument `stack` cannot be null.", new NullPointerException());
+        }
+        return write(stack.elements(), channel);
+    }
+
+    /**
+     * Writes the queue to the channel, from head to tail, leaving it unchanged.
+     * @param queue The queue to write
+     * @param channel The channel to write to, left open
+     * @return The number of bytes written
+     * @throws IllegalArgumentException Thrown if the queue or channel is null
+     * @throws IOException Thrown if the channel cannot be written to
+     */
+    public long write(Queue<T> queue, WritableByteChannel channel) throws IllegalArgumentException, IOException {
+        if (queue == null) {
+            throw new IllegalArgumentException("Argument `queue` cannot be null.", new NullPointerException());
+        }
+        return write(queue.elements(), channel);
+    }
+
+    /**
+     * Reads a list from the channel, appending its elements to the given list in order.
+     * @param channel The channel to read from, left open
+     * @param target The list to append to, usually empty
+     * @return The target list
+     * @throws IllegalArgumentException Thrown if the channel or target is null
+     * @throws IOException Thrown if the channel cannot be read, ends early or does not hold a list
+     */
+    public <L extends ILinkedList<T>> L read(ReadableByteChannel channel, L target) throws IllegalArgumentException, IOException {
+        if (target == null) {
+            throw new IllegalArgumentException("Argument `target` cannot be null.", new NullPointerException());
+        }
+        requireChannel(channel);
+
+        buffer.clear().limit(0);
+        fill(channel, HEADER_SIZE);
+        if (buffer.getInt() != MAGIC) {
+            throw new StreamCorruptedException("Channel does not hold a serialized list.");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new StreamCorruptedException(String.format("Unsupported list format version %d.", version));
+        }
+        long count = buffer.getLong();
+        if (count < 0) {
+            throw new StreamCorruptedException(String.format("Invalid element count %d.", count));
+        }
+
+        for (long i = 0; i < count; i++) {
+            fill(channel, LENGTH_SIZE);
+            int length = buffer.getInt();
+            if (length < 0) {
+                throw new StreamCorruptedException(String.format("Invalid element length %d.", length));
+            }
+            target.append(length <= buffer.capacity() ? decode(channel, length) : decodeLarge(channel, length));
+        }
+        return target;
+    }
+
+    /**
+     * Reads a Stack from the channel, with the same top as the Stack written.
+     * @param channel The channel to read from
+     * @return The Stack
+     * @throws IllegalArgumentException Thrown if the channel is null
+     * @throws IOException Thrown if the channel cannot be read, ends early or does not hold a list
+     */
+    public Stack<T> readStack(ReadableByteChannel channel) throws IllegalArgumentException, IOException {
+        Stack<T> stack = new Stack<>();
+        read(channel, stack.elements());
+        return stack;
+    }
+
+    /**
+     * Reads a queue from the channel, with the same head as the queue written.
+     * @param channel The channel to read from
+     * @return The queue
+     * @throws IllegalArgumentException Thrown if the channel is null
+     * @throws IOException Thrown if the channel cannot be read, ends early or does not hold a list
+     */
+    public Queue<T> readQueue(ReadableByteChannel channel) throws IllegalArgumentException, IOException {
+        Queue<T> queue = new Queue<>();
+        read(channel, queue.elements());
+        return queue;
+    }
+
+    /**
+     * Writes the header and then every element, flushing the buffer whenever the next element does not fit.
+     */
+    private long write(Iterable<T> elements, int count, WritableByteChannel channel) throws IOException {
+        requireChannel(channel);
+        buffer.clear();
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(count);
+        long written = 0;
+        long remaining = count;
+        for (T data : elements) {
+            if (remaining-- == 0) {
+                throw new IllegalStateException("List changed while it was being written.");
+            }
+            int size = codec.size(data);
+            if (buffer.remaining() < LENGTH_SIZE + size) {
+                written += drain(channel, buffer);
+            }
+            buffer.putInt(size);
+            if (size <= buffer.remaining()) {
+                encode(data, size, buffer);
+            } else {
+                // too large for the buffer, so it gets one of its own
+                written += drain(channel, buffer);
+                ByteBuffer large = ByteBuffer.allocate(size);
+                encode(data, size, large);
+                written += drain(channel, large);
+                buffer.clear();
+            }
+        }
+        if (remaining != 0) {
+            throw new IllegalStateException("List changed while it was being written.");
+        }
+        return written + drain(channel, buffer);
+    }
+
+    private void encode(T data, int size, ByteBuffer target) {
+        int start = target.position();
+        codec.encode(data, target);
+        if (target.position() - start != size) {
+            throw new IllegalStateException(String.format("Codec wrote %d bytes, expected %d.", target.position() - start, size));
+        }
+    }
+
+    /**
+     * Decodes an element that fits in the buffer, reading more of the channel first if need be.
+     */
+    private T decode(ReadableByteChannel channel, int length) throws IOException {
+        fill(channel, length);
+        int end = buffer.position() + length;
+        int limit = buffer.limit();
+        // keep a misbehaving codec from reading into the next element
+        buffer.limit(end);
+        T data = codec.decode(buffer, length);
+        buffer.limit(limit).position(end);
+        return data;
+    }
+
+    /**
+     * Decodes an element too large for the buffer through a buffer of its own.
+     */
+    private T decodeLarge(ReadableByteChannel channel, int length) throws IOException {
+        ByteBuffer large = ByteBuffer.allocate(length);
+        large.put(buffer);
+        while (large.hasRemaining()) {
+            if (channel.read(large) < 0) {
+                throw new EOFException("Channel ended in the middle of a list.");
+            }
+        }
+        buffer.clear().limit(0);
+        return codec.decode(large.flip(), length);
+    }
+
+    /**
+     * Ensures the buffer holds at least the given number of unread bytes, reading more of the channel as
+     * needed.
+     */
+    private void fill(ReadableByteChannel channel, int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) { return; }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Channel ended in the middle of a list.");
+            }
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Writes out everything put into a buffer and empties it.
+     * @return The number of bytes written
+     */
+    private static long drain(WritableByteChannel channel, ByteBuffer source) throws IOException {
+        source.flip();
+        long written = source.remaining();
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+        source.clear();
+        return written;
+    }
+
+    private static void requireChannel(Object channel) throws IllegalArgumentException {
+        if (channel == null) {
+            throw new IllegalArgumentException("Argument `channel` cannot be null.", new NullPointerException());
+        }
+    }
+}
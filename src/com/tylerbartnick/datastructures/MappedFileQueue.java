@@ -0,0 +1,459 @@
+package com.tylerbartnick.datastructures;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.IllegalArgumentException;
+import java.lang.IllegalStateException;
+import java.lang.NullPointerException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * A durable Queue kept in memory-mapped files, for backlogs too large for the heap. Elements are encoded
+ * by an ElementCodec<T> straight into append-only segment files of a fixed size and decoded straight out of
+ * the mapping, so they never pass through an intermediate buffer and the heap holds nothing per element.
+ * When a segment fills up the queue rolls over to a new one, and a segment is deleted as soon as every
+ * element in it has been dequeued, so the backlog is bounded by disk space rather than heap.
+ *
+ * The position of the head is kept in a small mapped file alongside the segments and updated on every
+ * dequeue. Opening a queue on a directory that already holds one picks up where it left off: the elements
+ * enqueued but not yet dequeued are found again by scanning forward from the saved head. An existing queue
+ * keeps the segment size it was created with.
+ *
+ * Each record is written before its length, and the header slot after it is cleared before the length is
+ * written, so a process that dies mid-enqueue leaves no torn element behind, and the unpublished bytes it
+ * leaves are never mistaken for a header once a later record is written over them. The operating system
+ * writes mapped pages back in its own time; flush() forces the current segment and the head position to
+ * disk, and a segment is forced as the queue rolls past it, which is what protects against a machine
+ * rather than a process crashing.
+ *
+ * Every method is synchronized, so producers and consumers may use the queue from different threads, but
+ * only one instance at a time may have a given directory open.
+ * dequeue() and the peek methods return null when the queue is empty, and null elements are rejected.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class MappedFileQueue<T> implements IQueue<T>, AutoCloseable {
+    /**
+     * The segment size used by the default constructor, 64 MiB.
+     */
+    private static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+    /**
+     * The smallest segment size allowed, enough for a few small elements.
+     */
+    private static final int MINIMUM_SEGMENT_SIZE = 64;
+
+    /**
+     * The largest segment size allowed, 1 GiB, small enough that an offset plus a record never overflows an int.
+     */
+    private static final int MAXIMUM_SEGMENT_SIZE = 1 << 30;
+
+    /**
+     * Each record starts with its encoded length plus one, so an unwritten header, which reads as zero, is
+     * told apart from an empty element.
+     */
+    private static final int HEADER = Integer.BYTES;
+
+    /**
+     * Written in place of a header where the queue rolled over to the next segment.
+     */
+    private static final int END_OF_SEGMENT = -1;
+
+    private static final String POSITION_FILE = "head.position";
+    private static final String SEGMENT_SUFFIX = ".segment";
+
+    /**
+     * The layout of the position file: the head as segment << 32 | offset, written in one store so it is
+     * never seen half updated, followed by the segment size.
+     */
+    private static final int POSITION_HEAD = 0;
+    private static final int POSITION_SEGMENT_SIZE = Long.BYTES;
+    private static final int POSITION_FILE_SIZE = Long.BYTES + Integer.BYTES;
+
+    private final Path directory;
+    private final ElementCodec<T> codec;
+    private final int segmentSize;
+
+    /**
+     * The mapped position file.
+     */
+    private MappedByteBuffer position;
+
+    /**
+     * The segment holding the head, and the offset of the head's record within it.
+     */
+    private long headSegment;
+    private int headOffset;
+    private MappedByteBuffer headBuffer;
+
+    /**
+     * The segment being appended to, and the offset the next record will be written at.
+     */
+    private long tailSegment;
+    private int tailOffset;
+    private MappedByteBuffer tailBuffer;
+
+    /**
+     * Where the last record was written, for peekTail().
+     */
+    private MappedByteBuffer lastBuffer;
+    private int lastOffset;
+
+    /**
+     * The number of elements enqueued and not yet dequeued.
+     */
+    private long count;
+
+    /**
+     * Opens the queue kept in the given directory, creating it if there is none, with 64 MiB segments.
+     * @param directory The directory holding the queue's files
+     * @param codec Encodes and decodes the elements
+     * @throws IllegalArgumentException Thrown if the directory or codec is null
+     * @throws IOException Thrown if the queue's files cannot be created or read
+     */
+    public MappedFileQueue(Path directory, ElementCodec<T> codec) throws IllegalArgumentException, IOException {
+        this(directory, codec, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens the queue kept in the given directory, creating it if there is none.
+     * @param directory The directory holding the queue's files
+     * @param codec Encodes and decodes the elements
+     * @param segmentSize The size of each segment file, from 64 bytes to 1 GiB, ignored if the queue already exists
+     * @throws IllegalArgumentException Thrown if the directory or codec is null or the segment size is out of range
+     * @throws IOException Thrown if the queue's files cannot be created or read
+     */
+    public MappedFileQueue(Path directory, ElementCodec<T> codec, int segmentSize) throws IllegalArgumentException, IOException {
+        if (directory == null || codec == null) {
+            throw new IllegalArgumentException("Arguments `directory` and `codec` cannot be null.", new NullPointerException());
+        }
+        if (segmentSize < MINIMUM_SEGMENT_SIZE || segmentSize > MAXIMUM_SEGMENT_SIZE) {
+            throw new IllegalArgumentException(String.format("Segment size %d is out of range.", segmentSize));
+        }
+
+        Files.createDirectories(directory);
+        this.directory = directory;
+        this.codec = codec;
+        this.position = map(directory.resolve(POSITION_FILE), POSITION_FILE_SIZE);
+        int savedSize = position.getInt(POSITION_SEGMENT_SIZE);
+        if (savedSize != 0 && (savedSize < MINIMUM_SEGMENT_SIZE || savedSize > MAXIMUM_SEGMENT_SIZE)) {
+            throw new IOException(String.format("Position file holds an invalid segment size %d.", savedSize));
+        }
+        this.segmentSize = savedSize != 0 ? savedSize : segmentSize;
+        position.putInt(POSITION_SEGMENT_SIZE, this.segmentSize);
+        recover();
+    }
+
+    /**
+     * Add the data supplied to the end of the queue, rolling over to a new segment if it does not fit in
+     * the current one.
+     * @param data The data to add
+     * @return The data added
+     * @throws IllegalArgumentException Thrown if the data is null or too large to fit in a segment
+     * @throws IllegalStateException Thrown if the queue is closed, or the codec wrote the wrong number of bytes
+     * @throws UncheckedIOException Thrown if a new segment cannot be created
+     */
+    public synchronized T enqueue(T data) throws IllegalArgumentException, IllegalStateException {
+        checkOpen();
+        if (data == null) {
+            throw new IllegalArgumentException("Argument `data` cannot be null.", new NullPointerException());
+        }
+        int size = codec.size(data);
+        if (size < 0 || size > segmentSize - HEADER) {
+            throw new IllegalArgumentException(String.format("Element of %d bytes does not fit in a segment.", size));
+        }
+
+        if (tailOffset + HEADER + size > segmentSize) {
+            roll();
+        }
+        tailBuffer.position(tailOffset + HEADER);
+        codec.encode(data, tailBuffer);
+        if (tailBuffer.position() != tailOffset + HEADER + size) {
+            throw new IllegalStateException(String.format("Codec wrote %d bytes, expected %d.",
+                    tailBuffer.position() - tailOffset - HEADER, size));
+        }
+        // clear the next header slot, which may hold bytes of a record a crash left unpublished, so a scan
+        // stops after this record rather than reading those bytes as a header
+        int next = tailOffset + HEADER + size;
+        if (next + HEADER <= segmentSize) {
+            tailBuffer.putInt(next, 0);
+        }
+        // the header goes last, so the record only becomes visible once it is complete
+        tailBuffer.putInt(tailOffset, size + 1);
+        lastBuffer = tailBuffer;
+        lastOffset = tailOffset;
+        tailOffset += HEADER + size;
+        count++;
+        return data;
+    }
+
+    /**
+     * Remove and return the data at the head of the queue, deleting the head's segment if this empties it.
+     * @return The data at the head of the queue, null if empty
+     * @throws IllegalStateException Thrown if the queue is closed
+     * @throws UncheckedIOException Thrown if a consumed segment cannot be deleted or the next one read
+     */
+    public synchronized T dequeue() throws IllegalStateException {
+        checkOpen();
+        if (count == 0) { return null; }
+
+        int length = headBuffer.getInt(headOffset) - 1;
+        T data = decode(headBuffer, headOffset, length);
+        headOffset += HEADER + length;
+        count--;
+        saveHead();
+        skipConsumedSegments();
+        return data;
+    }
+
+    /**
+     * Gets the number of elements in the queue, or Integer.MAX_VALUE if there are more. A constant time operation.
+     * @return The number of elements in the queue.
+     */
+    public synchronized int count() {
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets the number of elements in the queue, which may exceed the range of an int.
+     * @return The number of elements in the queue.
+     */
+    public synchronized long longCount() {
+        return count;
+    }
+
+    /**
+     * Determines if the queue is empty. True if so, false otherwise.
+     * @return true if empty, false otherwise
+     */
+    public synchronized boolean empty() {
+        return count == 0;
+    }
+
+    /**
+     * Clears all elements in the queue, deleting every segment but the one being appended to.
+     * @throws IllegalStateException Thrown if the queue is closed
+     * @throws UncheckedIOException Thrown if a segment cannot be deleted
+     */
+    public synchronized void clear() throws IllegalStateException {
+        checkOpen();
+        long first = headSegment;
+        headSegment = tailSegment;
+        headOffset = tailOffset;
+        headBuffer = tailBuffer;
+        count = 0;
+        saveHead();
+        for (long segment = first; segment < tailSegment; segment++) {
+            delete(segment);
+        }
+    }
+
+    /**
+     * Gets and returns the data at the head of the queue, but does not remove it from the queue.
+     * @return The data at the head of the queue, null if empty
+     * @throws IllegalStateException Thrown if the queue is closed
+     */
+    public synchronized T peekHead() throws IllegalStateException {
+        checkOpen();
+        if (count == 0) { return null; }
+        return decode(headBuffer, headOffset, headBuffer.getInt(headOffset) - 1);
+    }
+
+    /**
+     * Gets and returns the data at the tail of the queue, but does not remove it from the queue.
+     * @return The data at the tail of the queue, null if empty
+     * @throws IllegalStateException Thrown if the queue is closed
+     */
+    public synchronized T peekTail() throws IllegalStateException {
+        checkOpen();
+        if (count == 0) { return null; }
+        return decode(lastBuffer, lastOffset, lastBuffer.getInt(lastOffset) - 1);
+    }
+
+    /**
+     * Gets the number of segment files the queue currently spans.
+     * @return The number of segments.
+     */
+    public synchronized long segmentCount() {
+        return tailSegment - headSegment + 1;
+    }
+
+    /**
+     * Forces the segment being appended to and the head position out to disk.
+     * @throws IllegalStateException Thrown if the queue is closed
+     */
+    public synchronized void flush() throws IllegalStateException {
+        checkOpen();
+        tailBuffer.force();
+        position.force();
+    }
+
+    /**
+     * Flushes the queue and releases its mappings. The files are kept, to be opened again later; any
+     * further use of this instance throws IllegalStateException.
+     */
+    public synchronized void close() {
+        if (position == null) { return; }
+        flush();
+        position = null;
+        headBuffer = null;
+        tailBuffer = null;
+        lastBuffer = null;
+    }
+
+    /**
+     * Finds the head from the position file and the tail and count by scanning forward from it, deleting
+     * any segment consumed before the last run stopped.
+     * @throws IOException Thrown if a segment cannot be read or deleted
+     */
+    private void recover() throws IOException {
+        long[] segments = listSegments();
+        long savedHead = position.getLong(POSITION_HEAD);
+        long savedSegment = savedHead >>> 32;
+        if (segments.length == 0) {
+            headSegment = savedSegment;
+            headOffset = 0;
+            headBuffer = map(segmentPath(headSegment), segmentSize);
+            tailSegment = headSegment;
+            tailOffset = 0;
+            tailBuffer = headBuffer;
+            saveHead();
+            return;
+        }
+
+        for (long segment : segments) {
+            if (segment < savedSegment) { Files.delete(segmentPath(segment)); }
+        }
+        long last = segments[segments.length - 1];
+        if (savedSegment >= segments[0] && savedSegment <= last) {
+            headSegment = savedSegment;
+            headOffset = (int) savedHead;
+        } else {
+            headSegment = segments[0];
+            headOffset = 0;
+        }
+
+        for (long segment = headSegment; segment <= last; segment++) {
+            MappedByteBuffer buffer = map(segmentPath(segment), segmentSize);
+            int offset = segment == headSegment ? headOffset : 0;
+            int header = 0;
+            // a header whose record would run past the end of the segment is not one, so the scan stops there
+            while (offset + HEADER <= segmentSize && (header = buffer.getInt(offset)) > 0
+                    && header - 1 <= segmentSize - HEADER - offset) {
+                lastBuffer = buffer;
+                lastOffset = offset;
+                count++;
+                offset += HEADER + header - 1;
+            }
+            if (segment == headSegment) { headBuffer = buffer; }
+            if (segment == last) {
+                tailSegment = segment;
+                tailBuffer = buffer;
+                // a segment already rolled past is not appended to again
+                tailOffset = header == END_OF_SEGMENT ? segmentSize : offset;
+            }
+        }
+        saveHead();
+        skipConsumedSegments();
+    }
+
+    /**
+     * Starts a new segment to append to, marking where the old one ends and forcing it to disk.
+     */
+    private void roll() {
+        MappedByteBuffer next = map(segmentPath(tailSegment + 1), segmentSize);
+        if (tailOffset + HEADER <= segmentSize) {
+            tailBuffer.putInt(tailOffset, END_OF_SEGMENT);
+        }
+        tailBuffer.force();
+        tailSegment++;
+        tailOffset = 0;
+        tailBuffer = next;
+        skipConsumedSegments();
+    }
+
+    /**
+     * Moves the head past any segments behind the tail's that hold no more records, deleting them, so that
+     * whenever the queue is not empty the head is at a record.
+     */
+    private void skipConsumedSegments() {
+        while (headSegment < tailSegment
+                && (headOffset + HEADER > segmentSize || headBuffer.getInt(headOffset) <= 0)) {
+            long consumed = headSegment;
+            headSegment++;
+            headOffset = 0;
+            headBuffer = headSegment == tailSegment ? tailBuffer : map(segmentPath(headSegment), segmentSize);
+            // save the new head before deleting, so a crash in between only leaves a consumed file behind
+            saveHead();
+            delete(consumed);
+        }
+    }
+
+    /**
+     * Decodes the record at the given offset, leaving the buffer's position wherever the codec leaves it.
+     */
+    private T decode(MappedByteBuffer buffer, int offset, int length) {
+        buffer.position(offset + HEADER);
+        return codec.decode(buffer, length);
+    }
+
+    private void saveHead() {
+        position.putLong(POSITION_HEAD, headSegment << 32 | headOffset);
+    }
+
+    private void checkOpen() throws IllegalStateException {
+        if (position == null) {
+            throw new IllegalStateException("Queue is closed.");
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%020d%s", segment, SEGMENT_SUFFIX));
+    }
+
+    private void delete(long segment) {
+        try {
+            Files.deleteIfExists(segmentPath(segment));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Lists the segments in the directory.
+     * @return The segment numbers, in ascending order
+     * @throws IOException Thrown if the directory cannot be read
+     */
+    private long[] listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            long[] segments = files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .mapToLong(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                    .toArray();
+            Arrays.sort(segments);
+            return segments;
+        }
+    }
+
+    /**
+     * Maps a file, creating it and extending it with zeros to the given size if need be.
+     * @param path The file
+     * @param size The number of bytes to map
+     * @return The mapping, which stays valid after the channel is closed
+     * @throws UncheckedIOException Thrown if the file cannot be created or mapped
+     */
+    private static MappedByteBuffer map(Path path, int size) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.tylerbartnick.datastructures;
+
+import java.lang.IllegalArgumentException;
+
+/**
+ * A free-list of wiped Nodes for the linked structures to recycle. A list given a pool at construction
+ * returns every Node it removes to the pool instead of leaving it for the garbage collector, and takes
+ * Nodes from the pool before allocating new ones, so a list whose size churns but stays roughly level
+ * stops allocating altogether. The pool holds at most a fixed number of Nodes, so a list that shrinks
+ * after a burst only keeps that many around.
+ *
+ * A pool may be shared by several lists, but is not thread-safe: every list using it must be used from
+ * the same thread, which makes one pool per thread a natural fit. Nodes are recycled, so a Node obtained
+ * from DoubleLinkedList.getHead() or getTail() must not be used once it has been removed from its list.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class NodePool<T> {
+    /**
+     * The cap used by the default constructor.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The most Nodes the pool will hold.
+     */
+    private final int capacity;
+
+    /**
+     * The first free Node, the rest being linked through their next refs.
+     */
+    private Node<T> free;
+
+    /**
+     * The number of free Nodes held.
+     */
+    private int size;
+
+    /**
+     * Default constructor, creates an empty pool holding at most 1024 Nodes.
+     */
+    public NodePool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty pool holding at most the given number of Nodes.
+     * @param capacity The most Nodes the pool will hold
+     * @throws IllegalArgumentException Thrown if the capacity is negative
+     */
+    public NodePool(int capacity) throws IllegalArgumentException {
+        if (capacity < 0) {
+            throw new IllegalArgumentException(String.format("Capacity %d is out of range.", capacity));
+        }
+        this.capacity = capacity;
+        this.free = null;
+        this.size = 0;
+    }
+
+    /**
+     * Gets the number of free Nodes currently held.
+     * @return The number of free Nodes.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the most Nodes the pool will hold.
+     * @return The capacity of the pool.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets how many more Nodes the pool will accept before it is full.
+     * @return The remaining room in the pool.
+     */
+    int room() {
+        return capacity - size;
+    }
+
+    /**
+     * Drops every free Node held, leaving them to the garbage collector.
+     */
+    public void clear() {
+        free = null;
+        size = 0;
+    }
+
+    /**
+     * Takes a Node from the pool, or allocates one if the pool is empty, holding the given data and no refs.
+     * @param data The data for the Node to hold
+     * @return A Node holding only the data
+     */
+    Node<T> acquire(T data) {
+        Node<T> node = free;
+        if (node == null) { return new Node<>(data); }
+
+        free = node.getNext();
+        size--;
+        node.setNext(null);
+        node.setData(data);
+        return node;
+    }
+
+    /**
+     * Returns a Node to the pool, unless the pool is full. The Node must already be wiped of data and refs,
+     * and must no longer be reachable from any list.
+     * @param node The Node to return
+     */
+    void release(Node<T> node) {
+        if (size == capacity) { return; }
+        node.setNext(free);
+        free = node;
+        size++;
+    }
+}
@@ -0,0 +1,95 @@
+package com.tylerbartnick.datastructures;
+
+import java.lang.IllegalArgumentException;
+
+/**
+ * A Queue of primitive longs stored outside the heap, for buffering far more values than would be sensible
+ * to box. Each value takes 8 bytes of direct memory rather than a Node, a boxed Long and their headers on
+ * the heap, and the chunks of direct memory are dropped as the queue drains, so the heap footprint stays
+ * flat and the garbage collector has almost nothing to trace however many values are held.
+ *
+ * Like LongStack, dequeuing from or peeking into an empty queue throws. The queue is not thread-safe.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class OffHeapLongQueue {
+    /**
+     * The values, first to last.
+     */
+    private final OffHeapSlots slots;
+
+    /**
+     * Default constructor creates an empty queue that allocates direct memory 512 KiB at a time.
+     */
+    public OffHeapLongQueue() {
+        this(OffHeapSlots.DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Creates an empty queue allocating direct memory in chunks of the given number of values.
+     * @param chunkCapacity The number of values per chunk, rounded up to a power of two
+     * @throws IllegalArgumentException Thrown if the chunk capacity is out of range
+     */
+    public OffHeapLongQueue(int chunkCapacity) throws IllegalArgumentException {
+        this.slots = new OffHeapSlots(chunkCapacity);
+    }
+
+    /**
+     * Adds the value to the end of the queue.
+     * @param value The value to add
+     */
+    public void enqueue(long value) {
+        slots.addLast(value);
+    }
+
+    /**
+     * Removes and returns the value at the head of the queue.
+     * @return The value at the head of the queue
+     * @throws IllegalArgumentException Thrown if the queue is empty
+     */
+    public long dequeue() throws IllegalArgumentException {
+        return slots.removeFirst();
+    }
+
+    /**
+     * Returns, but does not remove, the value at the head of the queue.
+     * @return The value at the head of the queue
+     * @throws IllegalArgumentException Thrown if the queue is empty
+     */
+    public long peekHead() throws IllegalArgumentException {
+        return slots.peekFirst();
+    }
+
+    /**
+     * Returns, but does not remove, the value at the tail of the queue.
+     * @return The value at the tail of the queue
+     * @throws IllegalArgumentException Thrown if the queue is empty
+     */
+    public long peekTail() throws IllegalArgumentException {
+        return slots.peekLast();
+    }
+
+    /**
+     * Returns the total number of values in the queue, which may exceed the range of an int.
+     * @return The number of values in the queue.
+     */
+    public long count() {
+        return slots.count();
+    }
+
+    /**
+     * Tests for emptiness of the queue. Returns true if empty, false otherwise.
+     * @return true if empty, false otherwise.
+     */
+    public boolean empty() {
+        return slots.count() == 0;
+    }
+
+    /**
+     * Empties the queue, dropping its direct memory but for one chunk kept for reuse.
+     */
+    public void clear() {
+        slots.clear();
+    }
+}
@@ -0,0 +1,86 @@
+package com.tylerbartnick.datastructures;
+
+import java.lang.IllegalArgumentException;
+
+/**
+ * A Stack of primitive longs stored outside the heap, for holding far more values than would be sensible
+ * to box. Each value takes 8 bytes of direct memory, and the Stack grows and shrinks a chunk of direct
+ * memory at a time rather than copying into an ever larger array as LongStack does, so the heap footprint
+ * stays flat however deep it gets and a shrinking Stack gives its memory back.
+ *
+ * Like LongStack, popping or peeking at an empty Stack throws. The Stack is not thread-safe.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class OffHeapLongStack {
+    /**
+     * The values, the bottom of the Stack first.
+     */
+    private final OffHeapSlots slots;
+
+    /**
+     * Default constructor creates an empty Stack that allocates direct memory 512 KiB at a time.
+     */
+    public OffHeapLongStack() {
+        this(OffHeapSlots.DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Creates an empty Stack allocating direct memory in chunks of the given number of values.
+     * @param chunkCapacity The number of values per chunk, rounded up to a power of two
+     * @throws IllegalArgumentException Thrown if the chunk capacity is out of range
+     */
+    public OffHeapLongStack(int chunkCapacity) throws IllegalArgumentException {
+        this.slots = new OffHeapSlots(chunkCapacity);
+    }
+
+    /**
+     * The value to push onto the top of the Stack.
+     * @param value The value to be added to the Stack.
+     */
+    public void push(long value) {
+        slots.addLast(value);
+    }
+
+    /**
+     * Removes and returns the value at the top of the Stack.
+     * @return The value at the top of the Stack.
+     * @throws IllegalArgumentException Thrown if the Stack is empty
+     */
+    public long pop() throws IllegalArgumentException {
+        return slots.removeLast();
+    }
+
+    /**
+     * Returns, but DOES NOT remove the value at the top of the stack.
+     * @return The value at the top of the Stack.
+     * @throws IllegalArgumentException Thrown if the Stack is empty
+     */
+    public long peek() throws IllegalArgumentException {
+        return slots.peekLast();
+    }
+
+    /**
+     * Returns the total number of values in the Stack, which may exceed the range of an int.
+     * @return The number of values in the Stack.
+     */
+    public long count() {
+        return slots.count();
+    }
+
+    /**
+     * Tests for emptiness of the Stack. Returns true if empty, false otherwise.
+     * @return true if empty, false otherwise.
+     */
+    public boolean empty() {
+        return slots.count() == 0;
+    }
+
+    /**
+     * Empties the Stack, dropping its direct memory but for one chunk kept for reuse.
+     */
+    public void clear() {
+        slots.clear();
+    }
+}
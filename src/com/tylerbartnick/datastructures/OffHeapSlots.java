@@ -0,0 +1,231 @@
+package com.tylerbartnick.datastructures;
+
+import java.lang.IllegalArgumentException;
+import java.lang.IndexOutOfBoundsException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+
+/**
+ * A double-ended sequence of 8-byte slots held outside the heap, shared by the off-heap queues and stacks.
+ * The slots live in fixed size chunks of direct memory, linked in order; values are added at the last chunk
+ * and removed from either end, a chunk being dropped as soon as it has been emptied so a draining sequence
+ * gives its memory back. The heap holds only one small buffer object per chunk, however many values there
+ * are.
+ *
+ * A dropped chunk's memory is freed when the garbage collector reclaims its buffer object. One emptied chunk
+ * is kept back as a spare for the next chunk needed, so a sequence hovering around a chunk boundary does not
+ * allocate and free direct memory over and over.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+final class OffHeapSlots {
+    /**
+     * The chunk size used by the default constructors, 512 KiB.
+     */
+    static final int DEFAULT_CHUNK_CAPACITY = 1 << 16;
+
+    /**
+     * The largest chunk, in slots, whose size in bytes still fits an int.
+     */
+    private static final int MAXIMUM_CHUNK_CAPACITY = 1 << 27;
+
+    /**
+     * The number of slots in each chunk, a power of two.
+     */
+    private final int chunkCapacity;
+
+    /**
+     * Every chunk in use, first to last. Never empty once the first value has been added.
+     */
+    private final ArrayDeque<ByteBuffer> chunks;
+
+    /**
+     * The first and last chunks, cached so the common case touches no other object.
+     */
+    private ByteBuffer first;
+    private ByteBuffer last;
+
+    /**
+     * The slot of the first value in the first chunk.
+     */
+    private int headOffset;
+
+    /**
+     * The slot after the last value in the last chunk.
+     */
+    private int tailOffset;
+
+    /**
+     * The number of values held.
+     */
+    private long count;
+
+    /**
+     * An emptied chunk kept for reuse, null if there is none.
+     */
+    private ByteBuffer spare;
+
+    /**
+     * Creates an empty sequence. No direct memory is allocated until the first value is added.
+     * @param chunkCapacity The number of slots per chunk, rounded up to a power of two
+     * @throws IllegalArgumentException Thrown if the chunk capacity is out of range
+     */
+    OffHeapSlots(int chunkCapacity) throws IllegalArgumentException {
+        if (chunkCapacity < 1 || chunkCapacity > MAXIMUM_CHUNK_CAPACITY) {
+            throw new IllegalArgumentException(String.format("Chunk capacity %d is out of range.", chunkCapacity));
+        }
+        this.chunkCapacity = chunkCapacity == 1 ? 1 : Integer.highestOneBit(chunkCapacity - 1) << 1;
+        this.chunks = new ArrayDeque<>();
+    }
+
+    /**
+     * Gets the number of values held.
+     * @return The number of values.
+     */
+    long count() {
+        return count;
+    }
+
+    /**
+     * Gets the number of slots per chunk.
+     * @return The chunk capacity.
+     */
+    int chunkCapacity() {
+        return chunkCapacity;
+    }
+
+    /**
+     * Gets the number of chunks currently holding values, not counting the spare.
+     * @return The number of chunks.
+     */
+    int chunkCount() {
+        return chunks.size();
+    }
+
+    /**
+     * Adds a value after the last one.
+     * @param bits The value
+     */
+    void addLast(long bits) {
+        if (last == null || tailOffset == chunkCapacity) {
+            ByteBuffer chunk = newChunk();
+            chunks.addLast(chunk);
+            if (first == null) { first = chunk; }
+            last = chunk;
+            tailOffset = 0;
+        }
+        last.putLong(tailOffset++ << 3, bits);
+        count++;
+    }
+
+    /**
+     * Removes and returns the first value.
+     * @return The first value
+     * @throws IllegalArgumentException Thrown if the sequence is empty
+     */
+    long removeFirst() throws IllegalArgumentException {
+        requireValues();
+        long bits = first.getLong(headOffset++ << 3);
+        if (--count == 0) {
+            reset();
+        } else if (headOffset == chunkCapacity) {
+            retire(chunks.pollFirst());
+            first = chunks.peekFirst();
+            headOffset = 0;
+        }
+        return bits;
+    }
+
+    /**
+     * Removes and returns the last value.
+     * @return The last value
+     * @throws IllegalArgumentException Thrown if the sequence is empty
+     */
+    long removeLast() throws IllegalArgumentException {
+        requireValues();
+        long bits = last.getLong(--tailOffset << 3);
+        if (--count == 0) {
+            reset();
+        } else if (tailOffset == 0) {
+            retire(chunks.pollLast());
+            last = chunks.peekLast();
+            tailOffset = chunkCapacity;
+        }
+        return bits;
+    }
+
+    /**
+     * Returns the first value without removing it.
+     * @return The first value
+     * @throws IllegalArgumentException Thrown if the sequence is empty
+     */
+    long peekFirst() throws IllegalArgumentException {
+        requireValues();
+        return first.getLong(headOffset << 3);
+    }
+
+    /**
+     * Returns the last value without removing it.
+     * @return The last value
+     * @throws IllegalArgumentException Thrown if the sequence is empty
+     */
+    long peekLast() throws IllegalArgumentException {
+        requireValues();
+        return last.getLong((tailOffset - 1) << 3);
+    }
+
+    /**
+     * Removes every value, dropping every chunk but one, which is kept as the spare.
+     */
+    void clear() {
+        if (spare == null) { spare = chunks.peekFirst(); }
+        chunks.clear();
+        first = null;
+        last = null;
+        headOffset = 0;
+        tailOffset = 0;
+        count = 0;
+    }
+
+    /**
+     * Restarts an emptied sequence at the start of its only remaining chunk, so no chunk is dropped and
+     * picked up again by a sequence that keeps emptying.
+     */
+    private void reset() {
+        headOffset = 0;
+        tailOffset = 0;
+    }
+
+    /**
+     * Gets a chunk to add values to, the spare if there is one.
+     * @return An empty chunk
+     */
+    private ByteBuffer newChunk() {
+        ByteBuffer chunk = spare;
+        if (chunk == null) {
+            return ByteBuffer.allocateDirect(chunkCapacity << 3).order(ByteOrder.nativeOrder());
+        }
+        spare = null;
+        return chunk;
+    }
+
+    /**
+     * Keeps an emptied chunk as the spare, or drops it if there already is one.
+     * @param chunk The emptied chunk
+     */
+    private void retire(ByteBuffer chunk) {
+        if (spare == null) { spare = chunk; }
+    }
+
+    /**
+     * Ensures there is a value to remove or peek.
+     * @throws IllegalArgumentException Thrown if the sequence is empty
+     */
+    private void requireValues() throws IllegalArgumentException {
+        if (count == 0) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.tylerbartnick.datastructures;
+
+import java.lang.IllegalArgumentException;
+import java.lang.IndexOutOfBoundsException;
+import java.lang.NullPointerException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable singly-linked list. Every list is a cell holding its first element and the rest of the list,
+ * and is never changed once built: prepend() returns a new list whose rest is the old one, so the old list
+ * is still intact and both share every cell after the new head. Taking a snapshot is just keeping a
+ * reference, and an edit copies only the cells in front of the position it changes, sharing everything
+ * behind it.
+ *
+ * Every field is final, so a list may be handed to any number of threads and read by all of them at once
+ * without locks; a thread that "changes" a list gets its own new version and nobody else sees it.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public final class PersistentList<T> implements Iterable<T> {
+    /**
+     * The empty list, shared by every element type since it holds no data.
+     */
+    private static final PersistentList<Object> EMPTY = new PersistentList<>();
+
+    /**
+     * The first element, null only for the empty list.
+     */
+    private final T head;
+
+    /**
+     * The list after the first element, null only for the empty list.
+     */
+    private final PersistentList<T> rest;
+
+    /**
+     * The number of elements, so getCount() need not walk the list.
+     */
+    private final int count;
+
+    /**
+     * Creates the empty list.
+     */
+    private PersistentList() {
+        this.head = null;
+        this.rest = null;
+        this.count = 0;
+    }
+
+    /**
+     * Creates a list of the data followed by the rest.
+     * @param head The first element
+     * @param rest The elements after it
+     */
+    private PersistentList(T head, PersistentList<T> rest) {
+        this.head = head;
+        this.rest = rest;
+        this.count = rest.count + 1;
+    }
+
+    /**
+     * Gets the empty list.
+     * @return The empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> emptyList() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Creates a list of the given elements in the order they are iterated. An O(n) operation.
+     * @param data The elements
+     * @return A list of the elements
+     * @throws IllegalArgumentException Thrown if the elements or any one of them is null
+     */
+    public static <T> PersistentList<T> from(Iterable<? extends T> data) throws IllegalArgumentException {
+        if (data == null) {
+            throw new IllegalArgumentException("Argument `data` cannot be null.", new NullPointerException());
+        }
+        PersistentList<T> reversed = emptyList();
+        for (T element : data) {
+            reversed = reversed.prepend(element);
+        }
+        return reversed.reverse();
+    }
+
+    /**
+     * Gets the number of elements in the list.
+     * @return The number of elements in the list.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Tests for emptiness of the list.
+     * @return true for an empty list, false otherwise
+     */
+    public boolean empty() {
+        return count == 0;
+    }
+
+    /**
+     * Gets the first element of the list.
+     * @return The first element, null if the list is empty.
+     */
+    public T getHead() {
+        return head;
+    }
+
+    /**
+     * Gets the list after the first element, which shares all of its cells with this one.
+     * @return The rest of the list, the empty list if this list has at most one element.
+     */
+    public PersistentList<T> rest() {
+        return count == 0 ? this : rest;
+    }
+
+    /**
+     * Gets a list of the data followed by every element of this one, which is shared rather than copied.
+     * A constant time operation.
+     * @param data The data to add
+     * @return The new list
+     * @throws IllegalArgumentException Thrown if the data is null
+     */
+    public PersistentList<T> prepend(T data) throws IllegalArgumentException {
+        if (data == null) {
+            throw new IllegalArgumentException("Argument `data` cannot be null.", new NullPointerException());
+        }
+        return new PersistentList<>(data, this);
+    }
+
+    /**
+     * Gets the data at the given index. An O(n) operation.
+     * @param index The index desired
+     * @return The data at the index
+     * @throws IllegalArgumentException Thrown if the index is out of range
+     */
+    public T get(int index) throws IllegalArgumentException {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+        PersistentList<T> list = this;
+        for (int i = 0; i < index; i++) {
+            list = list.rest;
+        }
+        return list.head;
+    }
+
+    /**
+     * Gets a list with the data inserted at the given index. The elements before the index are copied and
+     * those after it are shared, so inserting near the head is cheap. An O(index) operation.
+     * @param data The data to add
+     * @param index The index to insert at, getCount() to append
+     * @return The new list
+     * @throws IllegalArgumentException Thrown if the data is null or the index is out of range
+     */
+    public PersistentList<T> insert(T data, int index) throws IllegalArgumentException {
+        if (index < 0 || index > count) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+        Object[] prefix = new Object[index];
+        PersistentList<T> suffix = take(prefix);
+        return rebuild(prefix, suffix.prepend(data));
+    }
+
+    /**
+     * Gets a list with the data added after the last element. Every cell is copied, so building a list
+     * is better done with prepend() and reverse(), or from(). An O(n) operation.
+     * @param data The data to add
+     * @return The new list
+     * @throws IllegalArgumentException Thrown if the data is null
+     */
+    public PersistentList<T> append(T data) throws IllegalArgumentException {
+        return insert(data, count);
+    }
+
+    /**
+     * Gets a list without the element at the given index. The elements before the index are copied and
+     * those after it are shared. An O(index) operation.
+     * @param index The index of the element to remove
+     * @return The new list
+     * @throws IllegalArgumentException Thrown if the index is out of range
+     */
+    public PersistentList<T> delete(int index) throws IllegalArgumentException {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+        Object[] prefix = new Object[index];
+        PersistentList<T> suffix = take(prefix);
+        return rebuild(prefix, suffix.rest);
+    }
+
+    /**
+     * Gets a list of the same elements in reverse order. An O(n) operation.
+     * @return The reversed list
+     */
+    public PersistentList<T> reverse() {
+        PersistentList<T> reversed = emptyList();
+        for (PersistentList<T> list = this; list.count > 0; list = list.rest) {
+            reversed = new PersistentList<>(list.head, reversed);
+        }
+        return reversed;
+    }
+
+    /**
+     * Gets an iterator over the data in the list, from head to tail. The list cannot change underneath it.
+     * @return An iterator over the list
+     */
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private PersistentList<T> list = PersistentList.this;
+
+            public boolean hasNext() {
+                return list.count > 0;
+            }
+
+            public T next() {
+                if (list.count == 0) {
+                    throw new NoSuchElementException();
+                }
+                T data = list.head;
+                list = list.rest;
+                return data;
+            }
+        };
+    }
+
+    /**
+     * Copies the leading elements into the array, one per slot.
+     * @param prefix The array to fill, as long as the number of elements wanted
+     * @return The list after the elements copied
+     */
+    private PersistentList<T> take(Object[] prefix) {
+        PersistentList<T> list = this;
+        for (int i = 0; i < prefix.length; i++) {
+            prefix[i] = list.head;
+            list = list.rest;
+        }
+        return list;
+    }
+
+    /**
+     * Prepends the copied elements back onto a list, last first, restoring their order.
+     * @param prefix The elements, as copied by take()
+     * @param suffix The list to prepend them to
+     * @return The rebuilt list
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> PersistentList<T> rebuild(Object[] prefix, PersistentList<T> suffix) {
+        PersistentList<T> list = suffix;
+        for (int i = prefix.length - 1; i >= 0; i--) {
+            list = new PersistentList<>((T) prefix[i], list);
+        }
+        return list;
+    }
+}
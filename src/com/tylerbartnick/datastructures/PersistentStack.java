@@ -0,0 +1,138 @@
+package com.tylerbartnick.datastructures;
+
+import java.lang.IllegalArgumentException;
+import java.lang.NullPointerException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable Stack. push() and pop() leave the Stack they are called on untouched and return a new
+ * version, which shares every element below its top with the old one, so both are constant time and push()
+ * allocates a single object. Keeping an old version around is therefore a free O(1) snapshot, ideal for
+ * undo histories and for speculatively evaluating ahead and backing out.
+ *
+ * Every field is final, so a Stack may be shared between threads and read from all of them without locks.
+ * Because the methods return new versions rather than changing the Stack, this class cannot implement
+ * IStack<T>.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public final class PersistentStack<T> implements Iterable<T> {
+    /**
+     * The empty Stack, shared by every element type since it holds no data.
+     */
+    private static final PersistentStack<Object> EMPTY = new PersistentStack<>();
+
+    /**
+     * The data on top of the Stack, null only for the empty Stack.
+     */
+    private final T top;
+
+    /**
+     * The Stack beneath the top, null only for the empty Stack.
+     */
+    private final PersistentStack<T> below;
+
+    /**
+     * The number of elements, so count() need not walk the Stack.
+     */
+    private final int count;
+
+    /**
+     * Creates the empty Stack.
+     */
+    private PersistentStack() {
+        this.top = null;
+        this.below = null;
+        this.count = 0;
+    }
+
+    /**
+     * Creates a Stack of the data on top of another.
+     * @param top The data on top
+     * @param below The Stack beneath it
+     */
+    private PersistentStack(T top, PersistentStack<T> below) {
+        this.top = top;
+        this.below = below;
+        this.count = below.count + 1;
+    }
+
+    /**
+     * Gets the empty Stack.
+     * @return The empty Stack.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentStack<T> emptyStack() {
+        return (PersistentStack<T>) EMPTY;
+    }
+
+    /**
+     * Gets a Stack with the data pushed on top of this one, which is shared rather than copied.
+     * @param data The data to push
+     * @return The new Stack
+     * @throws IllegalArgumentException Thrown if the data is null
+     */
+    public PersistentStack<T> push(T data) throws IllegalArgumentException {
+        if (data == null) {
+            throw new IllegalArgumentException("Argument `data` cannot be null.", new NullPointerException());
+        }
+        return new PersistentStack<>(data, this);
+    }
+
+    /**
+     * Gets the Stack beneath the top of this one. Call peek() first to get the data being popped.
+     * @return The Stack without its top, the empty Stack if this one is empty.
+     */
+    public PersistentStack<T> pop() {
+        return count == 0 ? this : below;
+    }
+
+    /**
+     * Returns the data on top of the Stack.
+     * @return The data on top of the Stack, null if empty.
+     */
+    public T peek() {
+        return top;
+    }
+
+    /**
+     * Returns the total number of elements in the Stack.
+     * @return The number of elements in the Stack.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Tests for emptiness of the Stack. Returns true if empty, false otherwise.
+     * @return true if empty, false otherwise.
+     */
+    public boolean empty() {
+        return count == 0;
+    }
+
+    /**
+     * Gets an iterator over the data in the Stack, from the top down. The Stack cannot change underneath it.
+     * @return An iterator over the Stack
+     */
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private PersistentStack<T> stack = PersistentStack.this;
+
+            public boolean hasNext() {
+                return stack.count > 0;
+            }
+
+            public T next() {
+                if (stack.count == 0) {
+                    throw new NoSuchElementException();
+                }
+                T data = stack.top;
+                stack = stack.below;
+                return data;
+            }
+        };
+    }
+}
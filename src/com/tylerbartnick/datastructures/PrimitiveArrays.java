@@ -0,0 +1,30 @@
+package com.tylerbartnick.datastructures;
+
+/**
+ * Sizing helpers shared by the array-backed data structures.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+final class PrimitiveArrays {
+    /**
+     * The largest array length that can be reliably allocated on common JVMs.
+     */
+    static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private PrimitiveArrays() { }
+
+    /**
+     * Determines the next capacity for a full array, growing by half again its current length.
+     * @param currentCapacity The length of the full array
+     * @return The length of the replacement array
+     * @throws IllegalStateException Thrown if the array cannot grow any further
+     */
+    static int grownCapacity(int currentCapacity) throws IllegalStateException {
+        if (currentCapacity >= MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Array cannot grow past its maximum capacity.");
+        }
+        int grown = currentCapacity + (currentCapacity >> 1) + 1;
+        return grown < 0 || grown > MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : grown;
+    }
+}
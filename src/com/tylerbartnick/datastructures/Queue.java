@@ -1,10 +1,12 @@
 package com.tylerbartnick.datastructures;
 
+import java.util.stream.Stream;
+
 /**
  * Implementation of a Queue using a doubly-linked list. Supports operations such as
  * inserting and removing data in constant time.
  */
-public class Queue<T> {
+public class Queue<T> implements IQueue<T> {
     /**
      * The internal representation of the queue, a double-linked list.
      */
@@ -17,6 +19,15 @@ public class Queue<T> {
         queue = new DoubleLinkedList<>();
     }
 
+    /**
+     * Creates an empty queue recycling its Nodes through the given pool, so a queue whose length churns
+     * stops allocating once the pool has filled.
+     * @param pool The pool to take Nodes from and return them to
+     */
+    public Queue(NodePool<T> pool) {
+        queue = new DoubleLinkedList<>(pool);
+    }
+
     /**
      * 
      * @param data
@@ -34,6 +45,19 @@ public class Queue<T> {
         return queue.append(data);
     }
 
+    /**
+     * Adds every element of the data to the end of the queue in order. The elements are chained together in a
+     * single traversal of the data and linked on in one step, so a null element leaves the queue unchanged.
+     * @param data The elements to add
+     * @return The number of elements added
+     * @throws IllegalArgumentException Thrown if the data or any of its elements is null
+     */
+    public int enqueueAll(Iterable<? extends T> data) throws IllegalArgumentException {
+        int before = queue.getCount();
+        queue.appendAll(data);
+        return queue.getCount() - before;
+    }
+
     /**
      * Remove and return the data at the head of the Queue. A constant time operation.
      * @return The data at the head of the Queue
@@ -82,4 +106,29 @@ public class Queue<T> {
     public T peekTail() {
         return queue.get(queue.getCount() - 1);
     }
+
+    /**
+     * Gets a sequential stream over the queue, from head to tail, leaving it unchanged.
+     * @return A stream of the elements
+     */
+    public Stream<T> stream() {
+        return queue.stream();
+    }
+
+    /**
+     * Gets a parallel stream over the queue, from head to tail. The queue must not be changed while the stream runs.
+     * @return A parallel stream of the elements
+     */
+    public Stream<T> parallelStream() {
+        return queue.parallelStream();
+    }
+
+    /**
+     * Gets the list holding the queue, the head of the queue at its head, for the serializer to read and
+     * fill directly.
+     * @return The underlying list.
+     */
+    DoubleLinkedList<T> elements() {
+        return queue;
+    }
 }
@@ -3,9 +3,13 @@ package com.tylerbartnick.datastructures;
 import java.lang.IllegalArgumentException;
 import java.lang.IndexOutOfBoundsException;
 import java.lang.NullPointerException;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
- * Performance-oriented implementation of a singly-linked list.
+ * Performance-oriented implementation of a singly-linked list. A pointer to the tail is kept
+ * alongside the head so that appending never requires a traversal.
  * 
  * @author Tyler Bartnick
  * @version 1.0.0
@@ -14,12 +18,40 @@ public class SingleLinkedList<T> implements ILinkedList<T> {
     private int count;
     private Node<T> head;
 
+    /**
+     * The last Node in the list, kept so appending does not require a traversal.
+     */
+    private Node<T> tail;
+
+    /**
+     * The number of structural modifications made to the list, used by cursors to fail fast.
+     */
+    private int modCount;
+
+    /**
+     * Where removed Nodes are recycled and new Nodes come from, null if Nodes are not recycled.
+     */
+    private final NodePool<T> pool;
+
     /**
      * Default constructor with empty references.
      */
     public SingleLinkedList() {
         this.count = 0;
         this.head = null;
+        this.tail = null;
+        this.pool = null;
+    }
+
+    /**
+     * Constructor for an empty list recycling its Nodes through the given pool.
+     * @param pool The pool to take Nodes from and return them to, null to not recycle Nodes.
+     */
+    public SingleLinkedList(NodePool<T> pool) {
+        this.count = 0;
+        this.head = null;
+        this.tail = null;
+        this.pool = pool;
     }
 
     /**
@@ -27,6 +59,7 @@ public class SingleLinkedList<T> implements ILinkedList<T> {
      * @param data The data to be used as the head Node of the structure.
      */
     public SingleLinkedList(T data) {
+        this.pool = null;
         try {
             // leverage the append functionality here to protect against errors
             append(data);
@@ -44,6 +77,15 @@ public class SingleLinkedList<T> implements ILinkedList<T> {
         return head.getData();
     }
 
+    /**
+     * Gets the data of the tail Node. A constant time operation.
+     * @return The data of the tail Node.
+     */
+    public T getTail() {
+        if (tail == null) { return null; }
+        return tail.getData();
+    }
+
     /**
      * Gets the number of elements (Nodes) in the list at the moment.
      * @return The number of elements (Nodes) in the list.
@@ -53,7 +95,7 @@ public class SingleLinkedList<T> implements ILinkedList<T> {
     }
 
     /**
-     * Appends the specified Node to the end of the list. Requires full traversal.
+     * Appends the specified Node to the end of the list. A constant time operation.
      * @return The Node that was to be appended.
      * @throws IllegalArgumentException
      */
@@ -62,25 +104,22 @@ public class SingleLinkedList<T> implements ILinkedList<T> {
             throw new IllegalArgumentException(new NullPointerException());
         }
 
-        Node<T> node = new Node<>(data);
-        Node<T> currPtr = head;
-        if (currPtr == null) {
+        Node<T> node = newNode(data);
+        if (head == null) {
             // we are appending to an empty list
             head = node;
-            count++;
-            return data;
-        }
-        
-        while (currPtr.getNext() != null) {
-            currPtr = currPtr.getNext();
+        } else {
+            tail.setNext(node);
         }
-        currPtr.setNext(node);
+        tail = node;
         count++;
+        modCount++;
         return data;
     }
 
     /**
-     * Inserts the specified Node at the specified index.
+     * Inserts the specified Node at the specified index. Inserting at either end of the list is a
+     * constant time operation, anywhere else requires traversal up to the index.
      * @return The specified Node.
      * @throws IllegalArgumentException
      */
@@ -93,36 +132,30 @@ public class SingleLinkedList<T> implements ILinkedList<T> {
             throw new IllegalArgumentException(new IndexOutOfBoundsException());
         }
 
-        Node<T> node = new Node<>(data);
+        if (index == getCount()) {
+            // insert at tail, just call append() which will also increment count
+            return append(data);
+        }
+
+        Node<T> node = newNode(data);
         if (index == 0) {
             // insert at head
             node.setNext(head);
             head = node;
-            count++;
-            return data;
-        } else if (index == 1 || index == getCount() - 1) {
-            // insert at tail, just call append() which will also increment count
-            // position 1 is a special case to account for when list only has a head
-            return append(data);
         } else {
-            // insert in the middle somewhere
-            int idx = 0;
-            Node<T> currPtr = head;
-            Node<T> currPtrMinusOne = null;
-            while (head.getNext() != null && idx < index) {
-                currPtrMinusOne = currPtr;
-                currPtr = currPtr.getNext();
-                idx++;
-            }
+            // insert in the middle somewhere, after the Node currently before the index
+            Node<T> currPtrMinusOne = getNodeAt(index - 1);
+            node.setNext(currPtrMinusOne.getNext());
             currPtrMinusOne.setNext(node);
-            node.setNext(currPtr);
-            count++;
-            return data;
         }
+        count++;
+        modCount++;
+        return data;
     }
 
     /**
-     * Deletes the Node at the specified index, if exists.
+     * Deletes the Node at the specified index, if exists. Deleting the head is a constant time
+     * operation, anywhere else requires traversal up to the index since Nodes have no prev ref.
      * @throws IllegalArgumentException
      */
     public void delete(int index) throws IllegalArgumentException {
@@ -135,53 +168,38 @@ public class SingleLinkedList<T> implements ILinkedList<T> {
             // all refs to original head.
             Node<T> temp = head;
             head = head.getNext();
-            // ensure node will get gc'd
-            deleteAllNodeData(temp);
-            count--;
-        } else if (index == getCount() - 1) {
-            // since no prev ref, need to keep track of last visited and current
-            Node<T> currPtr = head;
-            Node<T> currPtrMinusOne = null;
-            while (currPtr.getNext() != null) {
-                currPtrMinusOne = currPtr;
-                currPtr = currPtr.getNext();
+            if (head == null) {
+                // the list held a single Node
+                tail = null;
             }
-            currPtrMinusOne.setNext(null);
-            deleteAllNodeData(currPtr);
-            count--;
+            // ensure node will get gc'd
+            recycle(temp);
         } else {
-            // we know we are deleting from the middle somewhere
-            int idx = 0;
-            Node<T> currPtr = head;
-            Node<T> currPtrMinusOne = null;
-            while (currPtr.getNext() != null && idx < index) {
-                currPtrMinusOne = currPtr;
-                currPtr = currPtr.getNext();
-                idx++;
-            }
+            // since no prev ref, need to find the Node before the one being deleted
+            Node<T> currPtrMinusOne = getNodeAt(index - 1);
+            Node<T> currPtr = currPtrMinusOne.getNext();
             currPtrMinusOne.setNext(currPtr.getNext());
-            deleteAllNodeData(currPtr);
-            count--;
+            if (currPtr == tail) {
+                tail = currPtrMinusOne;
+            }
+            recycle(currPtr);
         }
+        count--;
+        modCount++;
     }
 
     /**
-     * Retrieves and returns the Node at the specified index, if exists.
-     * @return The Node at the specified index, if exists. Null if not found.
+     * Retrieves and returns the Node at the specified index, if exists. Retrieving either end of the
+     * list is a constant time operation.
+     * @return The Node at the specified index, if exists.
      * @throws IllegalArgumentException
      */
     public T get(int index) throws IllegalArgumentException {
-        if (head == null || index < 0 || index > getCount()) {
+        if (head == null || index < 0 || index >= getCount()) {
             throw new IllegalArgumentException(new IndexOutOfBoundsException());
         }
 
-        int idx = 0;
-        Node<T> currPtr = head;
-        while (currPtr.getNext() != null && idx < index) {
-            currPtr = currPtr.getNext();
-            idx++;
-        }
-        return currPtr.getData();
+        return getNodeAt(index).getData();
     }
 
     /**
@@ -193,20 +211,208 @@ public class SingleLinkedList<T> implements ILinkedList<T> {
     }
 
     /**
-     * Method to clear the collection of all Nodes.
+     * Method to clear the collection of all Nodes. A constant time operation: the Nodes are simply dropped
+     * and left to the garbage collector, apart from as many as the pool, if any, has room for.
      */
     public void clear() {
+        clear(false);
+    }
+
+    /**
+     * Method to clear the collection of all Nodes, optionally scrubbing every Node of its data and refs.
+     * Scrubbing is a linear time operation, but guarantees no data stays reachable through a Node that
+     * something else still refers to, and that the pool, if any, is filled from the Nodes removed.
+     * @param scrub true to wipe every Node, false to drop them in constant time.
+     */
+    public void clear(boolean scrub) {
         if (head == null) { return; }
         Node<T> currPtr = head;
-        Node<T> currPtrMinusOne = null;
-        while (currPtr.getNext() != null) {
-            currPtrMinusOne = head;
-            head = head.getNext();
-            deleteAllNodeData(currPtrMinusOne);
+        int toWipe = scrub ? count : pool == null ? 0 : pool.room();
+        while (currPtr != null && toWipe-- > 0) {
+            Node<T> next = currPtr.getNext();
+            recycle(currPtr);
+            currPtr = next;
         }
-        deleteAllNodeData(head);
         head = null;
+        tail = null;
         count = 0;
+        modCount++;
+    }
+
+    /**
+     * Appends every element of the given data to the end of the list, in order. The new Nodes are chained
+     * together in a single traversal of the data and then linked on after the tail in one step, so a null
+     * element leaves the list unchanged.
+     * @param data The elements to add, which may be this list
+     * @throws IllegalArgumentException Thrown if the data or one of its elements is null
+     */
+    public void appendAll(Iterable<? extends T> data) throws IllegalArgumentException {
+        if (data == null) {
+            throw new IllegalArgumentException("Argument `data` cannot be null.", new NullPointerException());
+        }
+
+        Node<T> first = null;
+        Node<T> last = null;
+        int added = 0;
+        for (T element : data) {
+            if (element == null) {
+                throw new IllegalArgumentException("Argument `data` cannot hold null.", new NullPointerException());
+            }
+            Node<T> node = newNode(element);
+            if (first == null) {
+                first = node;
+            } else {
+                last.setNext(node);
+            }
+            last = node;
+            added++;
+        }
+        if (first == null) { return; }
+        link(tail, first, last, added);
+    }
+
+    /**
+     * Moves every Node of the other list onto the end of this one, leaving the other list empty. A constant
+     * time operation, as the Nodes are relinked rather than copied.
+     * @param other The list to take the Nodes of
+     * @throws IllegalArgumentException Thrown if the other list is null or this list
+     */
+    public void concat(SingleLinkedList<T> other) throws IllegalArgumentException {
+        splice(count, other);
+    }
+
+    /**
+     * Moves every element of the other list into this one at the given index, in order, leaving the other
+     * list empty. A list of the same kind has its Nodes relinked in constant time once the index is found,
+     * which requires traversal up to the index unless it is either end.
+     * @param index The index to insert the elements at, getCount() to append them
+     * @param other The list to move the elements from
+     * @throws IllegalArgumentException Thrown if the other list is null or this list, or the index is out of range
+     */
+    public void splice(int index, ILinkedList<T> other) throws IllegalArgumentException {
+        if (!(other instanceof SingleLinkedList)) {
+            ILinkedList.super.splice(index, other);
+            return;
+        }
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot splice a list into itself.");
+        }
+        if (index < 0 || index > count) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+
+        SingleLinkedList<T> source = (SingleLinkedList<T>) other;
+        if (source.head == null) { return; }
+        Node<T> first = source.head;
+        Node<T> last = source.tail;
+        int moved = source.count;
+        source.head = null;
+        source.tail = null;
+        source.count = 0;
+        source.modCount++;
+        link(index == 0 ? null : getNodeAt(index - 1), first, last, moved);
+    }
+
+    /**
+     * Removes the elements from the given index to the end of the list and returns them as a new list
+     * sharing this list's pool. The Nodes are handed over rather than copied, so only the traversal up to
+     * the index is needed.
+     * @param index The index of the first element to move, getCount() to move none
+     * @return A list of the elements removed
+     * @throws IllegalArgumentException Thrown if the index is out of range
+     */
+    public SingleLinkedList<T> splitAt(int index) throws IllegalArgumentException {
+        if (index < 0 || index > count) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+
+        SingleLinkedList<T> split = new SingleLinkedList<>(pool);
+        if (index == count) { return split; }
+        Node<T> last = index == 0 ? null : getNodeAt(index - 1);
+        split.head = last == null ? head : last.getNext();
+        split.tail = tail;
+        split.count = count - index;
+        if (last == null) {
+            head = null;
+        } else {
+            last.setNext(null);
+        }
+        tail = last;
+        count = index;
+        modCount++;
+        return split;
+    }
+
+    /**
+     * Gets an iterator over the data in the list, from head to tail.
+     * @return An iterator, which is also a forward-only cursor.
+     */
+    public Iterator<T> iterator() {
+        return cursor();
+    }
+
+    /**
+     * Gets a cursor positioned before the head of the list. The cursor can only move forward,
+     * but inserts and removes at its position in constant time.
+     * @return A cursor at the start of the list.
+     */
+    public ListCursor<T> cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Gets the Node at the given index, which must be within bounds. The tail is found without traversal.
+     * @param index The index desired.
+     * @return The Node at the given index.
+     */
+    private Node<T> getNodeAt(int index) {
+        if (index == getCount() - 1) { return tail; }
+
+        Node<T> currPtr = head;
+        for (int idx = 0; idx < index; idx++) {
+            currPtr = currPtr.getNext();
+        }
+        return currPtr;
+    }
+
+    /**
+     * Links a chain of Nodes in after the given Node, fixing up head, tail and count.
+     * @param predecessor The Node to link after, null to link at the head
+     * @param first The first Node of the chain
+     * @param last The last Node of the chain
+     * @param length The number of Nodes in the chain
+     */
+    private void link(Node<T> predecessor, Node<T> first, Node<T> last, int length) {
+        Node<T> successor = predecessor == null ? head : predecessor.getNext();
+        last.setNext(successor);
+        if (predecessor == null) {
+            head = first;
+        } else {
+            predecessor.setNext(first);
+        }
+        if (successor == null) {
+            tail = last;
+        }
+        count += length;
+        modCount++;
+    }
+
+    /**
+     * Gets a Node holding the given data, from the pool if there is one.
+     * @param data The data for the Node to hold
+     * @return A Node holding only the data
+     */
+    private Node<T> newNode(T data) {
+        return pool == null ? new Node<>(data) : pool.acquire(data);
+    }
+
+    /**
+     * Wipes a Node that has been removed from the list and returns it to the pool, if there is one.
+     * @param node The Node removed
+     */
+    private void recycle(Node<T> node) {
+        deleteAllNodeData(node);
+        if (pool != null) { pool.release(node); }
     }
 
     /**
@@ -231,4 +437,127 @@ public class SingleLinkedList<T> implements ILinkedList<T> {
         eraseNodeRefs(node);
         node.setData(null);
     }
+
+    /**
+     * Forward-only cursor over the list. Alongside the Nodes either side of the cursor it remembers
+     * the Node before those, which is what allows the last returned Node to be unlinked without a
+     * prev ref.
+     */
+    private final class Cursor implements ListCursor<T> {
+        /**
+         * The Node before the cursor, null if the cursor is at the start of the list.
+         */
+        private Node<T> before;
+
+        /**
+         * The Node before `before`, only known straight after a call to next().
+         */
+        private Node<T> beforeBefore;
+
+        /**
+         * The Node after the cursor, null if the cursor is at the end of the list.
+         */
+        private Node<T> after;
+
+        /**
+         * Whether `before` was returned by next() and may be removed.
+         */
+        private boolean canRemove;
+
+        private int nextIndex;
+        private int expectedModCount;
+
+        Cursor() {
+            this.before = null;
+            this.beforeBefore = null;
+            this.after = head;
+            this.canRemove = false;
+            this.nextIndex = 0;
+            this.expectedModCount = modCount;
+        }
+
+        public boolean hasNext() {
+            checkForComodification();
+            return after != null;
+        }
+
+        public T next() {
+            checkForComodification();
+            if (after == null) {
+                throw new NoSuchElementException();
+            }
+            beforeBefore = before;
+            before = after;
+            after = after.getNext();
+            canRemove = true;
+            nextIndex++;
+            return before.getData();
+        }
+
+        public boolean hasPrevious() {
+            throw new UnsupportedOperationException("A singly-linked list cannot be traversed backward.");
+        }
+
+        public T previous() {
+            throw new UnsupportedOperationException("A singly-linked list cannot be traversed backward.");
+        }
+
+        public int nextIndex() {
+            checkForComodification();
+            return nextIndex;
+        }
+
+        public void insert(T data) {
+            checkForComodification();
+            if (data == null) {
+                throw new IllegalArgumentException(new NullPointerException());
+            }
+
+            Node<T> node = newNode(data);
+            node.setNext(after);
+            if (before == null) {
+                head = node;
+            } else {
+                before.setNext(node);
+            }
+            if (after == null) {
+                tail = node;
+            }
+            beforeBefore = before;
+            before = node;
+            canRemove = false;
+            nextIndex++;
+            count++;
+            expectedModCount = ++modCount;
+        }
+
+        public void remove() {
+            checkForComodification();
+            if (!canRemove) {
+                throw new IllegalStateException("next() has not been called since the last insert() or remove().");
+            }
+
+            if (beforeBefore == null) {
+                head = after;
+            } else {
+                beforeBefore.setNext(after);
+            }
+            if (after == null) {
+                tail = beforeBefore;
+            }
+            recycle(before);
+            before = beforeBefore;
+            beforeBefore = null;
+            canRemove = false;
+            nextIndex--;
+            count--;
+            expectedModCount = ++modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
 }
@@ -0,0 +1,378 @@
+package com.tylerbartnick.datastructures;
+
+import java.lang.IllegalArgumentException;
+import java.lang.IllegalStateException;
+import java.lang.IndexOutOfBoundsException;
+import java.lang.NullPointerException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+
+/**
+ * A fixed capacity Queue for handing elements from exactly one producer thread to exactly one consumer
+ * thread. Each side owns one index and only ever writes its own, so no compare-and-set is needed: an
+ * element is published by a release store of the tail and handed back by a release store of the head,
+ * making every operation wait-free.
+ *
+ * Each side also keeps a cached copy of the other side's index and only re-reads the real one when the
+ * cached copy says the queue is full or empty, so in the steady state neither thread touches the other's
+ * cache line. The indexes are padded apart from each other and the array is padded at both ends so that
+ * nothing else shares their cache lines either.
+ *
+ * enqueue(), tryEnqueue(), enqueueBatch() and peekTail() may only be called by the producer thread, and
+ * dequeue(), dequeueBatch(), drain(), clear() and peekHead() only by the consumer thread; count() and
+ * empty() may be called from either. Like ArrayQueue<T>, enqueue() throws when the queue is full, but
+ * dequeue() and the peek methods return null when it is empty.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class SpscQueue<T> extends SpscQueueConsumerFields implements IQueue<T> {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(SpscQueueConsumerFields.class, "head", long.class);
+            TAIL = lookup.findVarHandle(SpscQueueProducerFields.class, "tail", long.class);
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    /**
+     * The largest power of two that can back an array, less room for the padding.
+     */
+    private static final int MAXIMUM_CAPACITY = 1 << 29;
+
+    /**
+     * Unused slots at each end of the array, keeping the elements off any cache line shared with the
+     * array header or a neighbouring object. 32 references cover 128 bytes even with compressed pointers.
+     */
+    private static final int ARRAY_PADDING = 32;
+
+    /**
+     * The ring buffer, ARRAY_PADDING slots longer than the capacity at each end.
+     */
+    private final Object[] elements;
+
+    /**
+     * Always capacity - 1, used to wrap indexes around the ring.
+     */
+    private final int mask;
+
+    /**
+     * Creates an empty queue able to hold at least the given number of elements.
+     * @param capacity The minimum capacity, rounded up to a power of two
+     * @throws IllegalArgumentException Thrown if the capacity is out of range
+     */
+    public SpscQueue(int capacity) throws IllegalArgumentException {
+        if (capacity < 1 || capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException(String.format("Capacity %d is out of range.", capacity));
+        }
+        int length = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.elements = new Object[length + 2 * ARRAY_PADDING];
+        this.mask = length - 1;
+    }
+
+    /**
+     * Add the data supplied to the end of the queue. Producer thread only.
+     * @param data The data to add
+     * @return The data added
+     * @throws IllegalArgumentException Thrown if the data is null
+     * @throws IllegalStateException Thrown if the queue is full
+     */
+    public T enqueue(T data) throws IllegalArgumentException, IllegalStateException {
+        if (!tryEnqueue(data)) {
+            throw new IllegalStateException("Queue is full.");
+        }
+        return data;
+    }
+
+    /**
+     * Attempts to add the data supplied to the end of the queue. Producer thread only.
+     * @param data The data to add
+     * @return true if the data was added, false if the queue is full
+     * @throws IllegalArgumentException Thrown if the data is null
+     */
+    public boolean tryEnqueue(T data) throws IllegalArgumentException {
+        if (data == null) {
+            throw new IllegalArgumentException("Argument `data` cannot be null.", new NullPointerException());
+        }
+
+        long t = tail;
+        if (t - cachedHead > mask) {
+            cachedHead = (long) HEAD.getAcquire(this);
+            if (t - cachedHead > mask) { return false; }
+        }
+        elements[slot(t)] = data;
+        TAIL.setRelease(this, t + 1);
+        return true;
+    }
+
+    /**
+     * Adds as many of the given elements as there is room for to the end of the queue, in order, publishing
+     * them all with a single store. Producer thread only.
+     * @param source The array holding the elements to add
+     * @param offset The index of the first element to add
+     * @param length The number of elements to add
+     * @return The number of elements added, less than length if the queue filled up
+     * @throws IllegalArgumentException Thrown if the range is out of bounds or holds a null, before any are added
+     */
+    public int enqueueBatch(T[] source, int offset, int length) throws IllegalArgumentException {
+        checkRange(source, offset, length);
+        for (int i = offset; i < offset + length; i++) {
+            if (source[i] == null) {
+                throw new IllegalArgumentException("Argument `source` cannot hold null.", new NullPointerException());
+            }
+        }
+
+        long t = tail;
+        long free = mask + 1 - (t - cachedHead);
+        if (free < length) {
+            cachedHead = (long) HEAD.getAcquire(this);
+            free = mask + 1 - (t - cachedHead);
+        }
+        int count = (int) Math.min(free, length);
+        for (int i = 0; i < count; i++) {
+            elements[slot(t + i)] = source[offset + i];
+        }
+        if (count > 0) { TAIL.setRelease(this, t + count); }
+        return count;
+    }
+
+    /**
+     * Remove and return the data at the head of the queue. Consumer thread only.
+     * @return The data at the head of the queue, null if empty
+     */
+    @SuppressWarnings("unchecked")
+    public T dequeue() {
+        long h = head;
+        if (h >= cachedTail) {
+            cachedTail = (long) TAIL.getAcquire(this);
+            if (h >= cachedTail) { return null; }
+        }
+        int index = slot(h);
+        T data = (T) elements[index];
+        // release the slot so the data can be collected
+        elements[index] = null;
+        HEAD.setRelease(this, h + 1);
+        return data;
+    }
+
+    /**
+     * Removes up to the given number of elements from the head of the queue into the array, in order, handing
+     * all of their slots back to the producer with a single store. Consumer thread only.
+     * @param target The array to copy the elements into
+     * @param offset The index to copy the first element to
+     * @param length The most elements to remove
+     * @return The number of elements removed
+     * @throws IllegalArgumentException Thrown if the range is out of bounds
+     */
+    @SuppressWarnings("unchecked")
+    public int dequeueBatch(T[] target, int offset, int length) throws IllegalArgumentException {
+        checkRange(target, offset, length);
+        int count = available(length);
+        long h = head;
+        for (int i = 0; i < count; i++) {
+            int index = slot(h + i);
+            target[offset + i] = (T) elements[index];
+            elements[index] = null;
+        }
+        if (count > 0) { HEAD.setRelease(this, h + count); }
+        return count;
+    }
+
+    /**
+     * Removes up to the given number of elements from the head of the queue, passing each to the consumer in
+     * order and handing all of their slots back to the producer with a single store. Consumer thread only.
+     * If the consumer throws, the element it was given and those before it have been removed, and the rest
+     * are left in the queue.
+     * @param consumer Called with each element removed
+     * @param max The most elements to remove
+     * @return The number of elements removed
+     * @throws IllegalArgumentException Thrown if the consumer is null or max is negative
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super T> consumer, int max) throws IllegalArgumentException {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Argument `consumer` cannot be null.", new NullPointerException());
+        }
+        if (max < 0) {
+            throw new IllegalArgumentException(String.format("Maximum %d is out of range.", max));
+        }
+
+        int count = available(max);
+        long h = head;
+        int removed = 0;
+        try {
+            while (removed < count) {
+                int index = slot(h + removed);
+                T data = (T) elements[index];
+                elements[index] = null;
+                removed++;
+                consumer.accept(data);
+            }
+        } finally {
+            // publish whatever was handed off even if the consumer threw, so no emptied slot is left counted
+            if (removed > 0) { HEAD.setRelease(this, h + removed); }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the number of elements in the queue. Only a snapshot, as either thread may be changing it.
+     * @return The number of elements in the queue.
+     */
+    public int count() {
+        // read the head first, so the tail read after it can only be further ahead
+        long h = (long) HEAD.getAcquire(this);
+        long t = (long) TAIL.getAcquire(this);
+        return (int) Math.max(0L, Math.min(t - h, mask + 1L));
+    }
+
+    /**
+     * Gets the number of elements the queue can hold.
+     * @return The capacity of the queue.
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Determines if the queue is empty. True if so, false otherwise.
+     * @return true if empty, false otherwise
+     */
+    public boolean empty() {
+        return count() == 0;
+    }
+
+    /**
+     * Removes every element in the queue. Consumer thread only.
+     */
+    public void clear() {
+        long h = head;
+        long t = (long) TAIL.getAcquire(this);
+        for (long i = h; i < t; i++) {
+            elements[slot(i)] = null;
+        }
+        cachedTail = t;
+        HEAD.setRelease(this, t);
+    }
+
+    /**
+     * Gets and returns the data at the head of the queue, but does not remove it from the queue. Consumer
+     * thread only.
+     * @return The data at the head of the queue, null if empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peekHead() {
+        long h = head;
+        if (h >= cachedTail) {
+            cachedTail = (long) TAIL.getAcquire(this);
+            if (h >= cachedTail) { return null; }
+        }
+        return (T) elements[slot(h)];
+    }
+
+    /**
+     * Gets and returns the data at the tail of the queue, but does not remove it from the queue. Producer
+     * thread only; returns null if the consumer removes the element first.
+     * @return The data at the tail of the queue, null if empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peekTail() {
+        long t = tail;
+        if (t == (long) HEAD.getAcquire(this)) { return null; }
+        return (T) elements[slot(t - 1)];
+    }
+
+    /**
+     * Gets how many elements, up to the given number, the consumer may remove, refreshing its cached copy
+     * of the tail only if it does not already show enough.
+     * @param max The most elements wanted
+     * @return The number of elements that may be removed
+     */
+    private int available(int max) {
+        long h = head;
+        if (cachedTail - h < max) {
+            cachedTail = (long) TAIL.getAcquire(this);
+        }
+        return (int) Math.min(cachedTail - h, max);
+    }
+
+    /**
+     * Maps a position in the sequence of elements to its slot in the array.
+     * @param sequence The position
+     * @return The index of the slot
+     */
+    private int slot(long sequence) {
+        return ARRAY_PADDING + ((int) sequence & mask);
+    }
+
+    /**
+     * Ensures a range lies within an array.
+     * @param array The array
+     * @param offset The index of the start of the range
+     * @param length The length of the range
+     * @throws IllegalArgumentException Thrown if the array is null or the range is out of bounds
+     */
+    private static void checkRange(Object[] array, int offset, int length) throws IllegalArgumentException {
+        if (array == null) {
+            throw new IllegalArgumentException("Array cannot be null.", new NullPointerException());
+        }
+        if (offset < 0 || length < 0 || offset > array.length - length) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+    }
+}
+
+/**
+ * Padding keeping the producer's fields off any cache line shared with the object header or another object.
+ */
+abstract class SpscQueuePadHead {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p08, p09, p10, p11, p12, p13, p14, p15;
+}
+
+/**
+ * The fields written by the producer thread.
+ */
+abstract class SpscQueueProducerFields extends SpscQueuePadHead {
+    /**
+     * The position the next element will be added at, written only by the producer.
+     */
+    long tail;
+
+    /**
+     * The producer's copy of the head, refreshed only when it shows the queue as full.
+     */
+    long cachedHead;
+}
+
+/**
+ * Padding keeping the producer's fields and the consumer's fields on separate cache lines.
+ */
+abstract class SpscQueuePadMiddle extends SpscQueueProducerFields {
+    long p16, p17, p18, p19, p20, p21, p22, p23;
+    long p24, p25, p26, p27, p28, p29, p30, p31;
+}
+
+/**
+ * The fields written by the consumer thread.
+ */
+abstract class SpscQueueConsumerFields extends SpscQueuePadMiddle {
+    /**
+     * The position of the next element to be removed, written only by the consumer.
+     */
+    long head;
+
+    /**
+     * The consumer's copy of the tail, refreshed only when it shows the queue as empty.
+     */
+    long cachedTail;
+
+    long p32, p33, p34, p35, p36, p37, p38, p39;
+    long p40, p41, p42, p43, p44, p45, p46, p47;
+}
@@ -1,12 +1,14 @@
 package com.tylerbartnick.datastructures;
 
+import java.util.stream.Stream;
+
 /**
  * A simple, performance-oriented implementation of a Stack data structure.
  * 
  * @author Tyler Bartnick
  * @version 1.0.0
  */
-public class Stack<T> {
+public class Stack<T> implements IStack<T> {
     /**
      * The internal representation of the Stack, a custom singly-linked list.
      */
@@ -19,13 +21,23 @@ public class Stack<T> {
         this.stack = new SingleLinkedList<T>();
     }
 
+    /**
+     * Creates an empty Stack recycling its Nodes through the given pool, so a Stack whose depth churns
+     * stops allocating once the pool has filled.
+     * @param pool The pool to take Nodes from and return them to
+     */
+    public Stack(NodePool<T> pool) {
+        this.stack = new SingleLinkedList<T>(pool);
+    }
+
     /**
      * The data to push onto the top of the Stack.
      * @param data The data to be added to the Stack.
+     * @throws IllegalArgumentException Thrown if the data is null
      */
     public void push(T data) {
-        // push onto head; allow nulls to be pushed onto stack since it's just
-        // the data and not the Node itself.
+        // push onto head; the underlying list rejects nulls, use ArrayStack<T> if
+        // nulls need to be stored.
         stack.insert(data, 0);
     }
 
@@ -74,4 +86,28 @@ public class Stack<T> {
     public void clear() {
         stack.clear();
     }
+
+    /**
+     * Gets a sequential stream over the Stack, from the top down, leaving it unchanged.
+     * @return A stream of the elements
+     */
+    public Stream<T> stream() {
+        return stack.stream();
+    }
+
+    /**
+     * Gets a parallel stream over the Stack, from the top down. The Stack must not be changed while the stream runs.
+     * @return A parallel stream of the elements
+     */
+    public Stream<T> parallelStream() {
+        return stack.parallelStream();
+    }
+
+    /**
+     * Gets the list holding the Stack, the top at its head, for the serializer to read and fill directly.
+     * @return The underlying list.
+     */
+    SingleLinkedList<T> elements() {
+        return stack;
+    }
 }
@@ -0,0 +1,590 @@
+package com.tylerbartnick.datastructures;
+
+import java.lang.IllegalArgumentException;
+import java.lang.IndexOutOfBoundsException;
+import java.lang.NullPointerException;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An unrolled linked list: a doubly-linked list of blocks, each holding a small array of elements rather
+ * than a single one. A scan reads a whole block from contiguous memory before following a link, and indexed
+ * access skips whole blocks at a time, from whichever end is closer, so both touch far fewer objects than
+ * a list of one Node per element. Per element there is one array slot rather than a whole Node, which also
+ * cuts memory use several times over.
+ *
+ * Inserting into a full block splits it in two, and deleting from a block that falls below half full merges
+ * it with a neighbour when the two fit in one block, so blocks stay at least roughly half full. Appending
+ * and inserting at the head fill blocks completely.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class UnrolledLinkedList<T> implements ILinkedList<T> {
+    /**
+     * Values of a cursor's last move: nothing removable, next(), or previous().
+     */
+    private static final int NONE = 0;
+    private static final int FORWARD = 1;
+    private static final int BACKWARD = 2;
+
+    /**
+     * The block capacity used by the default constructor.
+     */
+    private static final int DEFAULT_BLOCK_CAPACITY = 32;
+
+    /**
+     * The most elements a block holds.
+     */
+    private final int blockCapacity;
+
+    /**
+     * The current number of elements in the list.
+     */
+    private int count;
+
+    /**
+     * The first block, null if the list is empty. No block in the list is ever empty.
+     */
+    private Block head;
+
+    /**
+     * The last block, null if the list is empty.
+     */
+    private Block tail;
+
+    /**
+     * The number of structural modifications made to the list, used by cursors to fail fast.
+     */
+    private int modCount;
+
+    /**
+     * Reused by the index-based methods to locate an index without allocating.
+     */
+    private final Position scratch = new Position(null, 0);
+
+    /**
+     * Default constructor, creates an empty list of blocks holding 32 elements each.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_BLOCK_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list of blocks holding the given number of elements each. Between 32 and 64
+     * suits most workloads: larger blocks scan faster, but inserts and deletes shift more elements.
+     * @param blockCapacity The most elements a block holds
+     * @throws IllegalArgumentException Thrown if the block capacity is less than 2
+     */
+    public UnrolledLinkedList(int blockCapacity) throws IllegalArgumentException {
+        if (blockCapacity < 2) {
+            throw new IllegalArgumentException(String.format("Block capacity %d is out of range.", blockCapacity));
+        }
+        this.blockCapacity = blockCapacity;
+        this.count = 0;
+        this.head = null;
+        this.tail = null;
+    }
+
+    /**
+     * Gets the number of elements in the list.
+     * @return The number of elements in the list.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the most elements a block holds.
+     * @return The block capacity.
+     */
+    public int getBlockCapacity() {
+        return blockCapacity;
+    }
+
+    /**
+     * Appends the data to the end of the list. A constant time operation.
+     * @param data The data to add
+     * @return The data added
+     * @throws IllegalArgumentException Thrown if the data is null
+     */
+    public T append(T data) throws IllegalArgumentException {
+        if (data == null) {
+            throw new IllegalArgumentException("Argument `data` cannot be null.", new NullPointerException());
+        }
+
+        if (tail != null && tail.size < blockCapacity) {
+            tail.elements[tail.size++] = data;
+            count++;
+            modCount++;
+        } else {
+            scratch.set(tail, tail == null ? 0 : tail.size);
+            insertAt(scratch, data);
+        }
+        return data;
+    }
+
+    /**
+     * Inserts the data at the given index. Inserting at index getCount() appends. Finding the index skips
+     * whole blocks from the closer end; the insert itself shifts at most one block's elements.
+     * @param data The data to add
+     * @param index The index to insert at
+     * @return The data added
+     * @throws IllegalArgumentException Thrown if the data is null or the index is out of range
+     */
+    public T insert(T data, int index) throws IllegalArgumentException {
+        if (data == null) {
+            throw new IllegalArgumentException("Argument `data` cannot be null.", new NullPointerException());
+        }
+        if (index < 0 || index > count) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+
+        insertAt(locate(index, scratch), data);
+        return data;
+    }
+
+    /**
+     * Deletes the element at the given index.
+     * @param index The index of the element to delete
+     * @throws IllegalArgumentException Thrown if the index is out of range
+     */
+    public void delete(int index) throws IllegalArgumentException {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+
+        removeAt(locate(index, scratch));
+    }
+
+    /**
+     * Gets the data at the given index. Either end of the list is found in constant time.
+     * @param index The index desired
+     * @return The data at the index
+     * @throws IllegalArgumentException Thrown if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) throws IllegalArgumentException {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+
+        Position position = locate(index, scratch);
+        return (T) position.block.elements[position.offset];
+    }
+
+    /**
+     * Tests for emptiness of the list.
+     * @return true for an empty list, false otherwise
+     */
+    public boolean empty() {
+        return count == 0;
+    }
+
+    /**
+     * Deletes all elements in the list. A constant time operation, the blocks are left to the garbage collector.
+     */
+    public void clear() {
+        head = null;
+        tail = null;
+        count = 0;
+        modCount++;
+    }
+
+    /**
+     * Removes the elements from the given index to the end of the list and returns them as a new list with
+     * the same block capacity. Whole blocks are handed over rather than copied; only a block the index falls
+     * in the middle of is split, copying at most one block's elements.
+     * @param index The index of the first element to move, getCount() to move none
+     * @return A list of the elements removed
+     * @throws IllegalArgumentException Thrown if the index is out of range
+     */
+    public UnrolledLinkedList<T> splitAt(int index) throws IllegalArgumentException {
+        if (index < 0 || index > count) {
+            throw new IllegalArgumentException(new IndexOutOfBoundsException());
+        }
+
+        UnrolledLinkedList<T> split = new UnrolledLinkedList<>(blockCapacity);
+        if (index == count) { return split; }
+        Position position = locate(index, scratch);
+        Block block = position.block;
+        Block first;
+        Block last;
+        if (position.offset == 0) {
+            first = block;
+            last = block.prev;
+            split.tail = tail;
+        } else {
+            first = block.splitOff(position.offset, blockCapacity);
+            first.next = block.next;
+            if (block.next != null) { block.next.prev = first; }
+            last = block;
+            split.tail = block == tail ? first : tail;
+        }
+        first.prev = null;
+        split.head = first;
+        split.count = count - index;
+
+        if (last == null) {
+            head = null;
+        } else {
+            last.next = null;
+        }
+        tail = last;
+        count = index;
+        modCount++;
+        return split;
+    }
+
+    /**
+     * Gets an iterator over the data in the list, from head to tail.
+     * @return An iterator, which is also a cursor.
+     */
+    public Iterator<T> iterator() {
+        return cursor();
+    }
+
+    /**
+     * Gets a cursor positioned before the head of the list. The cursor can move in either direction, and
+     * inserts and removes at its position while shifting at most one block's elements.
+     * @return A cursor at the start of the list.
+     */
+    public ListCursor<T> cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Finds the block and offset of the given index, skipping whole blocks from whichever end is closer.
+     * The index getCount() is found at the end of the tail block.
+     * @param index An index from 0 to getCount() inclusive
+     * @param position Set to the position of the index
+     * @return The position given
+     */
+    private Position locate(int index, Position position) {
+        if (tail == null) {
+            position.set(null, 0);
+        } else if (index >= count - tail.size) {
+            // the tail block, including the position just past the end
+            position.set(tail, index - (count - tail.size));
+        } else if (index <= count >>> 1) {
+            Block block = head;
+            while (index >= block.size) {
+                index -= block.size;
+                block = block.next;
+            }
+            position.set(block, index);
+        } else {
+            int fromEnd = count - index;
+            Block block = tail;
+            while (fromEnd > block.size) {
+                fromEnd -= block.size;
+                block = block.prev;
+            }
+            position.set(block, block.size - fromEnd);
+        }
+        return position;
+    }
+
+    /**
+     * Inserts data at a position, splitting the block there if it is full. Afterwards the position is just
+     * past the inserted data.
+     * @param position The position to insert at, updated to just past the inserted data
+     * @param data The data to insert
+     */
+    private void insertAt(Position position, T data) {
+        Block block = position.block;
+        int offset = position.offset;
+        if (block == null) {
+            // the list is empty
+            block = linkAfter(null);
+            block.elements[0] = data;
+            block.size = 1;
+            position.set(block, 1);
+        } else if (block.size < blockCapacity) {
+            block.insert(offset, data);
+            position.offset = offset + 1;
+        } else if (offset == block.size) {
+            // past the end of a full block, fill the next block from its start or begin a new one
+            Block next = block.next;
+            if (next == null || next.size == blockCapacity) {
+                next = linkAfter(block);
+            }
+            next.insert(0, data);
+            position.set(next, 1);
+        } else if (offset == 0) {
+            // before the start of a full block, fill the previous block from its end or begin a new one
+            Block prev = block.prev;
+            if (prev == null || prev.size == blockCapacity) {
+                prev = linkAfter(prev);
+            }
+            prev.elements[prev.size++] = data;
+            position.set(prev, prev.size);
+        } else {
+            // split the full block in half, then insert into whichever half the offset falls in
+            Block upper = linkAfter(block);
+            int half = blockCapacity >>> 1;
+            System.arraycopy(block.elements, half, upper.elements, 0, block.size - half);
+            Arrays.fill(block.elements, half, block.size, null);
+            upper.size = block.size - half;
+            block.size = half;
+            if (offset <= half) {
+                block.insert(offset, data);
+                position.offset = offset + 1;
+            } else {
+                upper.insert(offset - half, data);
+                position.set(upper, offset - half + 1);
+            }
+        }
+        count++;
+        modCount++;
+    }
+
+    /**
+     * Removes the element at a position, unlinking its block if it empties or merging it with a neighbour
+     * if it falls below half full and the two fit in one block. Afterwards the position is where the element
+     * was, which is the position of the element that followed it.
+     * @param position The position of the element to remove, updated as described
+     */
+    private void removeAt(Position position) {
+        Block block = position.block;
+        int offset = position.offset;
+        block.remove(offset);
+        count--;
+        modCount++;
+
+        if (block.size == 0) {
+            unlink(block);
+            if (block.next != null) {
+                position.set(block.next, 0);
+            } else if (block.prev != null) {
+                position.set(block.prev, block.prev.size);
+            } else {
+                position.set(null, 0);
+            }
+        } else if (block.size < blockCapacity >>> 1) {
+            Block next = block.next;
+            Block prev = block.prev;
+            if (next != null && block.size + next.size <= blockCapacity) {
+                block.absorb(next);
+                unlink(next);
+            } else if (prev != null && prev.size + block.size <= blockCapacity) {
+                int prevSize = prev.size;
+                prev.absorb(block);
+                unlink(block);
+                position.set(prev, prevSize + offset);
+            }
+        }
+    }
+
+    /**
+     * Links a new, empty block into the list after the given block.
+     * @param block The block to link after, null to link at the head
+     * @return The new block
+     */
+    private Block linkAfter(Block block) {
+        Block created = new Block(blockCapacity);
+        Block next = block == null ? head : block.next;
+        created.prev = block;
+        created.next = next;
+        if (block == null) {
+            head = created;
+        } else {
+            block.next = created;
+        }
+        if (next == null) {
+            tail = created;
+        } else {
+            next.prev = created;
+        }
+        return created;
+    }
+
+    /**
+     * Unlinks a block from the list. The block keeps its own links, so a position may still step past it.
+     * @param block The block to unlink
+     */
+    private void unlink(Block block) {
+        if (block.prev == null) {
+            head = block.next;
+        } else {
+            block.prev.next = block.next;
+        }
+        if (block.next == null) {
+            tail = block.prev;
+        } else {
+            block.next.prev = block.prev;
+        }
+    }
+
+    /**
+     * A block of elements, the first `size` slots of its array being occupied.
+     */
+    private static final class Block {
+        private final Object[] elements;
+        private int size;
+        private Block prev;
+        private Block next;
+
+        Block(int capacity) {
+            this.elements = new Object[capacity];
+        }
+
+        /**
+         * Inserts an element at the offset, shifting the later elements up. The block must not be full.
+         */
+        void insert(int offset, Object element) {
+            System.arraycopy(elements, offset, elements, offset + 1, size - offset);
+            elements[offset] = element;
+            size++;
+        }
+
+        /**
+         * Removes the element at the offset, shifting the later elements down.
+         */
+        void remove(int offset) {
+            System.arraycopy(elements, offset + 1, elements, offset, size - offset - 1);
+            // release the slot so the element can be collected
+            elements[--size] = null;
+        }
+
+        /**
+         * Moves the elements from the offset on into a new block, which is not linked to anything.
+         */
+        Block splitOff(int offset, int capacity) {
+            Block block = new Block(capacity);
+            block.size = size - offset;
+            System.arraycopy(elements, offset, block.elements, 0, block.size);
+            Arrays.fill(elements, offset, size, null);
+            size = offset;
+            return block;
+        }
+
+        /**
+         * Moves every element of another block onto the end of this one. Both must fit.
+         */
+        void absorb(Block other) {
+            System.arraycopy(other.elements, 0, elements, size, other.size);
+            size += other.size;
+        }
+    }
+
+    /**
+     * A position between two elements, as a block and an offset into it from 0 to the block's size.
+     */
+    private static final class Position {
+        private Block block;
+        private int offset;
+
+        Position(Block block, int offset) {
+            this.block = block;
+            this.offset = offset;
+        }
+
+        void set(Block block, int offset) {
+            this.block = block;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * Bidirectional cursor over the list, holding the position of the element after the cursor. A position
+     * at the end of a block is only moved on to the start of the next block when next() needs it to be.
+     */
+    private final class Cursor implements ListCursor<T> {
+        private final Position position;
+
+        /**
+         * Whether the element last returned was returned by next(), by previous(), or may not be removed.
+         */
+        private int lastMove;
+
+        private int nextIndex;
+        private int expectedModCount;
+
+        Cursor() {
+            this.position = new Position(head, 0);
+            this.lastMove = NONE;
+            this.nextIndex = 0;
+            this.expectedModCount = modCount;
+        }
+
+        public boolean hasNext() {
+            checkForComodification();
+            return nextIndex < count;
+        }
+
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            if (nextIndex >= count) {
+                throw new NoSuchElementException();
+            }
+            if (position.offset == position.block.size) {
+                position.set(position.block.next, 0);
+            }
+            lastMove = FORWARD;
+            nextIndex++;
+            return (T) position.block.elements[position.offset++];
+        }
+
+        public boolean hasPrevious() {
+            checkForComodification();
+            return nextIndex > 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        public T previous() {
+            checkForComodification();
+            if (nextIndex == 0) {
+                throw new NoSuchElementException();
+            }
+            if (position.offset == 0) {
+                position.set(position.block.prev, position.block.prev.size);
+            }
+            lastMove = BACKWARD;
+            nextIndex--;
+            return (T) position.block.elements[--position.offset];
+        }
+
+        public int nextIndex() {
+            checkForComodification();
+            return nextIndex;
+        }
+
+        public void insert(T data) {
+            checkForComodification();
+            if (data == null) {
+                throw new IllegalArgumentException("Argument `data` cannot be null.", new NullPointerException());
+            }
+
+            insertAt(position, data);
+            lastMove = NONE;
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        public void remove() {
+            checkForComodification();
+            if (lastMove == NONE) {
+                throw new IllegalStateException("Neither next() nor previous() has been called since the last insert() or remove().");
+            }
+
+            if (lastMove == FORWARD) {
+                // step back onto the element, which is always in the current block after next()
+                position.offset--;
+                nextIndex--;
+            }
+            removeAt(position);
+            lastMove = NONE;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.tylerbartnick.drivers;
+
+import com.tylerbartnick.datastructures.ArrayQueue;
+import com.tylerbartnick.datastructures.IQueue;
+import com.tylerbartnick.datastructures.Queue;
+
+/**
+ * Driver program to show correctness of algorithms found in the ArrayQueue<T> class, and that
+ * it behaves the same as the linked Queue<T> class behind the IQueue<T> interface.
+ * This is a placeholder for more thorough JUnit tests.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class ArrayQueueDriver {
+    public static void main(String[] args) {
+        System.out.println("Exercising the linked queue...");
+        exercise(new Queue<>());
+        System.out.println("Exercising the array queue, starting small to force growth...");
+        exercise(new ArrayQueue<>(2));
+
+        System.out.println("Exercising a fixed capacity array queue...");
+        ArrayQueue<Integer> fixed = new ArrayQueue<>(4, true);
+        for (int i = 1; i <= 4; i++) {
+            fixed.enqueue(i);
+        }
+        System.out.println("Capacity: " + fixed.capacity() + ", accepted a fifth item: " + fixed.tryEnqueue(5));
+
+        System.out.println("Wrapping around the end of the buffer...");
+        for (int i = 5; i <= 12; i++) {
+            System.out.println("Dequeued " + fixed.dequeue() + ", enqueued " + fixed.enqueue(i));
+        }
+        System.out.println("Current value at head of queue: " + fixed.peekHead());
+        System.out.println("Current value at tail of queue: " + fixed.peekTail());
+        fixed.clear();
+        System.out.println("Items in queue after clearing: " + fixed.count());
+
+        System.out.println("DONE!");
+    }
+
+    /**
+     * Runs the same sequence of operations against any queue implementation.
+     * @param q The queue to exercise
+     */
+    private static void exercise(IQueue<Integer> q) {
+        for (int round = 1; round <= 2; round++) {
+            System.out.println("Adding numbers 1 to 100 to the queue...");
+            for (int i = 1; i <= 100; i++) {
+                q.enqueue(i);
+            }
+
+            System.out.println("Current value at head of queue: " + q.peekHead());
+            System.out.println("Current value at tail of queue: " + q.peekTail());
+
+            long sum = 0;
+            while (!q.empty()) {
+                sum += q.dequeue();
+            }
+            System.out.println("Sum of dequeued items (expected 5050): " + sum);
+            System.out.println("Items in queue: " + q.count());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.tylerbartnick.drivers;
+
+import com.tylerbartnick.datastructures.ArrayStack;
+import com.tylerbartnick.datastructures.DoubleStack;
+import com.tylerbartnick.datastructures.IStack;
+import com.tylerbartnick.datastructures.IntStack;
+import com.tylerbartnick.datastructures.LongStack;
+import com.tylerbartnick.datastructures.Stack;
+
+/**
+ * Driver program to show correctness of algorithms found in the ArrayStack<T> class and its
+ * primitive counterparts, and that it behaves the same as Stack<T> behind the IStack<T> interface.
+ * This is a placeholder for more thorough JUnit tests.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class ArrayStackDriver {
+    public static void main(String[] args) {
+        System.out.println("Exercising the linked stack...");
+        exercise(new Stack<>());
+        System.out.println("Exercising the array stack, starting small to force growth...");
+        exercise(new ArrayStack<>(1));
+
+        System.out.println("------------------");
+        System.out.println("Ensuring nulls can be pushed onto the array stack...");
+        ArrayStack<Integer> nullable = new ArrayStack<>();
+        nullable.push(null);
+        nullable.push(61);
+        System.out.println("Current stack count: " + nullable.count());
+        while (!nullable.empty()) {
+            System.out.println(nullable.pop());
+        }
+
+        System.out.println("------------------");
+        System.out.println("Exercising the primitive stacks...");
+        DoubleStack doubles = new DoubleStack(1);
+        IntStack ints = new IntStack(1);
+        LongStack longs = new LongStack(1);
+        for (int i = 1; i <= 100; i++) {
+            doubles.push(i / 2.0d);
+            ints.push(i);
+            longs.push(i * 10_000_000_000L);
+        }
+        System.out.println("Peeked values: " + doubles.peek() + ", " + ints.peek() + ", " + longs.peek());
+        double doubleSum = 0.0d;
+        long intSum = 0;
+        long longSum = 0;
+        while (!doubles.empty()) {
+            doubleSum += doubles.pop();
+            intSum += ints.pop();
+            longSum += longs.pop();
+        }
+        System.out.println("Sums (expected 2525.0, 5050, 50500000000000): " + doubleSum + ", " + intSum + ", " + longSum);
+
+        try {
+            ints.pop();
+        } catch (IllegalArgumentException ex) {
+            System.out.println("Popping an empty primitive stack was rejected as expected.");
+        }
+    }
+
+    /**
+     * Runs the same sequence of operations against any stack implementation.
+     * @param stack The stack to exercise
+     */
+    private static void exercise(IStack<Integer> stack) {
+        System.out.println("Pushing 61, 31 and 15...");
+        stack.push(61);
+        stack.push(31);
+        stack.push(15);
+        System.out.println("Current stack count: " + stack.count() + ", top of stack: " + stack.peek());
+        while (!stack.empty()) {
+            System.out.println(stack.pop());
+        }
+        System.out.println("Popping an empty stack gives: " + stack.pop());
+
+        stack.push(34);
+        stack.push(35);
+        System.out.println("Clearing stack of " + stack.count() + " items...");
+        stack.clear();
+        System.out.println("Current stack count: " + stack.count());
+    }
+}
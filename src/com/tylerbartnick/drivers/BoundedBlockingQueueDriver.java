@@ -0,0 +1,181 @@
+package com.tylerbartnick.drivers;
+
+import com.tylerbartnick.datastructures.BoundedBlockingQueue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Driver for the BoundedBlockingQueue<T> class. Checks the capacity is honoured and the timed operations
+ * give up, and that a drain into a collection that throws loses nothing and wakes waiting producers. Then
+ * streams items from producers to consumers through a small queue, one at a time and in batches, checking
+ * every item arrives exactly once and in each producer's order.
+ * This is a placeholder for more thorough JUnit tests.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class BoundedBlockingQueueDriver {
+    /**
+     * The number of items each producer sends.
+     */
+    private static final int ITEMS_PER_PRODUCER = 200_000;
+
+    /**
+     * The size of each batch sent by enqueueAll() and taken by drainTo().
+     */
+    private static final int BATCH_SIZE = 64;
+
+    public static void main(String[] args) throws InterruptedException {
+        BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(3);
+        System.out.println("capacity: " + queue.capacity());
+        for (int i = 1; i <= 4; i++) {
+            System.out.println(String.format("tryEnqueue(%d): %b", i, queue.tryEnqueue(i)));
+        }
+        System.out.println("timed enqueue on a full queue: " + queue.enqueue(5, 10, TimeUnit.MILLISECONDS));
+        System.out.println(String.format("head: %d, tail: %d, remaining capacity: %d",
+                queue.peekHead(), queue.peekTail(), queue.remainingCapacity()));
+        List<Integer> drained = new ArrayList<>();
+        System.out.println(String.format("drainTo(2): %d %s", queue.drainTo(drained, 2), drained));
+        System.out.println(String.format("dequeue(): %d, tryDequeue on empty: %s, timed dequeue on empty: %s",
+                queue.dequeue(), queue.tryDequeue(), queue.dequeue(10, TimeUnit.MILLISECONDS)));
+        drainIntoFullCollection();
+
+        for (boolean batched : new boolean[] { false, true }) {
+            run(1, 1, batched);
+            run(4, 4, batched);
+            run(4, 1, batched);
+        }
+    }
+
+    /**
+     * Drains a full queue into a collection that only has room for one element, while a producer waits for
+     * room. The element the collection rejects must stay in the queue, and the producer must be woken for the
+     * slot that was freed.
+     * @throws InterruptedException Thrown if interrupted while waiting for the producer
+     */
+    private static void drainIntoFullCollection() throws InterruptedException {
+        BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(3);
+        for (int i = 1; i <= 3; i++) {
+            queue.enqueue(i);
+        }
+        // if it is never woken the producer is interrupted below, which makes enqueue() give up
+        Thread producer = new Thread(() -> queue.enqueue(4));
+        producer.start();
+        while (producer.getState() != Thread.State.WAITING) {
+            Thread.yield();
+        }
+        List<Integer> bounded = new ArrayList<Integer>() {
+            public boolean add(Integer element) {
+                if (size() == 1) { throw new IllegalStateException("Collection is full."); }
+                return super.add(element);
+            }
+        };
+        try {
+            queue.drainTo(bounded);
+        } catch (IllegalStateException ex) {
+            producer.join(1_000);
+            boolean woken = !producer.isAlive();
+            List<Integer> left = new ArrayList<>();
+            queue.drainTo(left);
+            System.out.println(String.format("drainTo into a full collection: took %s, producer woken: %b, left %s",
+                    bounded, woken, left));
+        }
+        producer.interrupt();
+    }
+
+    /**
+     * Streams every producer's items through a queue of 256 elements to the consumers.
+     * @param producers The number of producer threads
+     * @param consumers The number of consumer threads
+     * @param batched true to use enqueueAll() and drainTo(), false to move one item at a time
+     * @throws InterruptedException Thrown if interrupted while waiting for the threads
+     */
+    private static void run(int producers, int consumers, boolean batched) throws InterruptedException {
+        BoundedBlockingQueue<Long> queue = new BoundedBlockingQueue<>(256);
+        int total = producers * ITEMS_PER_PRODUCER;
+        int[][] received = new int[consumers][];
+        List<Thread> threads = new ArrayList<>();
+        int[] errors = new int[consumers];
+
+        for (int p = 0; p < producers; p++) {
+            final long producer = p;
+            threads.add(new Thread(() -> {
+                try {
+                    List<Long> batch = new ArrayList<>(BATCH_SIZE);
+                    for (long i = 0; i < ITEMS_PER_PRODUCER; i++) {
+                        // high bits hold the producer, low bits the sequence number
+                        long item = (producer << 32) | i;
+                        if (!batched) {
+                            queue.enqueue(item);
+                            continue;
+                        }
+                        batch.add(item);
+                        if (batch.size() == BATCH_SIZE || i == ITEMS_PER_PRODUCER - 1) {
+                            queue.enqueueAll(batch);
+                            batch.clear();
+                        }
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        for (int c = 0; c < consumers; c++) {
+            final int consumer = c;
+            threads.add(new Thread(() -> {
+                // the consumers share out the total, so each knows when to stop
+                int share = total / consumers + (consumer < total % consumers ? 1 : 0);
+                int[] counts = new int[producers];
+                long[] lastSequence = new long[producers];
+                Arrays.fill(lastSequence, -1);
+                List<Long> batch = new ArrayList<>(BATCH_SIZE);
+                int taken = 0;
+                while (taken < share) {
+                    batch.clear();
+                    if (batched) {
+                        if (queue.drainTo(batch, Math.min(BATCH_SIZE, share - taken)) == 0) {
+                            batch.add(queue.dequeue());
+                        }
+                    } else {
+                        batch.add(queue.dequeue());
+                    }
+                    for (long item : batch) {
+                        int producer = (int) (item >>> 32);
+                        long sequence = item & 0xFFFFFFFFL;
+                        if (sequence <= lastSequence[producer]) { errors[consumer]++; }
+                        lastSequence[producer] = sequence;
+                        counts[producer]++;
+                    }
+                    taken += batch.size();
+                }
+                received[consumer] = counts;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        int outOfOrder = 0;
+        int[] perProducer = new int[producers];
+        for (int c = 0; c < consumers; c++) {
+            outOfOrder += errors[c];
+            for (int p = 0; p < producers; p++) {
+                perProducer[p] += received[c][p];
+            }
+        }
+        int wrongCounts = 0;
+        for (int count : perProducer) {
+            if (count != ITEMS_PER_PRODUCER) { wrongCounts++; }
+        }
+        System.out.println(String.format("%d producers, %d consumers, %s: %,.0f items/sec, %d producers short or over, %d out of order, empty afterwards: %b",
+                producers, consumers, batched ? "batched" : "one at a time", total / (elapsed / 1_000_000_000.0d),
+                wrongCounts, outOfOrder, queue.empty()));
+    }
+}
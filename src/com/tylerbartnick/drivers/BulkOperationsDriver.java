@@ -0,0 +1,190 @@
+package com.tylerbartnick.drivers;
+
+import com.tylerbartnick.datastructures.DoubleLinkedList;
+import com.tylerbartnick.datastructures.ILinkedList;
+import com.tylerbartnick.datastructures.IndexableSkipList;
+import com.tylerbartnick.datastructures.Queue;
+import com.tylerbartnick.datastructures.SingleLinkedList;
+import com.tylerbartnick.datastructures.UnrolledLinkedList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Driver for the bulk operations of the linked lists: appendAll(), splice(), splitAt() and concat(), and
+ * Queue<T>.enqueueAll(). Replays random bulk operations mixed with single-element edits on every list against
+ * java.util.ArrayList, then times joining two 1,000,000 element lists by concat() against appending the
+ * elements one at a time.
+ * This is a placeholder for more thorough JUnit tests.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class BulkOperationsDriver {
+    private static final int SIZE = 1_000_000;
+
+    public static void main(String[] args) {
+        System.out.println("SingleLinkedList mismatches against ArrayList:   " + replay(SingleLinkedList::new));
+        System.out.println("DoubleLinkedList mismatches against ArrayList:   " + replay(DoubleLinkedList::new));
+        System.out.println("UnrolledLinkedList mismatches against ArrayList: " + replay(() -> new UnrolledLinkedList<>(4)));
+        System.out.println("IndexableSkipList mismatches against ArrayList:  " + replay(IndexableSkipList::new));
+        System.out.println("Queue enqueueAll mismatches:                     " + enqueueAll());
+
+        for (int round = 0; round < 2; round++) {
+            report();
+        }
+    }
+
+    /**
+     * Applies the same random bulk and single-element edits to a list and a java.util.ArrayList.
+     * @param factory Creates empty lists of the kind under test
+     * @return The number of times the two lists disagreed
+     */
+    private static int replay(Supplier<ILinkedList<Integer>> factory) {
+        Random random = new Random(11);
+        ILinkedList<Integer> list = factory.get();
+        List<Integer> expected = new ArrayList<>();
+        int mismatches = 0;
+        int next = 0;
+        for (int step = 0; step < 20_000; step++) {
+            int op = random.nextInt(10);
+            if (op < 2) {
+                List<Integer> batch = new ArrayList<>();
+                for (int i = random.nextInt(20); i > 0; i--) {
+                    batch.add(next++);
+                }
+                list.appendAll(batch);
+                expected.addAll(batch);
+            } else if (op == 2 && expected.size() < 500) {
+                list.appendAll(list);
+                expected.addAll(new ArrayList<>(expected));
+            } else if (op == 3) {
+                // a list of the same kind is relinked, any other is copied through the default
+                ILinkedList<Integer> other = random.nextBoolean() ? factory.get() : new DoubleLinkedList<>();
+                List<Integer> batch = new ArrayList<>();
+                for (int i = random.nextInt(20); i > 0; i--) {
+                    other.append(next);
+                    batch.add(next++);
+                }
+                int index = random.nextInt(expected.size() + 1);
+                list.splice(index, other);
+                expected.addAll(index, batch);
+                mismatches += other.empty() && other.getCount() == 0 ? 0 : 1;
+            } else if (op == 4) {
+                int index = random.nextInt(expected.size() + 1);
+                ILinkedList<Integer> split = list.splitAt(index);
+                List<Integer> moved = new ArrayList<>(expected.subList(index, expected.size()));
+                expected.subList(index, expected.size()).clear();
+                mismatches += compare(split, moved);
+                mismatches += compare(list, expected);
+                // edit both halves before joining them back, so broken links or counts show up
+                if (!moved.isEmpty()) {
+                    int at = random.nextInt(moved.size());
+                    split.delete(at);
+                    moved.remove(at);
+                }
+                split.insert(next, 0);
+                moved.add(0, next++);
+                list.append(next);
+                expected.add(next++);
+                list.splice(list.getCount(), split);
+                expected.addAll(moved);
+            } else if (op < 7 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.insert(next, index);
+                expected.add(index, next++);
+            } else if (op < 9) {
+                int index = random.nextInt(expected.size());
+                list.delete(index);
+                expected.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                mismatches += list.get(index).equals(expected.get(index)) ? 0 : 1;
+            }
+            if (expected.size() > 2_000) {
+                list.splitAt(1_000);
+                expected.subList(1_000, expected.size()).clear();
+            }
+        }
+        return mismatches + compare(list, expected);
+    }
+
+    /**
+     * Fills a queue in batches and drains it, checking the order.
+     * @return The number of elements out of place or miscounted
+     */
+    private static int enqueueAll() {
+        Queue<Integer> queue = new Queue<>();
+        List<Integer> batch = new ArrayList<>();
+        int mismatches = 0;
+        int next = 0;
+        for (int round = 0; round < 100; round++) {
+            batch.clear();
+            for (int i = 0; i < round; i++) {
+                batch.add(next++);
+            }
+            mismatches += queue.enqueueAll(batch) == round ? 0 : 1;
+        }
+        mismatches += queue.count() == next ? 0 : 1;
+        for (int i = 0; i < next; i++) {
+            mismatches += queue.dequeue() == i ? 0 : 1;
+        }
+        return mismatches;
+    }
+
+    /**
+     * Compares a list against the expected elements by count, by index and by iteration.
+     * @return The number of disagreements
+     */
+    private static int compare(ILinkedList<Integer> list, List<Integer> expected) {
+        int mismatches = list.getCount() == expected.size() ? 0 : 1;
+        int i = 0;
+        for (Integer value : list) {
+            mismatches += i < expected.size() && value.equals(expected.get(i)) ? 0 : 1;
+            i++;
+        }
+        mismatches += i == expected.size() ? 0 : 1;
+        if (!expected.isEmpty()) {
+            int last = expected.size() - 1;
+            mismatches += list.get(last).equals(expected.get(last)) ? 0 : 1;
+            mismatches += list.get(last / 2).equals(expected.get(last / 2)) ? 0 : 1;
+        }
+        return mismatches;
+    }
+
+    /**
+     * Times joining two full lists element by element and by concat(), and splitting one back in two.
+     */
+    private static void report() {
+        DoubleLinkedList<Integer> first = fill();
+        DoubleLinkedList<Integer> second = fill();
+        long start = System.nanoTime();
+        for (Integer value : second) {
+            first.append(value);
+        }
+        double appendMillis = (System.nanoTime() - start) / 1_000_000.0d;
+
+        first = fill();
+        second = fill();
+        start = System.nanoTime();
+        first.concat(second);
+        double concatMicros = (System.nanoTime() - start) / 1_000.0d;
+
+        start = System.nanoTime();
+        DoubleLinkedList<Integer> back = first.splitAt(SIZE);
+        double splitMicros = (System.nanoTime() - start) / 1_000.0d;
+
+        System.out.println(String.format("join %d + %d: append each %.1f ms, concat %.2f us; splitAt middle %.1f us (%d + %d)",
+                SIZE, SIZE, appendMillis, concatMicros, splitMicros, first.getCount(), back.getCount()));
+    }
+
+    private static DoubleLinkedList<Integer> fill() {
+        DoubleLinkedList<Integer> list = new DoubleLinkedList<>();
+        for (int i = 0; i < SIZE; i++) {
+            list.append(i);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,52 @@
+package com.tylerbartnick.drivers;
+
+import com.tylerbartnick.programs.CompiledExpression;
+
+/**
+ * Driver program to show correctness of the CompiledExpression class, compiling once and
+ * evaluating against many variable bindings.
+ * This is a placeholder for more thorough JUnit tests.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class CompiledExpressionDriver {
+    public static void main(String[] args) {
+        CompiledExpression constant = CompiledExpression.compile("3 4 + 2 *");
+        System.out.println("3 4 + 2 * = " + constant.evaluate());
+
+        CompiledExpression expr = CompiledExpression.compile("x y + 2 *", "x", "y");
+        System.out.println("Variable y is bound at position " + expr.indexOf("y"));
+        double[] bindings = new double[expr.getVariableCount()];
+        for (int i = 0; i < 5; i++) {
+            bindings[0] = i;
+            bindings[1] = i * 10;
+            System.out.println("x=" + bindings[0] + ", y=" + bindings[1] + ": (x + y) * 2 = " + expr.evaluate(bindings));
+        }
+
+        CompiledExpression hypot = CompiledExpression.compile("a 2 ^ b 2 ^ + 0.5 ^", "a", "b");
+        System.out.println("Hypotenuse of 3 and 4: " + hypot.evaluate(new double[] { 3, 4 }));
+
+        System.out.println("Evaluating 10 million times...");
+        long start = System.nanoTime();
+        double sum = 0.0d;
+        for (int i = 0; i < 10_000_000; i++) {
+            bindings[0] = i;
+            sum += expr.evaluate(bindings);
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.println(String.format("Checksum %.1f, %.1f ns per evaluation", sum, (double) elapsed / 10_000_000));
+
+        String[][] invalid = { { "x +", "x" }, { "x y", "x", "y" }, { "x 1 +", "NaN" }, { "x 1 +", "x", "x" }, { "z 1 +", "x" } };
+        for (String[] attempt : invalid) {
+            try {
+                String[] names = new String[attempt.length - 1];
+                System.arraycopy(attempt, 1, names, 0, names.length);
+                CompiledExpression.compile(attempt[0], names);
+                System.out.println("Unexpectedly compiled: " + attempt[0]);
+            } catch (IllegalArgumentException ex) {
+                System.out.println("Rejected \"" + attempt[0] + "\": " + ex.getMessage());
+            }
+        }
+    }
+}
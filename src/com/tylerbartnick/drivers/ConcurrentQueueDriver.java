@@ -0,0 +1,110 @@
+package com.tylerbartnick.drivers;
+
+import com.tylerbartnick.datastructures.ConcurrentQueue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stress test for the ConcurrentQueue<T> class. Several producers and consumers share one queue; every
+ * item must be dequeued exactly once, and each consumer must see each producer's items in the order
+ * they were enqueued.
+ * This is a placeholder for more thorough JUnit tests.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class ConcurrentQueueDriver {
+    /**
+     * The number of items each producer enqueues.
+     */
+    private static final int ITEMS_PER_PRODUCER = 500_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        int[][] configurations = { { 1, 1 }, { 2, 2 }, { 4, 4 }, { 1, 4 }, { 4, 1 } };
+        for (int[] configuration : configurations) {
+            run(configuration[0], configuration[1]);
+        }
+    }
+
+    /**
+     * Runs one round of the stress test.
+     * @param producers The number of producer threads
+     * @param consumers The number of consumer threads
+     * @throws InterruptedException Thrown if interrupted while waiting for the threads
+     */
+    private static void run(int producers, int consumers) throws InterruptedException {
+        ConcurrentQueue<Long> queue = new ConcurrentQueue<>();
+        int total = producers * ITEMS_PER_PRODUCER;
+        // one slot per item, incremented each time the item is dequeued
+        AtomicInteger[] seen = new AtomicInteger[total];
+        for (int i = 0; i < total; i++) {
+            seen[i] = new AtomicInteger();
+        }
+        AtomicInteger remaining = new AtomicInteger(total);
+        AtomicInteger orderViolations = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int p = 0; p < producers; p++) {
+            final long producer = p;
+            threads.add(new Thread(() -> {
+                await(start);
+                for (long i = 0; i < ITEMS_PER_PRODUCER; i++) {
+                    // high bits hold the producer, low bits the sequence number
+                    queue.enqueue((producer << 32) | i);
+                }
+            }));
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads.add(new Thread(() -> {
+                await(start);
+                long[] lastSequence = new long[producers];
+                Arrays.fill(lastSequence, -1);
+                while (remaining.get() > 0) {
+                    Long item = queue.dequeue();
+                    if (item == null) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    int producer = (int) (item >>> 32);
+                    long sequence = item & 0xFFFFFFFFL;
+                    if (sequence <= lastSequence[producer]) {
+                        orderViolations.incrementAndGet();
+                    }
+                    lastSequence[producer] = sequence;
+                    seen[(int) (producer * (long) ITEMS_PER_PRODUCER + sequence)].incrementAndGet();
+                    remaining.decrementAndGet();
+                }
+            }));
+        }
+
+        long begin = System.nanoTime();
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        int lostOrDuplicated = 0;
+        for (AtomicInteger count : seen) {
+            if (count.get() != 1) {
+                lostOrDuplicated++;
+            }
+        }
+        System.out.println(String.format("%d producers, %d consumers: %,.0f items/sec, %d lost or duplicated, %d out of order, empty afterwards: %b",
+                producers, consumers, total / (elapsed / 1_000_000_000.0d), lostOrDuplicated, orderViolations.get(), queue.empty()));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.tylerbartnick.drivers;
+
+import com.tylerbartnick.datastructures.ConcurrentStack;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stress test for the ConcurrentStack<T> class. Several threads push and pop on one Stack, with and without
+ * the elimination array; every item pushed must be popped exactly once.
+ * This is a placeholder for more thorough JUnit tests.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class ConcurrentStackDriver {
+    /**
+     * The number of items each thread pushes.
+     */
+    private static final int ITEMS_PER_THREAD = 500_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        ConcurrentStack<Integer> stack = new ConcurrentStack<>();
+        for (int i = 0; i < 5; i++) {
+            stack.push(i);
+        }
+        System.out.println(String.format("count: %d, peek: %d", stack.count(), stack.peek()));
+        StringBuilder popped = new StringBuilder();
+        while (!stack.empty()) {
+            popped.append(stack.pop()).append(' ');
+        }
+        System.out.println(String.format("popped: %s, count afterwards: %d, pop on empty: %s",
+                popped.toString().trim(), stack.count(), stack.pop()));
+
+        for (int threads : new int[] { 1, 2, 4, 8 }) {
+            run(threads, 0);
+            run(threads, 4);
+        }
+    }
+
+    /**
+     * Runs one round of the stress test, each thread alternating bursts of pushes and pops.
+     * @param threads The number of threads
+     * @param eliminationSlots The size of the elimination array, 0 for none
+     * @throws InterruptedException Thrown if interrupted while waiting for the threads
+     */
+    private static void run(int threads, int eliminationSlots) throws InterruptedException {
+        ConcurrentStack<Integer> stack = new ConcurrentStack<>(eliminationSlots);
+        int total = threads * ITEMS_PER_THREAD;
+        // one slot per item, incremented each time the item is popped
+        AtomicInteger[] seen = new AtomicInteger[total];
+        for (int i = 0; i < total; i++) {
+            seen[i] = new AtomicInteger();
+        }
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            final int base = t * ITEMS_PER_THREAD;
+            workers.add(new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < ITEMS_PER_THREAD; i += 8) {
+                    for (int j = i; j < Math.min(i + 8, ITEMS_PER_THREAD); j++) {
+                        stack.push(base + j);
+                    }
+                    for (int j = 0; j < 8; j++) {
+                        Integer item = stack.pop();
+                        if (item == null) { break; }
+                        seen[item].incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        long begin = System.nanoTime();
+        workers.forEach(Thread::start);
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        // anything left behind by pops that found the Stack momentarily empty
+        Integer item;
+        while ((item = stack.pop()) != null) {
+            seen[item].incrementAndGet();
+        }
+
+        int lostOrDuplicated = 0;
+        for (AtomicInteger count : seen) {
+            if (count.get() != 1) {
+                lostOrDuplicated++;
+            }
+        }
+        System.out.println(String.format("%d threads, %d elimination slots: %,.0f items/sec, %d lost or duplicated, count afterwards: %d",
+                threads, eliminationSlots, total / (elapsed / 1_000_000_000.0d), lostOrDuplicated, stack.count()));
+    }
+}
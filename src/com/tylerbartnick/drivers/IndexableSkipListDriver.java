@@ -0,0 +1,102 @@
+package com.tylerbartnick.drivers;
+
+import com.tylerbartnick.datastructures.DoubleLinkedList;
+import com.tylerbartnick.datastructures.ILinkedList;
+import com.tylerbartnick.datastructures.IndexableSkipList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Driver for the IndexableSkipList<T> class. Replays random index-based inserts, deletes and gets against
+ * java.util.ArrayList, including clearing and refilling, then times random positional operations on a
+ * 1,000,000 element list against DoubleLinkedList<T>.
+ * This is a placeholder for more thorough JUnit tests.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class IndexableSkipListDriver {
+    private static final int SIZE = 1_000_000;
+    private static final int OPERATIONS = 1_000;
+
+    public static void main(String[] args) {
+        System.out.println("mismatches against ArrayList: " + replay());
+
+        for (int round = 0; round < 2; round++) {
+            report("DoubleLinkedList ", new DoubleLinkedList<>());
+            report("IndexableSkipList", new IndexableSkipList<>());
+        }
+    }
+
+    /**
+     * Applies the same random index-based edits to a skip list and a java.util.ArrayList.
+     * @return The number of times the two lists disagreed
+     */
+    private static int replay() {
+        Random random = new Random(5);
+        IndexableSkipList<Integer> list = new IndexableSkipList<>();
+        List<Integer> expected = new ArrayList<>();
+        int mismatches = 0;
+        for (int step = 0; step < 300_000; step++) {
+            int op = random.nextInt(10);
+            if (step % 100_000 == 50_000) {
+                list.clear();
+                expected.clear();
+            }
+            // bias towards growth early in each stretch and shrinkage later
+            boolean grow = step % 100_000 < 50_000 ? op < 6 : op < 4;
+            if (grow || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.insert(step, index);
+                expected.add(index, step);
+            } else if (op < 8) {
+                int index = random.nextInt(expected.size());
+                list.delete(index);
+                expected.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                mismatches += list.get(index).equals(expected.get(index)) ? 0 : 1;
+            }
+        }
+        mismatches += list.getCount() == expected.size() ? 0 : 1;
+        int i = 0;
+        for (Integer value : list) {
+            mismatches += value.equals(expected.get(i++)) ? 0 : 1;
+        }
+        return mismatches + (i == expected.size() ? 0 : 1);
+    }
+
+    /**
+     * Fills a list, then times random gets and random insert/delete pairs.
+     * @param name The name to report the list under
+     * @param list An empty list
+     */
+    private static void report(String name, ILinkedList<Integer> list) {
+        long start = System.nanoTime();
+        for (int i = 0; i < SIZE; i++) {
+            list.append(i);
+        }
+        double fillMillis = (System.nanoTime() - start) / 1_000_000.0d;
+
+        Random random = new Random(9);
+        long sum = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            sum += list.get(random.nextInt(SIZE));
+        }
+        double getMicros = (System.nanoTime() - start) / 1_000.0d / OPERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            int index = random.nextInt(SIZE);
+            list.insert(-1, index);
+            list.delete(index);
+        }
+        double editMicros = (System.nanoTime() - start) / 1_000.0d / OPERATIONS;
+
+        System.out.println(String.format("%s fill %.1f ms, random get %.2f us, random insert+delete %.2f us (checksum %d)",
+                name, fillMillis, getMicros, editMicros, sum));
+    }
+}
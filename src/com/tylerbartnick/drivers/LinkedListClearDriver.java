@@ -0,0 +1,53 @@
+package com.tylerbartnick.drivers;
+
+import com.tylerbartnick.datastructures.DoubleLinkedList;
+import com.tylerbartnick.datastructures.Node;
+import com.tylerbartnick.datastructures.NodePool;
+import com.tylerbartnick.datastructures.SingleLinkedList;
+
+/**
+ * Driver for clear() and clear(boolean) on SingleLinkedList<T> and DoubleLinkedList<T>. Times both kinds
+ * of clear on a large list, checks each list is empty and reusable afterwards, and that scrubbing wipes a
+ * Node held from before the clear.
+ * This is a placeholder for more thorough JUnit tests.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class LinkedListClearDriver {
+    private static final int SIZE = 1_000_000;
+
+    public static void main(String[] args) {
+        for (boolean scrub : new boolean[] { false, true }) {
+            SingleLinkedList<Integer> single = new SingleLinkedList<>();
+            DoubleLinkedList<Integer> dbl = new DoubleLinkedList<>();
+            for (int i = 0; i < SIZE; i++) {
+                single.append(i);
+                dbl.append(i);
+            }
+            Node<Integer> heldHead = dbl.getHead();
+
+            long start = System.nanoTime();
+            single.clear(scrub);
+            long singleNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            dbl.clear(scrub);
+            long doubleNanos = System.nanoTime() - start;
+
+            single.append(7);
+            dbl.append(7);
+            System.out.println(String.format("%s clear of %,d: single %.3f ms, double %.3f ms; reused count %d/%d, head %d/%d; held Node data: %s",
+                    scrub ? "scrubbing" : "constant time", SIZE, singleNanos / 1_000_000.0d, doubleNanos / 1_000_000.0d,
+                    single.getCount(), dbl.getCount(), single.getHead(), dbl.getHead().getData(), heldHead.getData()));
+        }
+
+        NodePool<Integer> pool = new NodePool<>(100);
+        DoubleLinkedList<Integer> pooled = new DoubleLinkedList<>(pool);
+        for (int i = 0; i < SIZE; i++) {
+            pooled.append(i);
+        }
+        pooled.clear();
+        System.out.println(String.format("constant time clear of a pooled list: count %d, pool filled to %d of %d",
+                pooled.getCount(), pool.size(), pool.capacity()));
+    }
+}
@@ -0,0 +1,145 @@
+package com.tylerbartnick.drivers;
+
+import com.tylerbartnick.datastructures.DoubleLinkedList;
+import com.tylerbartnick.datastructures.ILinkedList;
+import com.tylerbartnick.datastructures.IndexableSkipList;
+import com.tylerbartnick.datastructures.ListCursor;
+import com.tylerbartnick.datastructures.SingleLinkedList;
+import com.tylerbartnick.datastructures.UnrolledLinkedList;
+
+import java.util.ConcurrentModificationException;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+/**
+ * Driver program to show correctness of the ListCursor<T> implementations of both linked lists by
+ * replaying the same random edits against java.util.LinkedList, and to show full scans are linear.
+ * This is a placeholder for more thorough JUnit tests.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class ListCursorDriver {
+    public static void main(String[] args) {
+        SingleLinkedList<Integer> sll = new SingleLinkedList<>();
+        DoubleLinkedList<Integer> dll = new DoubleLinkedList<>();
+        for (int i = 1; i <= 5; i++) {
+            sll.append(i);
+            dll.append(i);
+        }
+
+        System.out.print("Iterating with for-each: ");
+        for (int value : dll) {
+            System.out.print(value + " ");
+        }
+        System.out.println();
+
+        System.out.println("Removing even numbers and inserting 0 after every odd number...");
+        for (ILinkedList<Integer> list : List.<ILinkedList<Integer>>of(sll, dll)) {
+            ListCursor<Integer> cursor = list.cursor();
+            while (cursor.hasNext()) {
+                int value = cursor.next();
+                if (value % 2 == 0) {
+                    cursor.remove();
+                } else {
+                    cursor.insert(0);
+                }
+            }
+            StringBuilder text = new StringBuilder();
+            for (int value : list) {
+                text.append(value).append(' ');
+            }
+            System.out.println(text + "(count " + list.getCount() + ", expected 1 0 3 0 5 0)");
+        }
+
+        System.out.print("Walking the doubly-linked list backward: ");
+        ListCursor<Integer> backward = dll.cursor();
+        while (backward.hasNext()) {
+            backward.next();
+        }
+        while (backward.hasPrevious()) {
+            System.out.print(backward.previous() + " ");
+        }
+        System.out.println();
+
+        try {
+            for (int value : sll) {
+                sll.append(value);
+            }
+        } catch (ConcurrentModificationException ex) {
+            System.out.println("Modifying the list while iterating failed fast as expected.");
+        }
+
+        System.out.println("Replaying random edits against java.util.LinkedList...");
+        System.out.println("Singly-linked mismatches: " + replay(new SingleLinkedList<>(), false));
+        System.out.println("Doubly-linked mismatches: " + replay(new DoubleLinkedList<>(), true));
+        System.out.println("Unrolled mismatches: " + replay(new UnrolledLinkedList<>(4), true));
+        System.out.println("Skip list mismatches: " + replay(new IndexableSkipList<>(), true));
+
+        System.out.println("Scanning a 1,000,000 item list...");
+        DoubleLinkedList<Integer> large = new DoubleLinkedList<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            large.append(i);
+        }
+        long start = System.nanoTime();
+        long sum = 0;
+        for (int value : large) {
+            sum += value;
+        }
+        System.out.println(String.format("Sum %d in %.2f ms", sum, (System.nanoTime() - start) / 1_000_000.0d));
+    }
+
+    /**
+     * Applies the same random cursor operations to the given list and a java.util.LinkedList.
+     * @param list The list under test, which must be empty
+     * @param bidirectional Whether the list's cursor can move backward
+     * @return The number of times the two lists disagreed
+     */
+    private static int replay(ILinkedList<Integer> list, boolean bidirectional) {
+        Random random = new Random(7);
+        LinkedList<Integer> expected = new LinkedList<>();
+        int mismatches = 0;
+        for (int round = 0; round < 200; round++) {
+            ListCursor<Integer> cursor = list.cursor();
+            ListIterator<Integer> reference = expected.listIterator();
+            boolean canRemove = false;
+            for (int step = 0; step < 50; step++) {
+                int op = random.nextInt(bidirectional ? 4 : 3);
+                if (op == 0 && cursor.hasNext()) {
+                    mismatches += cursor.next().equals(reference.next()) ? 0 : 1;
+                    canRemove = true;
+                } else if (op == 1) {
+                    int value = random.nextInt(1000);
+                    cursor.insert(value);
+                    reference.add(value);
+                    canRemove = false;
+                } else if (op == 2 && canRemove) {
+                    cursor.remove();
+                    reference.remove();
+                    canRemove = false;
+                } else if (op == 3 && cursor.hasPrevious()) {
+                    mismatches += cursor.previous().equals(reference.previous()) ? 0 : 1;
+                    canRemove = true;
+                }
+                mismatches += cursor.nextIndex() == reference.nextIndex() ? 0 : 1;
+            }
+
+            mismatches += list.getCount() == expected.size() ? 0 : 1;
+            for (int i = 0; i < expected.size(); i++) {
+                mismatches += list.get(i).equals(expected.get(i)) ? 0 : 1;
+            }
+            // index-based deletes at either end must keep the lists consistent too
+            if (!expected.isEmpty()) {
+                list.delete(list.getCount() - 1);
+                expected.removeLast();
+            }
+            if (!expected.isEmpty()) {
+                list.delete(0);
+                expected.removeFirst();
+            }
+        }
+        return mismatches;
+    }
+}
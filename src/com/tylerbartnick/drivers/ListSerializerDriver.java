@@ -0,0 +1,132 @@
+package com.tylerbartnick.drivers;
+
+import com.tylerbartnick.datastructures.DoubleLinkedList;
+import com.tylerbartnick.datastructures.ElementCodecs;
+import com.tylerbartnick.datastructures.ILinkedList;
+import com.tylerbartnick.datastructures.IndexableSkipList;
+import com.tylerbartnick.datastructures.ListSerializer;
+import com.tylerbartnick.datastructures.Queue;
+import com.tylerbartnick.datastructures.SingleLinkedList;
+import com.tylerbartnick.datastructures.Stack;
+import com.tylerbartnick.datastructures.UnrolledLinkedList;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+
+/**
+ * Driver program to show correctness of the ListSerializer<T> class. Round-trips each linked structure, and
+ * Strings both smaller and larger than the serializer's buffer, then times writing and reading a 1,000,000
+ * element list against Java serialization of a java.util.LinkedList, and rejects a truncated stream.
+ * This is a placeholder for more thorough JUnit tests.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class ListSerializerDriver {
+    private static final int SIZE = 1_000_000;
+
+    public static void main(String[] args) throws IOException {
+        ListSerializer<Long> longs = new ListSerializer<>(ElementCodecs.LONG);
+        SingleLinkedList<Long> single = new SingleLinkedList<>();
+        for (long i = 0; i < SIZE; i++) {
+            single.append(i);
+        }
+        System.out.println("Single-linked round trip matches: " + sameElements(single, roundTrip(longs, single, new SingleLinkedList<>())));
+        DoubleLinkedList<Long> dbl = new DoubleLinkedList<>();
+        for (long i = 0; i < 1_000; i++) {
+            dbl.append(i * i);
+        }
+        System.out.println("Doubly-linked round trip matches: " + sameElements(dbl, roundTrip(longs, dbl, new DoubleLinkedList<>())));
+        System.out.println("Into an unrolled list matches: " + sameElements(dbl, roundTrip(longs, dbl, new UnrolledLinkedList<>())));
+        System.out.println("Into a skip list matches: " + sameElements(dbl, roundTrip(longs, dbl, new IndexableSkipList<>())));
+
+        Stack<Long> stack = new Stack<>();
+        Queue<Long> queue = new Queue<>();
+        for (long i = 1; i <= 5; i++) {
+            stack.push(i);
+            queue.enqueue(i);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        longs.write(stack, Channels.newChannel(bytes));
+        Stack<Long> stackCopy = longs.readStack(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())));
+        bytes.reset();
+        longs.write(queue, Channels.newChannel(bytes));
+        Queue<Long> queueCopy = longs.readQueue(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())));
+        StringBuilder popped = new StringBuilder();
+        while (!stackCopy.empty()) {
+            popped.append(stackCopy.pop()).append(stack.pop());
+        }
+        while (!queueCopy.empty()) {
+            popped.append(queueCopy.dequeue()).append(queue.dequeue());
+        }
+        System.out.println("Stack and queue copies pop in the same order: " + popped.toString().equals("55443322111122334455"));
+
+        ListSerializer<String> strings = new ListSerializer<>(ElementCodecs.STRING, 64);
+        SingleLinkedList<String> text = new SingleLinkedList<>();
+        char[] large = new char[1_000];
+        Arrays.fill(large, '\u00e9');
+        text.append("");
+        text.append("short");
+        text.append(new String(large));
+        text.append("\u6771\u4eac \ud83d\ude00");
+        System.out.println("Strings round trip across the buffer size: " + sameElements(text, roundTrip(strings, text, new SingleLinkedList<>())));
+
+        bytes.reset();
+        longs.write(dbl, Channels.newChannel(bytes));
+        try {
+            longs.read(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray(), 0, bytes.size() - 3)), new SingleLinkedList<>());
+            System.out.println("Read a truncated list, which should have been rejected");
+        } catch (IOException ex) {
+            System.out.println("Truncated list rejected: " + ex.getMessage());
+        }
+
+        System.out.println("------------------");
+        for (int round = 0; round < 3; round++) {
+            timeRoundTrip(longs, single);
+        }
+    }
+
+    private static <T> ILinkedList<T> roundTrip(ListSerializer<T> serializer, ILinkedList<T> list, ILinkedList<T> target) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        serializer.write(list, Channels.newChannel(bytes));
+        return serializer.read(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), target);
+    }
+
+    private static <T> boolean sameElements(ILinkedList<T> expected, ILinkedList<T> actual) {
+        if (expected.getCount() != actual.getCount()) { return false; }
+        Iterator<T> others = actual.iterator();
+        for (T value : expected) {
+            if (!value.equals(others.next())) { return false; }
+        }
+        return true;
+    }
+
+    private static void timeRoundTrip(ListSerializer<Long> serializer, SingleLinkedList<Long> list) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 * SIZE);
+        long start = System.nanoTime();
+        long written = serializer.write(list, Channels.newChannel(bytes));
+        double writeMillis = (System.nanoTime() - start) / 1_000_000.0d;
+        start = System.nanoTime();
+        serializer.read(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), new SingleLinkedList<>());
+        double readMillis = (System.nanoTime() - start) / 1_000_000.0d;
+
+        LinkedList<Long> baseline = new LinkedList<>();
+        for (Long value : list) {
+            baseline.add(value);
+        }
+        ByteArrayOutputStream javaBytes = new ByteArrayOutputStream(16 * SIZE);
+        start = System.nanoTime();
+        try (ObjectOutputStream out = new ObjectOutputStream(javaBytes)) {
+            out.writeObject(baseline);
+        }
+        double javaMillis = (System.nanoTime() - start) / 1_000_000.0d;
+        System.out.println(String.format("ListSerializer: %,d bytes, write %.1f ms, read %.1f ms; Java serialization of LinkedList: %,d bytes, write %.1f ms",
+                written, writeMillis, readMillis, javaBytes.size(), javaMillis));
+    }
+}
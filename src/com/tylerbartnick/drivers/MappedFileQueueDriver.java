@@ -0,0 +1,148 @@
+package com.tylerbartnick.drivers;
+
+import com.tylerbartnick.datastructures.ElementCodecs;
+import com.tylerbartnick.datastructures.MappedFileQueue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Driver program to show correctness of the MappedFileQueue<T> class. Replays random enqueues and dequeues
+ * of Strings, empty ones and multi-byte ones included, against java.util.ArrayDeque with small segments so
+ * the queue rolls over constantly, reopening it along the way with and without closing it first to show it
+ * recovers its position. A crash part way through an enqueue is simulated by writing a record's bytes into
+ * the segment file without its header, as a process dying before publishing it would leave them, and the
+ * queue is reopened to show those bytes never turn into elements. Out of range segment sizes are rejected.
+ * Then spills a backlog of Longs to disk and shows the segments being deleted as it drains.
+ * This is a placeholder for more thorough JUnit tests.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class MappedFileQueueDriver {
+    public static void main(String[] args) throws IOException {
+        Path directory = Files.createTempDirectory("mapped-queue");
+        try {
+            System.out.println("mismatches against ArrayDeque: " + replay(directory.resolve("strings")));
+            System.out.println("mismatches after a crash mid-enqueue: " + crash(directory.resolve("crash")));
+            try {
+                new MappedFileQueue<>(directory.resolve("huge"), ElementCodecs.LONG, Integer.MAX_VALUE);
+                System.out.println("Segment size of 2 GiB accepted");
+            } catch (IllegalArgumentException ex) {
+                System.out.println("Segment size of 2 GiB rejected");
+            }
+            spill(directory.resolve("longs"));
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static int replay(Path directory) throws IOException {
+        Random random = new Random(4);
+        MappedFileQueue<String> queue = new MappedFileQueue<>(directory, ElementCodecs.STRING, 256);
+        ArrayDeque<String> expected = new ArrayDeque<>();
+        int mismatches = 0;
+        int reopens = 0;
+        for (int step = 0; step < 50_000; step++) {
+            int op = random.nextInt(10);
+            if (op < 5) {
+                String value = step % 7 == 0 ? "" : step % 11 == 0 ? "\u00e9t\u00e9 \u6771\u4eac \ud83d\ude00 " + step : "item " + step;
+                queue.enqueue(value);
+                expected.addLast(value);
+            } else if (op < 9) {
+                String value = queue.dequeue();
+                mismatches += value == null ? (expected.isEmpty() ? 0 : 1) : (value.equals(expected.pollFirst()) ? 0 : 1);
+            } else if (step % 500 == 9) {
+                // every other time the old instance is abandoned without closing, as if the process had died
+                if (reopens++ % 2 == 0) { queue.close(); }
+                queue = new MappedFileQueue<>(directory, ElementCodecs.STRING, 256);
+            } else if (!expected.isEmpty()) {
+                mismatches += queue.peekHead().equals(expected.peekFirst()) && queue.peekTail().equals(expected.peekLast()) ? 0 : 1;
+            }
+            mismatches += queue.count() == expected.size() ? 0 : 1;
+        }
+        System.out.println("Reopened " + reopens + " times, " + queue.count() + " left over " + queue.segmentCount() + " segments");
+        queue.clear();
+        mismatches += queue.empty() && queue.dequeue() == null && queue.segmentCount() == 1 ? 0 : 1;
+        queue.close();
+        try {
+            queue.enqueue("closed");
+            mismatches++;
+        } catch (IllegalStateException ex) {
+            System.out.println("Enqueueing onto a closed queue rejected");
+        }
+        return mismatches;
+    }
+
+    /**
+     * Leaves the bytes of an unpublished record after the last element, then reopens the queue, enqueues a
+     * record shorter than the unpublished one and reopens it again.
+     * @return The number of elements miscounted or out of place
+     */
+    private static int crash(Path directory) throws IOException {
+        int segmentSize = 4096;
+        try (MappedFileQueue<byte[]> queue = new MappedFileQueue<>(directory, ElementCodecs.BYTES, segmentSize)) {
+            queue.enqueue(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+        }
+        // the first record takes 4 + 8 bytes; the crashed one was encoded after its own 4 byte header slot
+        ByteBuffer payload = ByteBuffer.allocate(64);
+        while (payload.hasRemaining()) {
+            payload.putInt(2);
+        }
+        try (FileChannel channel = FileChannel.open(directory.resolve(String.format("%020d.segment", 0)), StandardOpenOption.WRITE)) {
+            channel.write(payload.flip(), 12 + 4);
+        }
+
+        int mismatches = 0;
+        try (MappedFileQueue<byte[]> queue = new MappedFileQueue<>(directory, ElementCodecs.BYTES, segmentSize)) {
+            mismatches += queue.count() == 1 ? 0 : 1;
+            queue.enqueue(new byte[] { 9 });
+        }
+        try (MappedFileQueue<byte[]> queue = new MappedFileQueue<>(directory, ElementCodecs.BYTES, segmentSize)) {
+            mismatches += queue.count() == 2 ? 0 : 1;
+            mismatches += queue.dequeue().length == 8 ? 0 : 1;
+            byte[] last = queue.dequeue();
+            mismatches += last.length == 1 && last[0] == 9 ? 0 : 1;
+            mismatches += queue.empty() ? 0 : 1;
+        }
+        return mismatches;
+    }
+
+    private static void spill(Path directory) throws IOException {
+        int values = 5_000_000;
+        long start = System.nanoTime();
+        try (MappedFileQueue<Long> queue = new MappedFileQueue<>(directory, ElementCodecs.LONG, 4 << 20)) {
+            for (long i = 0; i < values; i++) {
+                queue.enqueue(i);
+            }
+            System.out.println(String.format("Spilled %,d Longs over %d segments in %.1f ms", queue.longCount(),
+                    queue.segmentCount(), (System.nanoTime() - start) / 1_000_000.0d));
+            long sum = 0;
+            for (int i = 0; i < values / 2; i++) {
+                sum += queue.dequeue();
+            }
+            System.out.println(String.format("Half drained: %d segments, %d files", queue.segmentCount(), fileCount(directory)));
+            while (!queue.empty()) {
+                sum += queue.dequeue();
+            }
+            System.out.println(String.format("Drained (sum %,d, expected %,d): %d segments", sum,
+                    (long) values * (values - 1) / 2, queue.segmentCount()));
+        }
+    }
+
+    private static long fileCount(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.tylerbartnick.drivers;
+
+import com.tylerbartnick.datastructures.DoubleLinkedList;
+import com.tylerbartnick.datastructures.NodePool;
+import com.tylerbartnick.datastructures.Queue;
+import com.tylerbartnick.datastructures.Stack;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Driver for the NodePool<T> class. Checks that lists recycling their Nodes behave exactly like lists that
+ * do not, that the pool never grows past its cap, and reports how much a churning Queue and Stack allocate
+ * with and without a pool.
+ * This is a placeholder for more thorough JUnit tests.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class NodePoolDriver {
+    /**
+     * The number of rounds of churn measured.
+     */
+    private static final int ROUNDS = 100_000;
+
+    /**
+     * The number of elements added and removed each round.
+     */
+    private static final int DEPTH = 64;
+
+    public static void main(String[] args) {
+        NodePool<Integer> pool = new NodePool<>(8);
+        DoubleLinkedList<Integer> list = new DoubleLinkedList<>(pool);
+        for (int i = 0; i < 20; i++) {
+            list.append(i);
+        }
+        list.delete(0);
+        list.delete(list.getCount() - 1);
+        System.out.println(String.format("pool after 2 deletes: %d", pool.size()));
+        list.clear();
+        System.out.println(String.format("pool after clearing 18 more: %d (capped at %d)", pool.size(), pool.capacity()));
+        for (int i = 0; i < 5; i++) {
+            list.insert(i, 0);
+        }
+        StringBuilder contents = new StringBuilder();
+        for (Integer value : list) {
+            contents.append(value).append(' ');
+        }
+        System.out.println(String.format("list rebuilt from the pool: %s, pool: %d", contents.toString().trim(), pool.size()));
+
+        int mismatches = 0;
+        Queue<Integer> pooledQueue = new Queue<>(new NodePool<>());
+        Stack<Integer> pooledStack = new Stack<>(new NodePool<>());
+        for (int round = 0; round < 1000; round++) {
+            for (int i = 0; i < DEPTH; i++) {
+                pooledQueue.enqueue(i);
+                pooledStack.push(i);
+            }
+            for (int i = 0; i < DEPTH; i++) {
+                if (pooledQueue.dequeue() != i) { mismatches++; }
+                if (pooledStack.pop() != DEPTH - 1 - i) { mismatches++; }
+            }
+        }
+        System.out.println("mismatches in pooled Queue and Stack order: " + mismatches);
+
+        System.out.println(String.format("Queue churn, no pool: %,d bytes allocated", queueChurn(new Queue<>())));
+        System.out.println(String.format("Queue churn, pooled:  %,d bytes allocated", queueChurn(new Queue<>(new NodePool<>()))));
+        System.out.println(String.format("Stack churn, no pool: %,d bytes allocated", stackChurn(new Stack<>())));
+        System.out.println(String.format("Stack churn, pooled:  %,d bytes allocated", stackChurn(new Stack<>(new NodePool<>()))));
+    }
+
+    /**
+     * Fills and empties a Queue over and over, measuring the bytes allocated by the calling thread.
+     * @param queue The queue to churn
+     * @return The bytes allocated
+     */
+    private static long queueChurn(Queue<Integer> queue) {
+        long before = allocatedBytes();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int i = 0; i < DEPTH; i++) {
+                queue.enqueue(i);
+            }
+            while (!queue.empty()) {
+                queue.dequeue();
+            }
+        }
+        return allocatedBytes() - before;
+    }
+
+    /**
+     * Fills and empties a Stack over and over, measuring the bytes allocated by the calling thread.
+     * @param stack The Stack to churn
+     * @return The bytes allocated
+     */
+    private static long stackChurn(Stack<Integer> stack) {
+        long before = allocatedBytes();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int i = 0; i < DEPTH; i++) {
+                stack.push(i);
+            }
+            while (!stack.empty()) {
+                stack.pop();
+            }
+        }
+        return allocatedBytes() - before;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+}
@@ -0,0 +1,149 @@
+package com.tylerbartnick.drivers;
+
+import com.tylerbartnick.datastructures.OffHeapDoubleQueue;
+import com.tylerbartnick.datastructures.OffHeapLongQueue;
+import com.tylerbartnick.datastructures.OffHeapLongStack;
+import com.tylerbartnick.datastructures.Queue;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.Random;
+
+/**
+ * Driver program to show correctness of the off-heap OffHeapLongQueue, OffHeapDoubleQueue and
+ * OffHeapLongStack classes. Replays random operations against java.util.ArrayDeque with tiny chunks so
+ * every chunk boundary is crossed, then compares the heap used while holding 20,000,000 values against a
+ * Queue<Long> holding a tenth as many, and shows the direct memory given back once a queue drains.
+ * This is a placeholder for more thorough JUnit tests.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class OffHeapDriver {
+    private static final int VALUES = 20_000_000;
+
+    public static void main(String[] args) {
+        System.out.println("Long queue mismatches: " + replayLongQueue());
+        System.out.println("Double queue mismatches: " + replayDoubleQueue());
+        System.out.println("Long stack mismatches: " + replayLongStack());
+        try {
+            new OffHeapLongStack().pop();
+            System.out.println("Popped an empty stack, which should have thrown");
+        } catch (IllegalArgumentException ex) {
+            System.out.println("Popping an empty stack rejected");
+        }
+
+        System.out.println("------------------");
+        OffHeapLongQueue offHeap = new OffHeapLongQueue();
+        long before = usedHeap();
+        for (long i = 0; i < VALUES; i++) {
+            offHeap.enqueue(i);
+        }
+        System.out.println(String.format("OffHeapLongQueue of %,d: heap change %+,d KiB, direct memory %,d KiB",
+                offHeap.count(), (usedHeap() - before) / 1024, directMemory() / 1024));
+        long sum = 0;
+        while (!offHeap.empty()) {
+            sum += offHeap.dequeue();
+        }
+        // the chunks' memory is freed by their cleaners, which run shortly after a collection finds them
+        System.gc();
+        try {
+            Thread.sleep(200);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        System.out.println(String.format("Drained (sum %,d): direct memory %,d KiB", sum, directMemory() / 1024));
+
+        Queue<Long> boxed = new Queue<>();
+        before = usedHeap();
+        for (long i = 0; i < VALUES / 10; i++) {
+            boxed.enqueue(i);
+        }
+        System.out.println(String.format("Queue<Long> of %,d: heap %.2f B/value",
+                boxed.count(), (double) (usedHeap() - before) / (VALUES / 10)));
+    }
+
+    private static int replayLongQueue() {
+        Random random = new Random(1);
+        OffHeapLongQueue queue = new OffHeapLongQueue(4);
+        ArrayDeque<Long> expected = new ArrayDeque<>();
+        int mismatches = 0;
+        for (int step = 0; step < 200_000; step++) {
+            int op = random.nextInt(10);
+            if (op < 5 || expected.isEmpty()) {
+                long value = random.nextLong();
+                queue.enqueue(value);
+                expected.addLast(value);
+            } else if (op < 8) {
+                mismatches += queue.dequeue() == expected.removeFirst() ? 0 : 1;
+            } else if (op < 9) {
+                mismatches += queue.peekHead() == expected.peekFirst() && queue.peekTail() == expected.peekLast() ? 0 : 1;
+            } else if (step % 1_000 == 9) {
+                queue.clear();
+                expected.clear();
+            }
+            mismatches += queue.count() == expected.size() ? 0 : 1;
+        }
+        return mismatches;
+    }
+
+    private static int replayDoubleQueue() {
+        Random random = new Random(2);
+        OffHeapDoubleQueue queue = new OffHeapDoubleQueue(4);
+        ArrayDeque<Double> expected = new ArrayDeque<>();
+        int mismatches = 0;
+        for (int step = 0; step < 200_000; step++) {
+            int op = random.nextInt(10);
+            if (op < 5 || expected.isEmpty()) {
+                // NaN and the infinities must come back bit for bit too
+                double value = step % 97 == 0 ? Double.NaN : step % 89 == 0 ? Double.NEGATIVE_INFINITY : random.nextGaussian();
+                queue.enqueue(value);
+                expected.addLast(value);
+            } else if (op < 8) {
+                mismatches += Double.compare(queue.dequeue(), expected.removeFirst()) == 0 ? 0 : 1;
+            } else {
+                mismatches += Double.compare(queue.peekHead(), expected.peekFirst()) == 0 ? 0 : 1;
+            }
+            mismatches += queue.count() == expected.size() ? 0 : 1;
+        }
+        return mismatches;
+    }
+
+    private static int replayLongStack() {
+        Random random = new Random(3);
+        OffHeapLongStack stack = new OffHeapLongStack(4);
+        ArrayDeque<Long> expected = new ArrayDeque<>();
+        int mismatches = 0;
+        for (int step = 0; step < 200_000; step++) {
+            int op = random.nextInt(10);
+            if (op < 5 || expected.isEmpty()) {
+                long value = random.nextLong();
+                stack.push(value);
+                expected.push(value);
+            } else if (op < 8) {
+                mismatches += stack.pop() == expected.pop() ? 0 : 1;
+            } else if (op < 9) {
+                mismatches += stack.peek() == expected.peek() ? 0 : 1;
+            } else if (step % 1_000 == 9) {
+                stack.clear();
+                expected.clear();
+            }
+            mismatches += stack.count() == expected.size() ? 0 : 1;
+        }
+        return mismatches;
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long directMemory() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if (pool.getName().equals("direct")) { return pool.getMemoryUsed(); }
+        }
+        return -1L;
+    }
+}
@@ -0,0 +1,90 @@
+package com.tylerbartnick.drivers;
+
+import com.tylerbartnick.datastructures.PersistentList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Driver program to show correctness of the PersistentList<T> class. Replays random inserts, deletes and
+ * prepends against java.util.ArrayList, keeping every hundredth version as a snapshot along with a copy of
+ * what it held, and checks at the end that no later edit disturbed any of them.
+ * This is a placeholder for more thorough JUnit tests.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class PersistentListDriver {
+    public static void main(String[] args) {
+        PersistentList<Integer> list = PersistentList.from(List.of(1, 2, 3));
+        PersistentList<Integer> longer = list.prepend(0);
+        System.out.println("from(1, 2, 3): " + join(list) + ", prepend(0): " + join(longer));
+        System.out.println("Tail shared: " + (longer.rest() == list));
+        System.out.println("insert(9, 2): " + join(list.insert(9, 2)) + ", delete(0): " + join(list.delete(0))
+                + ", append(4): " + join(list.append(4)) + ", reverse(): " + join(list.reverse()));
+        System.out.println("Original untouched: " + join(list));
+        System.out.println("delete(1) shares the cell after index 1: "
+                + (list.delete(1).rest() == list.rest().rest()));
+
+        System.out.println("------------------");
+        System.out.println("mismatches against ArrayList: " + replay());
+    }
+
+    /**
+     * Applies the same random edits to a persistent list and a java.util.ArrayList, snapshotting both.
+     * @return The number of times a version disagreed with its copy
+     */
+    private static int replay() {
+        Random random = new Random(3);
+        PersistentList<Integer> list = PersistentList.emptyList();
+        List<Integer> expected = new ArrayList<>();
+        List<PersistentList<Integer>> snapshots = new ArrayList<>();
+        List<List<Integer>> copies = new ArrayList<>();
+        for (int step = 0; step < 20_000; step++) {
+            int op = random.nextInt(10);
+            if (op < 4 || expected.isEmpty()) {
+                list = list.prepend(step);
+                expected.add(0, step);
+            } else if (op < 7) {
+                int index = random.nextInt(expected.size() + 1);
+                list = list.insert(step, index);
+                expected.add(index, step);
+            } else {
+                int index = random.nextInt(expected.size());
+                list = list.delete(index);
+                expected.remove(index);
+            }
+            if (step % 100 == 0) {
+                snapshots.add(list);
+                copies.add(new ArrayList<>(expected));
+            }
+        }
+        snapshots.add(list);
+        copies.add(expected);
+
+        int mismatches = 0;
+        for (int i = 0; i < snapshots.size(); i++) {
+            PersistentList<Integer> snapshot = snapshots.get(i);
+            List<Integer> copy = copies.get(i);
+            mismatches += snapshot.getCount() == copy.size() ? 0 : 1;
+            int index = 0;
+            for (Integer value : snapshot) {
+                mismatches += value.equals(copy.get(index++)) ? 0 : 1;
+            }
+            if (!copy.isEmpty()) {
+                int probe = random.nextInt(copy.size());
+                mismatches += snapshot.get(probe).equals(copy.get(probe)) ? 0 : 1;
+            }
+        }
+        return mismatches;
+    }
+
+    private static String join(PersistentList<Integer> list) {
+        StringBuilder builder = new StringBuilder("[");
+        for (Integer value : list) {
+            builder.append(builder.length() > 1 ? ", " : "").append(value);
+        }
+        return builder.append("]").toString();
+    }
+}
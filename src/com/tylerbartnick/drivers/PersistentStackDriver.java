@@ -0,0 +1,96 @@
+package com.tylerbartnick.drivers;
+
+import com.tylerbartnick.datastructures.PersistentStack;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Driver program to show correctness of the PersistentStack<T> class: snapshots are unaffected by later
+ * pushes and pops, and readers on other threads always see complete versions without locking.
+ * This is a placeholder for more thorough JUnit tests.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class PersistentStackDriver {
+    public static void main(String[] args) throws InterruptedException {
+        PersistentStack<Integer> empty = PersistentStack.emptyStack();
+        PersistentStack<Integer> stack = empty.push(61).push(31);
+        PersistentStack<Integer> snapshot = stack;
+        System.out.println("Pushed 61 and 31, count: " + stack.count() + ", top: " + stack.peek());
+
+        stack = stack.pop().push(15).push(99);
+        System.out.println("Popped 31, pushed 15 and 99, count: " + stack.count() + ", top: " + stack.peek());
+        System.out.println("Snapshot still has count " + snapshot.count() + " and top " + snapshot.peek());
+        System.out.println("Both share the 61 beneath: " + (stack.pop().pop() == snapshot.pop()));
+        System.out.print("Stack from the top down:");
+        for (Integer value : stack) {
+            System.out.print(" " + value);
+        }
+        System.out.println();
+        System.out.println("Popping the empty stack gives the empty stack: " + (empty.pop() == empty)
+                + ", peek: " + empty.peek());
+        try {
+            empty.push(null);
+            System.out.println("Pushed null, which should have been rejected");
+        } catch (IllegalArgumentException ex) {
+            System.out.println("Pushing null rejected");
+        }
+
+        System.out.println("------------------");
+        System.out.println("Torn snapshots seen by readers: " + readWhileWriting());
+    }
+
+    /**
+     * Publishes a new version after every push and pop while readers walk whichever version is current. Each
+     * version holds count() - 1, count() - 2, ..., 0 from the top down, so a reader can check it is whole.
+     * @return The number of versions a reader found inconsistent
+     */
+    private static int readWhileWriting() throws InterruptedException {
+        AtomicReference<PersistentStack<Integer>> current = new AtomicReference<>(PersistentStack.emptyStack());
+        AtomicInteger torn = new AtomicInteger();
+        List<Thread> readers = new ArrayList<>();
+        Thread writer = new Thread(() -> {
+            PersistentStack<Integer> stack = PersistentStack.emptyStack();
+            for (int round = 0; round < 200; round++) {
+                for (int i = 0; i < 1_000; i++) {
+                    stack = stack.push(stack.count());
+                    current.set(stack);
+                }
+                for (int i = 0; i < 500; i++) {
+                    stack = stack.pop();
+                    current.set(stack);
+                }
+                Thread.yield();
+            }
+        });
+
+        for (int r = 0; r < 3; r++) {
+            readers.add(new Thread(() -> {
+                while (writer.isAlive()) {
+                    PersistentStack<Integer> version = current.get();
+                    int expected = version.count();
+                    for (Integer value : version) {
+                        if (value != --expected) {
+                            torn.incrementAndGet();
+                            break;
+                        }
+                    }
+                    Thread.yield();
+                }
+            }));
+        }
+        writer.start();
+        for (Thread reader : readers) {
+            reader.start();
+        }
+        writer.join();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        return torn.get();
+    }
+}
@@ -0,0 +1,76 @@
+package com.tylerbartnick.drivers;
+
+import com.tylerbartnick.programs.CompiledExpression;
+import com.tylerbartnick.programs.RpnBatchEvaluator;
+import com.tylerbartnick.programs.RpnEvaluator;
+
+import java.util.Random;
+
+/**
+ * Driver program to show the RpnBatchEvaluator class gives the same answers as evaluating row by row,
+ * and to compare row-by-row, batch and parallel batch throughput.
+ * This is a placeholder for more thorough JUnit tests.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class RpnBatchEvaluatorDriver {
+    /**
+     * The number of rows in each column.
+     */
+    private static final int ROWS = 4_000_000;
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        double[][] columns = new double[2][ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            columns[0][i] = random.nextInt(2001) - 1000;
+            // include plenty of zeros to exercise the divide-by-zero guard
+            columns[1][i] = random.nextInt(21) - 10;
+        }
+        double[] result = new double[ROWS];
+        RpnEvaluator evaluator = new RpnEvaluator();
+
+        String[] expressions = { "x y + 2 *", "x y /", "x y _", "y 2 ^ x -", "2 x / 3 +", "1 2 + 4 *", "y" };
+        for (String text : expressions) {
+            CompiledExpression expr = CompiledExpression.compile(text, "x", "y");
+            RpnBatchEvaluator batch = new RpnBatchEvaluator(expr);
+            batch.evaluateParallel(columns, result);
+
+            double[] bindings = new double[2];
+            int mismatches = 0;
+            for (int i = 0; i < ROWS; i++) {
+                bindings[0] = columns[0][i];
+                bindings[1] = columns[1][i];
+                if (Double.compare(result[i], evaluator.evaluate(expr, bindings)) != 0) {
+                    mismatches++;
+                }
+            }
+            System.out.println(String.format("%-12s mismatches against row-by-row: %d", text, mismatches));
+        }
+
+        CompiledExpression expr = CompiledExpression.compile("x y * x + 3 / y -", "x", "y");
+        RpnBatchEvaluator batch = new RpnBatchEvaluator(expr);
+        double[] bindings = new double[2];
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < ROWS; i++) {
+                bindings[0] = columns[0][i];
+                bindings[1] = columns[1][i];
+                result[i] = evaluator.evaluate(expr, bindings);
+            }
+            long rowByRow = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            batch.evaluate(columns, result);
+            long sequential = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            batch.evaluateParallel(columns, result);
+            long parallel = System.nanoTime() - start;
+
+            System.out.println(String.format("Round %d: row-by-row %.2f ns/row, batch %.2f ns/row, parallel batch %.2f ns/row",
+                    round + 1, (double) rowByRow / ROWS, (double) sequential / ROWS, (double) parallel / ROWS));
+        }
+    }
+}
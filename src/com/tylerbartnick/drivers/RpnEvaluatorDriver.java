@@ -0,0 +1,84 @@
+package com.tylerbartnick.drivers;
+
+import com.tylerbartnick.programs.CompiledExpression;
+import com.tylerbartnick.programs.RpnEvaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Driver program to show a single RpnEvaluator can be shared by many threads at once, and that its
+ * throughput scales with the number of threads up to the number of cores.
+ * This is a placeholder for more thorough JUnit tests.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class RpnEvaluatorDriver {
+    /**
+     * The number of evaluations each thread performs per run, a multiple of 1024 to keep the checksum simple.
+     */
+    private static final int EVALUATIONS_PER_THREAD = 1 << 22;
+
+    public static void main(String[] args) throws Exception {
+        RpnEvaluator evaluator = new RpnEvaluator();
+        CompiledExpression expr = CompiledExpression.compile("x y + 2 * x -", "x", "y");
+
+        System.out.println("3 4 + 2 * = " + evaluator.evaluate("3 4 + 2 *"));
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("Available cores: " + cores);
+        // warm up so the first measured run is not dominated by compilation
+        run(evaluator, expr, 1);
+        for (int threads = 1; threads <= cores * 2; threads <<= 1) {
+            long start = System.nanoTime();
+            run(evaluator, expr, threads);
+            long elapsed = System.nanoTime() - start;
+            double perSecond = (double) threads * EVALUATIONS_PER_THREAD / (elapsed / 1_000_000_000.0d);
+            System.out.println(String.format("%2d threads: %,.0f evaluations/sec", threads, perSecond));
+        }
+    }
+
+    /**
+     * Evaluates the shared expression on the given number of threads, each with its own bindings, and
+     * checks every thread got the results it expected.
+     * @param evaluator The shared evaluator
+     * @param expr The shared compiled expression
+     * @param threads The number of threads to evaluate on
+     * @throws Exception Thrown if any thread saw a wrong result
+     */
+    private static void run(RpnEvaluator evaluator, CompiledExpression expr, int threads) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<Double>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final double y = t;
+            results.add(pool.submit(() -> {
+                double[] bindings = { 0.0d, y };
+                double sum = 0.0d;
+                for (int i = 0; i < EVALUATIONS_PER_THREAD; i++) {
+                    bindings[0] = i & 1023;
+                    sum += evaluator.evaluate(expr, bindings);
+                }
+                return sum;
+            }));
+        }
+
+        try {
+            for (int t = 0; t < threads; t++) {
+                // (x + y) * 2 - x is x + 2y, summed over every evaluation
+                double expected = (EVALUATIONS_PER_THREAD / 1024) * (1023.0d * 1024 / 2) + 2.0d * t * EVALUATIONS_PER_THREAD;
+                double actual = results.get(t).get();
+                if (actual != expected) {
+                    throw new IllegalStateException(String.format("Thread %d expected %.1f but got %.1f.", t, expected, actual));
+                }
+            }
+        } finally {
+            pool.shutdown();
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+}
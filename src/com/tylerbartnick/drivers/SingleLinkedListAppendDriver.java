@@ -0,0 +1,50 @@
+package com.tylerbartnick.drivers;
+
+import com.tylerbartnick.datastructures.SingleLinkedList;
+
+/**
+ * Driver program to show building a SingleLinkedList<T> by appending takes time linear in its size,
+ * i.e. that the time per append stays flat as the list doubles in size.
+ * This is a placeholder for more thorough benchmarks.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class SingleLinkedListAppendDriver {
+    public static void main(String[] args) {
+        // warm up so the measured runs are not dominated by compilation
+        build(100_000);
+
+        for (int size = 10_000; size <= 2_560_000; size <<= 1) {
+            long start = System.nanoTime();
+            SingleLinkedList<Integer> ll = build(size);
+            long elapsed = System.nanoTime() - start;
+            System.out.println(String.format("%,10d items: %8.2f ms total, %6.2f ns per append, tail %d",
+                    size, elapsed / 1_000_000.0d, (double) elapsed / size, ll.getTail()));
+        }
+
+        System.out.println("Checking inserts and deletes at either end keep the tail correct...");
+        SingleLinkedList<Integer> ll = build(5);
+        ll.insert(99, ll.getCount() - 1);
+        ll.insert(100, ll.getCount());
+        ll.delete(ll.getCount() - 1);
+        ll.append(101);
+        for (int i = 0; i < ll.getCount(); i++) {
+            System.out.print(ll.get(i) + " ");
+        }
+        System.out.println("(expected 0 1 2 3 99 4 101)");
+    }
+
+    /**
+     * Builds a list of the given size by appending.
+     * @param size The number of items to append
+     * @return The built list
+     */
+    private static SingleLinkedList<Integer> build(int size) {
+        SingleLinkedList<Integer> ll = new SingleLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            ll.append(i);
+        }
+        return ll;
+    }
+}
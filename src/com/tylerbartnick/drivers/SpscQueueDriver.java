@@ -0,0 +1,121 @@
+package com.tylerbartnick.drivers;
+
+import com.tylerbartnick.datastructures.SpscQueue;
+
+/**
+ * Driver for the SpscQueue<T> class. Checks the single-threaded behaviour, including a drain whose consumer
+ * throws, then streams items from one producer thread to one consumer thread, one at a time and in batches,
+ * checking every item arrives exactly once and in order and reporting the rate achieved.
+ * This is a placeholder for more thorough JUnit tests.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class SpscQueueDriver {
+    /**
+     * The number of items streamed per run.
+     */
+    private static final int ITEMS = 20_000_000;
+
+    /**
+     * The size of each batch when streaming in batches.
+     */
+    private static final int BATCH_SIZE = 256;
+
+    public static void main(String[] args) throws InterruptedException {
+        SpscQueue<Integer> queue = new SpscQueue<>(3);
+        System.out.println("capacity, 3 rounded up: " + queue.capacity());
+        for (int i = 1; i <= 5; i++) {
+            System.out.println(String.format("tryEnqueue(%d): %b", i, queue.tryEnqueue(i)));
+        }
+        System.out.println(String.format("count: %d, head: %d, tail: %d", queue.count(), queue.peekHead(), queue.peekTail()));
+        Integer[] batch = new Integer[8];
+        int taken = queue.dequeueBatch(batch, 0, 3);
+        System.out.println(String.format("dequeueBatch(3): %d [%d, %d, %d], dequeue: %d, dequeue on empty: %s",
+                taken, batch[0], batch[1], batch[2], queue.dequeue(), queue.dequeue()));
+        Integer[] source = { 10, 11, 12, 13, 14, 15 };
+        System.out.println("enqueueBatch(6): " + queue.enqueueBatch(source, 0, source.length));
+        StringBuilder drained = new StringBuilder();
+        queue.drain(item -> drained.append(item).append(' '), Integer.MAX_VALUE);
+        System.out.println(String.format("drained: %s, empty afterwards: %b", drained.toString().trim(), queue.empty()));
+
+        // a consumer throwing part way through a drain keeps the elements it was not given
+        queue.enqueueBatch(source, 0, 4);
+        try {
+            queue.drain(item -> {
+                if (item == 11) { throw new IllegalStateException(); }
+            }, Integer.MAX_VALUE);
+        } catch (IllegalStateException ex) {
+            System.out.println(String.format("drain threw on 11: count %d, dequeue: %d, dequeue: %d, dequeue on empty: %s",
+                    queue.count(), queue.dequeue(), queue.dequeue(), queue.dequeue()));
+        }
+
+        for (int capacity : new int[] { 1024, 64 * 1024 }) {
+            run(capacity, false);
+            run(capacity, true);
+        }
+    }
+
+    /**
+     * Streams ITEMS items from a producer thread to a consumer thread.
+     * @param capacity The capacity of the queue
+     * @param batched true to use enqueueBatch() and dequeueBatch(), false to move one item at a time
+     * @throws InterruptedException Thrown if interrupted while waiting for the threads
+     */
+    private static void run(int capacity, boolean batched) throws InterruptedException {
+        SpscQueue<Integer> queue = new SpscQueue<>(capacity);
+        // box every item up front so the run measures the queue rather than allocation
+        Integer[] items = new Integer[ITEMS];
+        for (int i = 0; i < ITEMS; i++) {
+            items[i] = i;
+        }
+        long[] outOfOrder = new long[1];
+
+        // yield rather than spin while full or empty, so the other thread can run even on a single core
+        Thread producer = new Thread(() -> {
+            int sent = 0;
+            while (sent < ITEMS) {
+                if (batched) {
+                    int added = queue.enqueueBatch(items, sent, Math.min(BATCH_SIZE, ITEMS - sent));
+                    if (added == 0) { Thread.yield(); }
+                    sent += added;
+                } else if (queue.tryEnqueue(items[sent])) {
+                    sent++;
+                } else {
+                    Thread.yield();
+                }
+            }
+        });
+        Thread consumer = new Thread(() -> {
+            Integer[] batch = new Integer[BATCH_SIZE];
+            int expected = 0;
+            while (expected < ITEMS) {
+                if (batched) {
+                    int taken = queue.dequeueBatch(batch, 0, BATCH_SIZE);
+                    if (taken == 0) { Thread.yield(); }
+                    for (int i = 0; i < taken; i++) {
+                        if (batch[i] != expected++) { outOfOrder[0]++; }
+                    }
+                } else {
+                    Integer item = queue.dequeue();
+                    if (item == null) {
+                        Thread.yield();
+                    } else if (item != expected++) {
+                        outOfOrder[0]++;
+                    }
+                }
+            }
+        });
+
+        long begin = System.nanoTime();
+        producer.start();
+        consumer.start();
+        producer.join();
+        consumer.join();
+        long elapsed = System.nanoTime() - begin;
+
+        System.out.println(String.format("capacity %d, %s: %,.0f items/ms, %d out of order, empty afterwards: %b",
+                capacity, batched ? "batched" : "one at a time", ITEMS / (elapsed / 1_000_000.0d),
+                outOfOrder[0], queue.empty()));
+    }
+}
@@ -0,0 +1,130 @@
+package com.tylerbartnick.drivers;
+
+import com.tylerbartnick.datastructures.DoubleLinkedList;
+import com.tylerbartnick.datastructures.ILinkedList;
+import com.tylerbartnick.datastructures.IndexableSkipList;
+import com.tylerbartnick.datastructures.Queue;
+import com.tylerbartnick.datastructures.SingleLinkedList;
+import com.tylerbartnick.datastructures.Stack;
+import com.tylerbartnick.datastructures.UnrolledLinkedList;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Driver for stream() and parallelStream() on the linked lists, Queue<T> and Stack<T>. Checks that sequential
+ * and parallel streams see every element in order for lists of many sizes, and that a stream fails fast if its
+ * list is changed, then times a CPU-heavy parallel pipeline over a 1,000,000 element list against the same
+ * pipeline run sequentially and over the unsized spliterator Iterable<T> gives by default.
+ * This is a placeholder for more thorough JUnit tests.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class StreamDriver {
+    private static final int SIZE = 1_000_000;
+
+    public static void main(String[] args) {
+        System.out.println("SingleLinkedList mismatches:   " + check(SingleLinkedList::new));
+        System.out.println("DoubleLinkedList mismatches:   " + check(DoubleLinkedList::new));
+        System.out.println("UnrolledLinkedList mismatches: " + check(UnrolledLinkedList::new));
+        System.out.println("IndexableSkipList mismatches:  " + check(IndexableSkipList::new));
+        System.out.println("Queue and Stack mismatches:    " + checkQueueAndStack());
+        System.out.println("fails fast when changed:       " + failsFast());
+
+        System.out.println("processors: " + Runtime.getRuntime().availableProcessors());
+        DoubleLinkedList<Integer> list = new DoubleLinkedList<>();
+        for (int i = 0; i < SIZE; i++) {
+            list.append(i);
+        }
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            long sequential = list.stream().mapToLong(StreamDriver::work).sum();
+            double sequentialMillis = (System.nanoTime() - start) / 1_000_000.0d;
+
+            start = System.nanoTime();
+            long parallel = list.parallelStream().mapToLong(StreamDriver::work).sum();
+            double parallelMillis = (System.nanoTime() - start) / 1_000_000.0d;
+
+            start = System.nanoTime();
+            long unsized = StreamSupport.stream(Spliterators.spliteratorUnknownSize(list.iterator(), Spliterator.ORDERED), true)
+                    .mapToLong(StreamDriver::work).sum();
+            double unsizedMillis = (System.nanoTime() - start) / 1_000_000.0d;
+
+            System.out.println(String.format("sequential %.1f ms, parallel %.1f ms, parallel unsized %.1f ms (sums agree: %b)",
+                    sequentialMillis, parallelMillis, unsizedMillis, sequential == parallel && parallel == unsized));
+        }
+    }
+
+    /**
+     * Streams lists of many sizes, crossing the batch sizes the spliterator splits at.
+     * @param factory Creates empty lists of the kind under test
+     * @return The number of streams that disagreed with the list
+     */
+    private static int check(Supplier<ILinkedList<Integer>> factory) {
+        int mismatches = 0;
+        for (int size : new int[] { 0, 1, 2, 1_023, 1_024, 1_025, 5_000, 100_000 }) {
+            ILinkedList<Integer> list = factory.get();
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                list.append(i);
+                expected.add(i);
+            }
+            mismatches += list.stream().collect(Collectors.toList()).equals(expected) ? 0 : 1;
+            mismatches += list.parallelStream().collect(Collectors.toList()).equals(expected) ? 0 : 1;
+            mismatches += list.parallelStream().count() == size ? 0 : 1;
+            mismatches += list.parallelStream().filter(i -> i % 3 == 0).count() == (size + 2) / 3 ? 0 : 1;
+            mismatches += list.spliterator().hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED) ? 0 : 1;
+            mismatches += list.spliterator().getExactSizeIfKnown() == size ? 0 : 1;
+        }
+        return mismatches;
+    }
+
+    private static int checkQueueAndStack() {
+        Queue<Integer> queue = new Queue<>();
+        Stack<Integer> stack = new Stack<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            queue.enqueue(i);
+            stack.push(10_000 - 1 - i);
+            expected.add(i);
+        }
+        int mismatches = queue.parallelStream().collect(Collectors.toList()).equals(expected) ? 0 : 1;
+        mismatches += stack.parallelStream().collect(Collectors.toList()).equals(expected) ? 0 : 1;
+        mismatches += queue.stream().findFirst().get() == 0 ? 0 : 1;
+        mismatches += stack.stream().findFirst().get() == 0 ? 0 : 1;
+        return mismatches + (queue.count() == 10_000 && stack.count() == 10_000 ? 0 : 1);
+    }
+
+    private static boolean failsFast() {
+        DoubleLinkedList<Integer> list = new DoubleLinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            list.append(i);
+        }
+        try {
+            list.stream().forEach(i -> {
+                if (i == 50) { list.append(-1); }
+            });
+        } catch (ConcurrentModificationException e) {
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Enough arithmetic per element that the pipeline is bound by the CPU rather than by walking the list.
+     */
+    private static long work(int value) {
+        long hash = value;
+        for (int i = 0; i < 200; i++) {
+            hash = hash * 6364136223846793005L + 1442695040888963407L;
+        }
+        return hash >>> 48;
+    }
+}
@@ -0,0 +1,112 @@
+package com.tylerbartnick.drivers;
+
+import com.tylerbartnick.datastructures.DoubleLinkedList;
+import com.tylerbartnick.datastructures.ILinkedList;
+import com.tylerbartnick.datastructures.UnrolledLinkedList;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Driver for the UnrolledLinkedList<T> class. Replays random index-based inserts, deletes and gets against
+ * java.util.ArrayList with small blocks so that splits and merges happen constantly, then compares scan
+ * speed and memory use per element with DoubleLinkedList<T>.
+ * This is a placeholder for more thorough JUnit tests.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public class UnrolledLinkedListDriver {
+    private static final int SIZE = 1_000_000;
+
+    public static void main(String[] args) {
+        for (int blockCapacity : new int[] { 2, 3, 8, 32 }) {
+            System.out.println(String.format("block capacity %d, mismatches: %d", blockCapacity, replay(blockCapacity)));
+        }
+
+        Integer[] items = new Integer[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            items[i] = i;
+        }
+        for (int round = 0; round < 3; round++) {
+            // later rounds are after the scans have been compiled
+            report("DoubleLinkedList        ", new DoubleLinkedList<>(), items);
+            report("UnrolledLinkedList (32) ", new UnrolledLinkedList<>(32), items);
+            report("UnrolledLinkedList (64) ", new UnrolledLinkedList<>(64), items);
+        }
+    }
+
+    /**
+     * Applies the same random index-based edits to an unrolled list and a java.util.ArrayList.
+     * @param blockCapacity The block capacity of the unrolled list
+     * @return The number of times the two lists disagreed
+     */
+    private static int replay(int blockCapacity) {
+        Random random = new Random(11);
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(blockCapacity);
+        List<Integer> expected = new ArrayList<>();
+        int mismatches = 0;
+        for (int step = 0; step < 200_000; step++) {
+            int op = random.nextInt(10);
+            // bias towards growth early on and shrinkage later, so both splits and merges are exercised
+            boolean grow = step < 100_000 ? op < 6 : op < 4;
+            if (grow || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.insert(step, index);
+                expected.add(index, step);
+            } else if (op < 8) {
+                int index = random.nextInt(expected.size());
+                list.delete(index);
+                expected.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                mismatches += list.get(index).equals(expected.get(index)) ? 0 : 1;
+            }
+        }
+        mismatches += list.getCount() == expected.size() ? 0 : 1;
+        int i = 0;
+        for (Integer value : list) {
+            mismatches += value.equals(expected.get(i++)) ? 0 : 1;
+        }
+        mismatches += i == expected.size() ? 0 : 1;
+        return mismatches;
+    }
+
+    /**
+     * Builds a list of the given items, reporting the bytes allocated per element, then times a full scan and
+     * a few thousand indexed gets.
+     * @param name The name to report the list under
+     * @param list An empty list
+     * @param items The pre-boxed items to append
+     */
+    private static void report(String name, ILinkedList<Integer> list, Integer[] items) {
+        long before = allocatedBytes();
+        for (Integer item : items) {
+            list.append(item);
+        }
+        double bytesPerElement = (allocatedBytes() - before) / (double) items.length;
+
+        long start = System.nanoTime();
+        long sum = 0;
+        for (int value : list) {
+            sum += value;
+        }
+        double scanMillis = (System.nanoTime() - start) / 1_000_000.0d;
+
+        Random random = new Random(3);
+        start = System.nanoTime();
+        for (int i = 0; i < 2_000; i++) {
+            sum += list.get(random.nextInt(items.length));
+        }
+        double getMicros = (System.nanoTime() - start) / 1_000.0d / 2_000;
+
+        System.out.println(String.format("%s %.1f bytes/element, scan %.2f ms, random get %.1f us (checksum %d)",
+                name, bytesPerElement, scanMillis, getMicros, sum));
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+}
@@ -0,0 +1,156 @@
+package com.tylerbartnick.programs;
+
+import java.lang.IllegalArgumentException;
+import java.util.regex.Pattern;
+
+/**
+ * A Reverse Polish Notation expression that is validated and compiled once, then evaluated any number of
+ * times against different variable bindings. Variables are named when compiling and bound by position
+ * when evaluating, e.g. compiling "x y + 2 *" with the names "x" and "y" and evaluating with {3, 4} gives 14.
+ *
+ * Evaluating costs only the arithmetic: nothing is parsed or allocated. An instance reuses its own operand
+ * stack between evaluations, so it must not be evaluated by more than one thread at a time.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public final class CompiledExpression {
+    /**
+     * Splits an expression into its whitespace-delimited tokens.
+     */
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * Variable names must start with a letter and may then contain letters, digits and underscores.
+     */
+    private static final Pattern VARIABLE_NAME = Pattern.compile("[A-Za-z][A-Za-z0-9_]*");
+
+    /**
+     * The program compiled from the expression.
+     */
+    private final RpnProgram program;
+
+    /**
+     * The names of the variables, in binding order.
+     */
+    private final String[] variables;
+
+    /**
+     * The operand stack reused by every evaluation.
+     */
+    private final double[] scratch;
+
+    /**
+     * Private constructor, use compile() to create an expression.
+     * @param program The compiled program
+     * @param variables The names of the variables
+     */
+    private CompiledExpression(RpnProgram program, String[] variables) {
+        this.program = program;
+        this.variables = variables;
+        this.scratch = new double[program.getMaxDepth()];
+    }
+
+    /**
+     * Validates and compiles the given expression.
+     * @param expression The whitespace-delimited expression, e.g. "x 2 ^ y +"
+     * @param variables The names of the variables the expression may refer to, in binding order
+     * @return The compiled expression
+     * @throws IllegalArgumentException Thrown if the expression is invalid or a variable name is unusable
+     */
+    public static CompiledExpression compile(String expression, String... variables) throws IllegalArgumentException {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("Expression cannot be null or empty.");
+        }
+        String[] names = validateVariables(variables);
+        return new CompiledExpression(RpnProgram.parse(WHITESPACE.split(expression.strip()), names), names);
+    }
+
+    /**
+     * Evaluates the expression with the given variable bindings. Allocates nothing.
+     * @param bindings The value of each variable, in the order the variables were named when compiling
+     * @return The result of the expression
+     * @throws IllegalArgumentException Thrown if fewer bindings are given than there are variables
+     */
+    public double evaluate(double[] bindings) throws IllegalArgumentException {
+        return program.evaluate(scratch, bindings);
+    }
+
+    /**
+     * Evaluates an expression that has no variables. Allocates nothing.
+     * @return The result of the expression
+     * @throws IllegalArgumentException Thrown if the expression has variables
+     */
+    public double evaluate() throws IllegalArgumentException {
+        return program.evaluate(scratch);
+    }
+
+    /**
+     * Gets the binding position of the named variable, for building bindings arrays by name.
+     * @param name The name of the variable
+     * @return The position of the variable within the bindings, -1 if the variable does not exist
+     */
+    public int indexOf(String name) {
+        for (int i = 0; i < variables.length; i++) {
+            if (variables[i].equals(name)) { return i; }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the number of variables that must be bound to evaluate the expression.
+     * @return The number of variables
+     */
+    public int getVariableCount() {
+        return variables.length;
+    }
+
+    /**
+     * Gets the program the expression was compiled to.
+     * @return The compiled program
+     */
+    RpnProgram getProgram() {
+        return program;
+    }
+
+    /**
+     * Ensures every variable name is usable and unique.
+     * @param variables The variable names
+     * @return A defensive copy of the variable names
+     * @throws IllegalArgumentException Thrown if a variable name is unusable or repeated
+     */
+    private static String[] validateVariables(String[] variables) throws IllegalArgumentException {
+        if (variables == null) {
+            throw new IllegalArgumentException("Variables cannot be null.");
+        }
+
+        String[] names = variables.clone();
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i];
+            // names such as "NaN" or "Infinity" would shadow numeric literals
+            if (name == null || !VARIABLE_NAME.matcher(name).matches() || isNumeric(name)) {
+                throw new IllegalArgumentException(String.format("Variable name %s is not valid.", name));
+            }
+            for (int j = 0; j < i; j++) {
+                if (names[j].equals(name)) {
+                    throw new IllegalArgumentException(String.format("Variable name %s is repeated.", name));
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Determines if the given name would otherwise be parsed as a number.
+     * @param name The name to test
+     * @return true if the name parses as a double, false otherwise
+     */
+    private static boolean isNumeric(String name) {
+        try {
+            Double.parseDouble(name);
+            return true;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+}
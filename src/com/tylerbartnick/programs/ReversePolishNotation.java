@@ -1,129 +1,103 @@
 package com.tylerbartnick.programs;
 
-import com.tylerbartnick.datastructures.Stack;
-
-import java.util.List;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
 
 /**
  * A Reverse Polish Notation calculator to be used as a standalone CLI program.
  * The program expects data entered in standard RPN fashion, without respect to other variances of the notation.
  * As such, the only format accepted is "operand operand operator", but that can be repeated endlessly so long as there is
  * enough heap memory to support the stack. Important to note that the first evaluated expression will always become the first
- * operand for the next sequence of operands and operator.
+ * operand for the next sequence of operands and operator. Expressions are parsed once into an RpnProgram and evaluated
+ * on a primitive operand stack, so any well-formed RPN expression is accepted.
+ *
+ * Passing "--stream" instead evaluates newline-delimited expressions from standard input, or from the file named
+ * after it, writing one result per line to standard output. Passing "--bulk" with an input and an output file
+ * evaluates the input on every core, writing the results to the output file and a throughput report to standard output.
  *
  * @author Tyler Bartnick
  * @version 1.0.0
  */
 public final class ReversePolishNotation {
     /**
-     * The standard set of operators to be used for arithmetic.
+     * The argument selecting streaming mode.
      */
-    private static final List<Character> operatorTokens = List.of('+', '-', '*', '/', '_', '^');
+    private static final String STREAM_FLAG = "--stream";
 
     /**
-     * The stack to hold all data once validated.
+     * The argument selecting bulk mode.
      */
-    private static final Stack<String> stack = new Stack<>();
+    private static final String BULK_FLAG = "--bulk";
 
     /**
      * The main entry point into the program. Expects CLI args to be present, fails silently without output otherwise.
-     * @param args The whitespace-delimited expression to be evaluated
+     * @param args The whitespace-delimited expression to be evaluated, or a mode flag and its files
+     * @throws IOException Thrown if streaming or bulk input cannot be read or output cannot be written
      */
-    public static void main(String[] args) {
-        if (args.length >= 3) { return; }
-        if (!tokenize(args)) { return; }
-        process();
+    public static void main(String[] args) throws IOException {
+        if (args != null && args.length > 0 && STREAM_FLAG.equals(args[0])) {
+            stream(args);
+            return;
+        }
+        if (args != null && args.length > 0 && BULK_FLAG.equals(args[0])) {
+            if (args.length != 3) { return; }
+            System.out.println(new RpnBulkProcessor().process(Path.of(args[1]), Path.of(args[2])));
+            return;
+        }
+
+        RpnProgram program = tokenize(args);
+        if (program == null) { return; }
+        process(program);
     }
 
     /**
-     * Takes the CLI arguments and adds them to the stack. Validations are done on the fly.
+     * Takes the CLI arguments and parses them into a program. Validations are done on the fly, and every
+     * operand is parsed exactly once.
      * @param args The CLI arguments to be evaluated as an expression
-     * @return true if the expression is valid, false otherwise
-     * @throws IllegalArgumentException Thrown if supplied arguments are not satisfactory
+     * @return The parsed program if the expression is valid, null otherwise
+     * @throws IllegalArgumentException Thrown if supplied arguments are null or empty
      */
-    private static boolean tokenize(String[] args) throws IllegalArgumentException {
+    private static RpnProgram tokenize(String[] args) throws IllegalArgumentException {
         if (args == null || args.length == 0) {
             throw new IllegalArgumentException("Arguments cannot be null or empty.");
         }
 
         try {
-            // reverse traversal to ensure proper order of operations are followed, cheaper than reversing a list
-            for (int i = args.length - 1; i >= 0; i--) {
-                if (operatorTokens.contains(args[i].charAt(0))) {
-                    stack.push(args[i]);
-                    continue;
-                }
-                // if the following conversion fails, it will throw a NumberFormatException, be caught, and exit as expected
-                double temp = Double.parseDouble(args[i]);
-                stack.push(args[i]);
-            }
-        } catch (Exception ex) {
+            return RpnProgram.parse(args);
+        } catch (IllegalArgumentException ex) {
             // whatever input was sent into the program is invalid, we can't continue. Fail gracefully.
-            stack.clear();
-            return false;
+            return null;
         }
-        return true;
     }
 
     /**
-     * Processes the data that has been parsed and validated to determine the solution to the supplied expression.
-     * @throws IllegalArgumentException Thrown if supplied arguments are not satisfactory
+     * Evaluates every line of standard input, or of the named file, and writes each solution to standard output.
+     * @param args The streaming flag and an optional file
+     * @throws IOException Thrown if the input cannot be read or output cannot be written
      */
-    private static void process() throws IllegalArgumentException {
-        if (stack.empty()) { return; }
-        while (stack.count() >= 3) {
-            // we will always have two operands and an operator
-            String token1 = stack.pop(); // operand 1
-            String token2 = stack.pop(); // operand 2
-            String token3 = stack.pop(); // operator
+    private static void stream(String[] args) throws IOException {
+        if (args.length > 2) { return; }
 
-            if (!operatorTokens.contains(token3.charAt(0))) {
-                throw new IllegalArgumentException(String.format("Token %s is not a valid operator.", token3));
-            }
-
-            double answer = calculate(token1, token2, token3);
-            stack.push(String.valueOf(answer));
+        // standard output is left open, only the input file is closed
+        FileChannel out = new FileOutputStream(FileDescriptor.out).getChannel();
+        if (args.length == 1) {
+            new RpnStreamProcessor().process(new FileInputStream(FileDescriptor.in).getChannel(), out);
+            return;
+        }
+        try (FileChannel in = FileChannel.open(Path.of(args[1]))) {
+            new RpnStreamProcessor().process(in, out);
         }
-
-        // output final answer
-        System.out.println(stack.pop());
     }
 
     /**
-     * Evaluates and returns the result of the operands and operator. Division by zero is protected against.
-     * @param token1 The first operand
-     * @param token2 The second operand
-     * @param token3 The operator
-     * @return The result of the expression
+     * Evaluates the parsed program on a primitive operand stack and outputs the solution.
+     * @param program The program parsed from the supplied expression
      */
-    private static double calculate(String token1, String token2, String token3) {
-        double dToken1 = Double.parseDouble(token1);
-        double dToken2 = Double.parseDouble(token2);
-        switch (token3) {
-            case "+" -> {
-                return dToken1 + dToken2;
-            }
-            case "-" -> {
-                return dToken1 - dToken2;
-            }
-            case "*" -> {
-                return dToken1 * dToken2;
-            }
-            case "/" -> {
-                // Don't allow divide by zero
-                return dToken1 / (dToken2 == 0.0d ? 1.0d : dToken2);
-            }
-            case "_" -> {
-                // Don't allow divide by zero
-                return Math.floorDiv((int) dToken1, (int) (dToken2 == 0.0d ? 1.0d : dToken2));
-            }
-            case "^" -> {
-                return Math.pow(dToken1, dToken2);
-            }
-            default -> {
-                // should never happen
-                return 0.0d;
-            }
-        }
+    private static void process(RpnProgram program) {
+        System.out.println(program.evaluate());
     }
 }
@@ -0,0 +1,318 @@
+package com.tylerbartnick.programs;
+
+import java.lang.IllegalArgumentException;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Evaluates one compiled Reverse Polish Notation expression over whole columns of variable bindings.
+ * Rather than walking the program once per row, the program is walked once per block of rows and each
+ * operator is applied to the entire block in a single tight loop. Those loops touch nothing but arrays,
+ * so the JIT is free to unroll and auto-vectorize them, and blocks are kept small enough to stay in cache
+ * between operators.
+ *
+ * Large batches may also be split across cores with fork/join. An evaluator holds no mutable state, so it
+ * can be shared between threads.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public final class RpnBatchEvaluator {
+    /**
+     * The number of rows each operator is applied to per pass.
+     */
+    private static final int BLOCK_SIZE = 1024;
+
+    /**
+     * Batches at or below this number of rows are never split any further when evaluating in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 64 * BLOCK_SIZE;
+
+    /**
+     * The program compiled from the expression.
+     */
+    private final RpnProgram program;
+
+    /**
+     * Creates a batch evaluator for the given expression.
+     * @param expression The compiled expression to evaluate, with one column per variable
+     * @throws IllegalArgumentException Thrown if the expression is null
+     */
+    public RpnBatchEvaluator(CompiledExpression expression) throws IllegalArgumentException {
+        if (expression == null) {
+            throw new IllegalArgumentException("Expression cannot be null.");
+        }
+        this.program = expression.getProgram();
+    }
+
+    /**
+     * Evaluates the expression for every row on the calling thread.
+     * @param columns One column of values per variable, in the order the variables were named when compiling
+     * @param result The column receiving the result of each row, its length determines the number of rows
+     * @throws IllegalArgumentException Thrown if a column is missing or shorter than the result column
+     */
+    public void evaluate(double[][] columns, double[] result) throws IllegalArgumentException {
+        validate(columns, result);
+        new Block(program).evaluate(columns, result, 0, result.length);
+    }
+
+    /**
+     * Evaluates the expression for every row, splitting the rows across the common fork/join pool.
+     * @param columns One column of values per variable, in the order the variables were named when compiling
+     * @param result The column receiving the result of each row, its length determines the number of rows
+     * @throws IllegalArgumentException Thrown if a column is missing or shorter than the result column
+     */
+    public void evaluateParallel(double[][] columns, double[] result) throws IllegalArgumentException {
+        evaluateParallel(columns, result, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Evaluates the expression for every row, splitting the rows across the given fork/join pool.
+     * @param columns One column of values per variable, in the order the variables were named when compiling
+     * @param result The column receiving the result of each row, its length determines the number of rows
+     * @param pool The pool to evaluate on
+     * @throws IllegalArgumentException Thrown if a column is missing or shorter than the result column
+     */
+    public void evaluateParallel(double[][] columns, double[] result, ForkJoinPool pool) throws IllegalArgumentException {
+        validate(columns, result);
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null.");
+        }
+        pool.invoke(new EvaluateRange(program, columns, result, 0, result.length));
+    }
+
+    /**
+     * Ensures there is a column for every variable and that each column covers every row.
+     * @param columns The variable columns
+     * @param result The result column
+     * @throws IllegalArgumentException Thrown if the columns are unsuitable
+     */
+    private void validate(double[][] columns, double[] result) throws IllegalArgumentException {
+        if (columns == null || result == null) {
+            throw new IllegalArgumentException("Columns cannot be null.");
+        }
+        if (columns.length < program.getVariableCount()) {
+            throw new IllegalArgumentException(String.format("Expected %d variable columns.", program.getVariableCount()));
+        }
+        for (int i = 0; i < program.getVariableCount(); i++) {
+            if (columns[i] == null || columns[i].length < result.length) {
+                throw new IllegalArgumentException(String.format("Column %d is shorter than the result column.", i));
+            }
+        }
+    }
+
+    /**
+     * A fork/join task evaluating a range of rows, halving the range until it is small enough to evaluate directly.
+     */
+    private static final class EvaluateRange extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final RpnProgram program;
+        private final double[][] columns;
+        private final double[] result;
+        private final int from;
+        private final int to;
+
+        EvaluateRange(RpnProgram program, double[][] columns, double[] result, int from, int to) {
+            this.program = program;
+            this.columns = columns;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                new Block(program).evaluate(columns, result, from, to);
+                return;
+            }
+
+            // split on a block boundary so no block straddles two tasks
+            int mid = from + (((to - from) >>> 1) / BLOCK_SIZE) * BLOCK_SIZE;
+            invokeAll(new EvaluateRange(program, columns, result, from, mid),
+                      new EvaluateRange(program, columns, result, mid, to));
+        }
+    }
+
+    /**
+     * The operand stack for evaluating a program one block of rows at a time. Each stack entry is either a
+     * constant or a window onto an array, which is an input column for variables and a block-sized buffer
+     * for intermediate results. Owned by a single thread.
+     */
+    private static final class Block {
+        private final RpnProgram program;
+        private final boolean[] isConstant;
+        private final double[] constants;
+        private final double[][] arrays;
+        private final int[] offsets;
+        private final double[][] buffers;
+
+        Block(RpnProgram program) {
+            int depth = program.getMaxDepth();
+            this.program = program;
+            this.isConstant = new boolean[depth];
+            this.constants = new double[depth];
+            this.arrays = new double[depth][];
+            this.offsets = new int[depth];
+            this.buffers = new double[depth][BLOCK_SIZE];
+        }
+
+        /**
+         * Evaluates the rows in the given range, one block at a time.
+         * @param columns The variable columns
+         * @param result The result column
+         * @param from The first row to evaluate
+         * @param to One past the last row to evaluate
+         */
+        void evaluate(double[][] columns, double[] result, int from, int to) {
+            for (int start = from; start < to; start += BLOCK_SIZE) {
+                evaluateBlock(columns, result, start, Math.min(BLOCK_SIZE, to - start));
+            }
+        }
+
+        /**
+         * Walks the program once for the given block, applying each operator to every row of the block.
+         * The final operator writes straight into the result column.
+         * @param columns The variable columns
+         * @param result The result column
+         * @param start The first row of the block
+         * @param length The number of rows in the block
+         */
+        private void evaluateBlock(double[][] columns, double[] result, int start, int length) {
+            int last = program.length() - 1;
+            int top = -1;
+            for (int i = 0; i <= last; i++) {
+                byte opcode = program.opcodeAt(i);
+                if (opcode == RpnProgram.PUSH) {
+                    top++;
+                    isConstant[top] = true;
+                    constants[top] = program.operandAt(i);
+                    continue;
+                }
+                if (opcode == RpnProgram.LOAD) {
+                    top++;
+                    isConstant[top] = false;
+                    arrays[top] = columns[program.slotAt(i)];
+                    offsets[top] = start;
+                    continue;
+                }
+
+                int right = top--;
+                int left = top;
+                if (isConstant[left] && isConstant[right]) {
+                    // fold constant sub-expressions instead of filling a buffer with them
+                    constants[left] = RpnProgram.apply(opcode, constants[left], constants[right]);
+                    continue;
+                }
+
+                double[] out = i == last ? result : buffers[left];
+                int outOffset = i == last ? start : 0;
+                if (isConstant[left]) {
+                    applyConstantLeft(opcode, constants[left], arrays[right], offsets[right], out, outOffset, length);
+                } else if (isConstant[right]) {
+                    applyConstantRight(opcode, arrays[left], offsets[left], constants[right], out, outOffset, length);
+                } else {
+                    apply(opcode, arrays[left], offsets[left], arrays[right], offsets[right], out, outOffset, length);
+                }
+                isConstant[left] = false;
+                arrays[left] = out;
+                offsets[left] = outOffset;
+            }
+
+            // the final result was either folded to a constant or is a bare variable
+            if (isConstant[0]) {
+                Arrays.fill(result, start, start + length, constants[0]);
+            } else if (arrays[0] != result || offsets[0] != start) {
+                System.arraycopy(arrays[0], offsets[0], result, start, length);
+            }
+        }
+    }
+
+    /**
+     * Applies an operator to two windows of rows. The semantics match RpnProgram.apply() exactly.
+     */
+    private static void apply(byte opcode, double[] left, int leftOffset, double[] right, int rightOffset,
+                              double[] out, int outOffset, int length) {
+        switch (opcode) {
+            case RpnProgram.ADD -> {
+                for (int i = 0; i < length; i++) { out[outOffset + i] = left[leftOffset + i] + right[rightOffset + i]; }
+            }
+            case RpnProgram.SUBTRACT -> {
+                for (int i = 0; i < length; i++) { out[outOffset + i] = left[leftOffset + i] - right[rightOffset + i]; }
+            }
+            case RpnProgram.MULTIPLY -> {
+                for (int i = 0; i < length; i++) { out[outOffset + i] = left[leftOffset + i] * right[rightOffset + i]; }
+            }
+            case RpnProgram.DIVIDE -> {
+                for (int i = 0; i < length; i++) {
+                    double divisor = right[rightOffset + i];
+                    out[outOffset + i] = left[leftOffset + i] / (divisor == 0.0d ? 1.0d : divisor);
+                }
+            }
+            default -> {
+                // floor division and exponentiation cannot be vectorized, share the scalar semantics
+                for (int i = 0; i < length; i++) {
+                    out[outOffset + i] = RpnProgram.apply(opcode, left[leftOffset + i], right[rightOffset + i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies an operator to a window of rows on the left and a constant on the right.
+     */
+    private static void applyConstantRight(byte opcode, double[] left, int leftOffset, double right,
+                                           double[] out, int outOffset, int length) {
+        switch (opcode) {
+            case RpnProgram.ADD -> {
+                for (int i = 0; i < length; i++) { out[outOffset + i] = left[leftOffset + i] + right; }
+            }
+            case RpnProgram.SUBTRACT -> {
+                for (int i = 0; i < length; i++) { out[outOffset + i] = left[leftOffset + i] - right; }
+            }
+            case RpnProgram.MULTIPLY -> {
+                for (int i = 0; i < length; i++) { out[outOffset + i] = left[leftOffset + i] * right; }
+            }
+            case RpnProgram.DIVIDE -> {
+                double divisor = right == 0.0d ? 1.0d : right;
+                for (int i = 0; i < length; i++) { out[outOffset + i] = left[leftOffset + i] / divisor; }
+            }
+            default -> {
+                for (int i = 0; i < length; i++) {
+                    out[outOffset + i] = RpnProgram.apply(opcode, left[leftOffset + i], right);
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies an operator to a constant on the left and a window of rows on the right.
+     */
+    private static void applyConstantLeft(byte opcode, double left, double[] right, int rightOffset,
+                                          double[] out, int outOffset, int length) {
+        switch (opcode) {
+            case RpnProgram.ADD -> {
+                for (int i = 0; i < length; i++) { out[outOffset + i] = left + right[rightOffset + i]; }
+            }
+            case RpnProgram.SUBTRACT -> {
+                for (int i = 0; i < length; i++) { out[outOffset + i] = left - right[rightOffset + i]; }
+            }
+            case RpnProgram.MULTIPLY -> {
+                for (int i = 0; i < length; i++) { out[outOffset + i] = left * right[rightOffset + i]; }
+            }
+            case RpnProgram.DIVIDE -> {
+                for (int i = 0; i < length; i++) {
+                    double divisor = right[rightOffset + i];
+                    out[outOffset + i] = left / (divisor == 0.0d ? 1.0d : divisor);
+                }
+            }
+            default -> {
+                for (int i = 0; i < length; i++) {
+                    out[outOffset + i] = RpnProgram.apply(opcode, left, right[rightOffset + i]);
+                }
+            }
+        }
+    }
+}
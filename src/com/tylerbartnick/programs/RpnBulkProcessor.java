@@ -0,0 +1,274 @@
+package com.tylerbartnick.programs;
+
+import java.io.IOException;
+import java.lang.IllegalArgumentException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Evaluates very large files of newline-delimited Reverse Polish Notation expressions on several threads.
+ * The input is split into line-aligned chunks, each chunk is memory-mapped and evaluated in place by a
+ * worker thread, and the results are written to the output file in input order. Only a bounded window of
+ * chunks is in flight at once, so memory use depends on the chunk size and thread count rather than on
+ * the size of the file.
+ *
+ * The output is identical to that of RpnStreamProcessor: one line per input line holding the result,
+ * "invalid", or nothing for a blank line.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public final class RpnBulkProcessor {
+    /**
+     * The chunk size used by the default constructor.
+     */
+    private static final int DEFAULT_CHUNK_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * How far past the nominal end of a chunk is read at a time when looking for the end of its last line.
+     */
+    private static final int BOUNDARY_SCAN_SIZE = 4096;
+
+    /**
+     * The number of worker threads.
+     */
+    private final int threads;
+
+    /**
+     * The nominal size of each chunk in bytes, chunks are extended to the end of their last line.
+     */
+    private final int chunkSize;
+
+    /**
+     * Default constructor, creates a processor with one thread per core and 16 MiB chunks.
+     */
+    public RpnBulkProcessor() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a processor with the given number of threads and chunk size.
+     * @param threads The number of worker threads
+     * @param chunkSize The nominal size of each chunk in bytes
+     * @throws IllegalArgumentException Thrown if either value is not positive
+     */
+    public RpnBulkProcessor(int threads, int chunkSize) throws IllegalArgumentException {
+        if (threads < 1) {
+            throw new IllegalArgumentException(String.format("Thread count %d is out of range.", threads));
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException(String.format("Chunk size %d is out of range.", chunkSize));
+        }
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Evaluates every expression in the input file, writing the results to the output file in order.
+     * @param inputFile The file of newline-delimited expressions
+     * @param outputFile The file to write the results to, created or truncated
+     * @return The number of expressions and bytes processed, and how long it took
+     * @throws IOException Thrown if either file cannot be read or written, or a worker fails
+     */
+    public Report process(Path inputFile, Path outputFile) throws IOException {
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try (FileChannel in = FileChannel.open(inputFile, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(outputFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = in.size();
+            long lines = 0;
+            long chunkStart = 0;
+            // keep every thread busy with one chunk queued behind it, without holding the whole file's results
+            ArrayDeque<Future<Chunk>> inFlight = new ArrayDeque<>();
+            while (chunkStart < size || !inFlight.isEmpty()) {
+                while (chunkStart < size && inFlight.size() < threads * 2) {
+                    long chunkEnd = findChunkEnd(in, chunkStart, size);
+                    MappedByteBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY, chunkStart, chunkEnd - chunkStart);
+                    inFlight.add(pool.submit(() -> evaluate(mapped)));
+                    chunkStart = chunkEnd;
+                }
+
+                Chunk chunk = inFlight.remove().get();
+                lines += chunk.lines;
+                while (chunk.results.hasRemaining()) {
+                    out.write(chunk.results);
+                }
+            }
+            return new Report(lines, size, System.nanoTime() - start);
+        } catch (ExecutionException ex) {
+            throw new IOException("A worker failed to evaluate its chunk.", ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a worker.", ex);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Finds where the chunk starting at the given position ends: just past the first line terminator at or
+     * after its nominal end, or at the end of the file.
+     * @param in The input file
+     * @param chunkStart The position the chunk starts at
+     * @param size The size of the input file
+     * @return The position one past the last byte of the chunk
+     * @throws IOException Thrown if the file cannot be read
+     */
+    private long findChunkEnd(FileChannel in, long chunkStart, long size) throws IOException {
+        long position = chunkStart + chunkSize - 1;
+        if (position >= size - 1) { return size; }
+
+        ByteBuffer scan = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+        while (position < size) {
+            scan.clear();
+            int read = in.read(scan, position);
+            if (read <= 0) { break; }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') { return position + i + 1; }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * Evaluates every line of a mapped chunk. Runs on a worker thread.
+     * @param mapped The chunk of the input file
+     * @return The results of the chunk, ready to be written
+     */
+    private static Chunk evaluate(MappedByteBuffer mapped) {
+        RpnByteEvaluator evaluator = new RpnByteEvaluator();
+        // results are usually no longer than their expressions, grow if not
+        ByteBuffer results = ByteBuffer.allocate(Math.max(mapped.limit(), RpnByteEvaluator.MAX_RESULT_BYTES));
+        int end = mapped.limit();
+        int lineStart = 0;
+        long lines = 0;
+        for (int i = 0; i < end; i++) {
+            if (mapped.get(i) == '\n') {
+                results = evaluateLine(evaluator, mapped, lineStart, i, results);
+                lines++;
+                lineStart = i + 1;
+            }
+        }
+        if (lineStart < end) {
+            // the final line of the file had no terminator
+            results = evaluateLine(evaluator, mapped, lineStart, end, results);
+            lines++;
+        }
+        results.flip();
+        return new Chunk(results, lines);
+    }
+
+    /**
+     * Evaluates a single line of a mapped chunk and appends its result.
+     * @param evaluator The worker's evaluator
+     * @param mapped The chunk of the input file
+     * @param from The position of the first byte of the line
+     * @param to The position of the line terminator
+     * @param results The results of the chunk so far
+     * @return The results of the chunk, replaced by a larger buffer if it was full
+     */
+    private static ByteBuffer evaluateLine(RpnByteEvaluator evaluator, MappedByteBuffer mapped, int from, int to,
+                                           ByteBuffer results) {
+        evaluator.evaluate(mapped, from, to);
+        if (results.remaining() < RpnByteEvaluator.MAX_RESULT_BYTES) {
+            ByteBuffer larger = ByteBuffer.allocate(results.capacity() << 1);
+            results.flip();
+            larger.put(results);
+            results = larger;
+        }
+        evaluator.writeResult(results);
+        return results;
+    }
+
+    /**
+     * The results of one evaluated chunk.
+     */
+    private static final class Chunk {
+        private final ByteBuffer results;
+        private final long lines;
+
+        Chunk(ByteBuffer results, long lines) {
+            this.results = results;
+            this.lines = lines;
+        }
+    }
+
+    /**
+     * The outcome of processing a file: how much was processed and how quickly.
+     */
+    public static final class Report {
+        private final long expressions;
+        private final long bytes;
+        private final long nanos;
+
+        Report(long expressions, long bytes, long nanos) {
+            this.expressions = expressions;
+            this.bytes = bytes;
+            this.nanos = nanos;
+        }
+
+        /**
+         * Gets the number of expressions, i.e. lines, processed.
+         * @return The number of expressions
+         */
+        public long getExpressions() {
+            return expressions;
+        }
+
+        /**
+         * Gets the size of the input processed.
+         * @return The number of input bytes
+         */
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Gets how long processing took, from opening the files to writing the last result.
+         * @return The elapsed time in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * Gets the rate expressions were processed at.
+         * @return Expressions per second
+         */
+        public double expressionsPerSecond() {
+            return expressions / seconds();
+        }
+
+        /**
+         * Gets the rate input was processed at.
+         * @return Megabytes (2^20 bytes) of input per second
+         */
+        public double megabytesPerSecond() {
+            return bytes / (1024.0d * 1024.0d) / seconds();
+        }
+
+        /**
+         * Formats the report for display.
+         * @return A one-line summary of the report
+         */
+        @Override
+        public String toString() {
+            return String.format("%,d expressions (%,d bytes) in %.3f s: %,.0f expressions/sec, %.1f MB/sec",
+                    expressions, bytes, seconds(), expressionsPerSecond(), megabytesPerSecond());
+        }
+
+        private double seconds() {
+            return Math.max(nanos, 1L) / 1_000_000_000.0d;
+        }
+    }
+}
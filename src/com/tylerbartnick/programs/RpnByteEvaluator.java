@@ -0,0 +1,238 @@
+package com.tylerbartnick.programs;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Evaluates Reverse Polish Notation expressions straight out of a ByteBuffer of ASCII text. Tokens are
+ * located and parsed in place, without building a String per token, and evaluated on a primitive operand
+ * stack with the same semantics as RpnProgram. Owned by a single thread; the operand stack is reused
+ * between expressions.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+final class RpnByteEvaluator {
+    /**
+     * The exactly representable powers of ten, used to scale short decimal numbers with a single rounding.
+     */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * The most significant digits a mantissa may have while still being exactly representable as a double.
+     */
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    /**
+     * The most bytes writeResult() can write for one expression, including the line terminator.
+     */
+    static final int MAX_RESULT_BYTES = 32;
+
+    /**
+     * What is written in place of the result of an invalid expression.
+     */
+    private static final byte[] INVALID = "invalid".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * The operand stack, grown as deeper expressions are met.
+     */
+    private double[] stack = new double[16];
+
+    /**
+     * Whether the last expression evaluated was valid.
+     */
+    private boolean valid;
+
+    /**
+     * The number of tokens in the last expression evaluated.
+     */
+    private int tokenCount;
+
+    /**
+     * Whether the last number parsed was valid.
+     */
+    private boolean parsed;
+
+    /**
+     * The result of the last expression evaluated.
+     */
+    private double result;
+
+    /**
+     * Reused to format results, appending a double to it does not allocate.
+     */
+    private final StringBuilder text = new StringBuilder(MAX_RESULT_BYTES);
+
+    /**
+     * Evaluates the expression held between the given absolute positions of the buffer. The buffer's position
+     * and limit are not used or changed.
+     * @param buffer The buffer holding the expression
+     * @param from The position of the first byte of the expression
+     * @param to The position one past the last byte of the expression
+     * @return The result of the expression, NaN if the expression is invalid
+     */
+    double evaluate(ByteBuffer buffer, int from, int to) {
+        result = Double.NaN;
+        valid = false;
+        tokenCount = 0;
+        int top = -1;
+        int i = from;
+        while (true) {
+            while (i < to && isWhitespace(buffer.get(i))) { i++; }
+            if (i >= to) { break; }
+
+            int start = i;
+            while (i < to && !isWhitespace(buffer.get(i))) { i++; }
+            tokenCount++;
+
+            if (i - start == 1) {
+                byte opcode = RpnProgram.opcodeOf((char) buffer.get(start));
+                if (opcode != RpnProgram.NOT_AN_OPERATOR) {
+                    if (top < 1) { return Double.NaN; }
+                    double right = stack[top--];
+                    stack[top] = RpnProgram.apply(opcode, stack[top], right);
+                    continue;
+                }
+            }
+
+            double value = parseNumber(buffer, start, i);
+            if (!parsed) { return Double.NaN; }
+            if (++top == stack.length) {
+                stack = Arrays.copyOf(stack, stack.length << 1);
+            }
+            stack[top] = value;
+        }
+
+        if (top != 0) { return Double.NaN; }
+        valid = true;
+        result = stack[0];
+        return result;
+    }
+
+    /**
+     * Writes the outcome of the last expression evaluated as a line of ASCII text: the result formatted as
+     * Double.toString() would, "invalid" for an invalid expression, or nothing for a blank one.
+     * @param out The buffer to write to, which must have at least MAX_RESULT_BYTES remaining
+     */
+    void writeResult(ByteBuffer out) {
+        if (!valid) {
+            if (!isBlank()) { out.put(INVALID); }
+        } else {
+            text.setLength(0);
+            text.append(result);
+            for (int i = 0; i < text.length(); i++) {
+                out.put((byte) text.charAt(i));
+            }
+        }
+        out.put((byte) '\n');
+    }
+
+    /**
+     * Determines whether the last expression evaluated was valid.
+     * @return true if valid, false otherwise
+     */
+    boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Determines whether the last expression evaluated held no tokens at all.
+     * @return true if blank, false otherwise
+     */
+    boolean isBlank() {
+        return tokenCount == 0;
+    }
+
+    /**
+     * Parses a number in place. Plain decimal numbers with up to 15 significant digits and a small exponent
+     * are converted directly, which is exact; anything else falls back to Double.parseDouble() so the accepted
+     * syntax and the rounding are identical to RpnProgram.
+     * @param buffer The buffer holding the number
+     * @param from The position of the first byte of the number
+     * @param to The position one past the last byte of the number
+     * @return The number, with the parsed flag set if it was valid
+     */
+    private double parseNumber(ByteBuffer buffer, int from, int to) {
+        parsed = true;
+        int i = from;
+        byte c = buffer.get(i);
+        boolean negative = c == '-';
+        if (negative || c == '+') { i++; }
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean sawDigit = false;
+        boolean sawPoint = false;
+        for (; i < to; i++) {
+            c = buffer.get(i);
+            if (c >= '0' && c <= '9') {
+                sawDigit = true;
+                if (mantissa != 0 || c != '0') {
+                    if (++digits > MAX_EXACT_DIGITS) { return parseSlowly(buffer, from, to); }
+                    mantissa = mantissa * 10 + (c - '0');
+                }
+                if (sawPoint) { exponent--; }
+            } else if (c == '.' && !sawPoint) {
+                sawPoint = true;
+            } else {
+                break;
+            }
+        }
+        if (!sawDigit) { return parseSlowly(buffer, from, to); }
+
+        if (i < to) {
+            if (c != 'e' && c != 'E') { return parseSlowly(buffer, from, to); }
+            i++;
+            boolean negativeExponent = i < to && buffer.get(i) == '-';
+            if (i < to && (negativeExponent || buffer.get(i) == '+')) { i++; }
+            if (i == to || to - i > 3) { return parseSlowly(buffer, from, to); }
+            int explicit = 0;
+            for (; i < to; i++) {
+                c = buffer.get(i);
+                if (c < '0' || c > '9') { return parseSlowly(buffer, from, to); }
+                explicit = explicit * 10 + (c - '0');
+            }
+            exponent += negativeExponent ? -explicit : explicit;
+        }
+
+        if (mantissa == 0) { return negative ? -0.0d : 0.0d; }
+        if (exponent < -22 || exponent > 22) { return parseSlowly(buffer, from, to); }
+        double value = exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent] : mantissa / POWERS_OF_TEN[-exponent];
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a number the way RpnProgram does. Only reached by unusual numbers, so the allocation is acceptable.
+     * @param buffer The buffer holding the number
+     * @param from The position of the first byte of the number
+     * @param to The position one past the last byte of the number
+     * @return The number, with the parsed flag set if it was valid
+     */
+    private double parseSlowly(ByteBuffer buffer, int from, int to) {
+        byte[] bytes = new byte[to - from];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(from + i);
+        }
+        try {
+            parsed = true;
+            return Double.parseDouble(new String(bytes, StandardCharsets.ISO_8859_1));
+        } catch (NumberFormatException ex) {
+            parsed = false;
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Determines if the byte separates tokens.
+     * @param b The byte to test
+     * @return true if whitespace, false otherwise
+     */
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n' || b == '\f' || b == 0x0B;
+    }
+}
@@ -0,0 +1,91 @@
+package com.tylerbartnick.programs;
+
+import java.lang.IllegalArgumentException;
+import java.util.regex.Pattern;
+
+/**
+ * A reentrant Reverse Polish Notation calculator. An evaluator holds no state about any one expression,
+ * and every thread evaluating through it gets its own operand stack, so a single instance can be shared
+ * by any number of request threads without locking. Compiled expressions evaluated through an evaluator
+ * may likewise be shared between threads.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public final class RpnEvaluator {
+    /**
+     * Splits an expression into its whitespace-delimited tokens.
+     */
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * The operand stack depth first allocated for each thread, enough for most expressions.
+     */
+    private static final int INITIAL_DEPTH = 16;
+
+    /**
+     * Each thread's operand stack, replaced with a deeper one whenever a program needs it.
+     */
+    private final ThreadLocal<double[]> scratch = ThreadLocal.withInitial(() -> new double[INITIAL_DEPTH]);
+
+    /**
+     * Parses and evaluates the given expression.
+     * @param expression The whitespace-delimited expression to be evaluated
+     * @return The result of the expression
+     * @throws IllegalArgumentException Thrown if the expression is invalid
+     */
+    public double evaluate(String expression) throws IllegalArgumentException {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("Expression cannot be null or empty.");
+        }
+        return evaluate(WHITESPACE.split(expression.strip()));
+    }
+
+    /**
+     * Parses and evaluates the given tokens.
+     * @param tokens The tokens of the expression to be evaluated
+     * @return The result of the expression
+     * @throws IllegalArgumentException Thrown if the tokens do not form a valid expression
+     */
+    public double evaluate(String[] tokens) throws IllegalArgumentException {
+        return evaluate(RpnProgram.parse(tokens));
+    }
+
+    /**
+     * Evaluates an already parsed program without variables. Allocates nothing once the calling
+     * thread's operand stack is deep enough.
+     * @param program The program to be evaluated
+     * @return The result of the program
+     * @throws IllegalArgumentException Thrown if the program has variables
+     */
+    public double evaluate(RpnProgram program) throws IllegalArgumentException {
+        return program.evaluate(scratchFor(program));
+    }
+
+    /**
+     * Evaluates a compiled expression with the given bindings on the calling thread's operand stack
+     * rather than the expression's own, so the expression may be shared between threads.
+     * @param expression The compiled expression to be evaluated
+     * @param bindings The value of each variable, in the order the variables were named when compiling
+     * @return The result of the expression
+     * @throws IllegalArgumentException Thrown if fewer bindings are given than there are variables
+     */
+    public double evaluate(CompiledExpression expression, double[] bindings) throws IllegalArgumentException {
+        RpnProgram program = expression.getProgram();
+        return program.evaluate(scratchFor(program), bindings);
+    }
+
+    /**
+     * Gets the calling thread's operand stack, deepening it first if the program requires it.
+     * @param program The program about to be evaluated
+     * @return An operand stack at least as deep as the program requires
+     */
+    private double[] scratchFor(RpnProgram program) {
+        double[] stack = scratch.get();
+        if (stack.length < program.getMaxDepth()) {
+            stack = new double[Math.max(program.getMaxDepth(), stack.length << 1)];
+            scratch.set(stack);
+        }
+        return stack;
+    }
+}
@@ -0,0 +1,333 @@
+package com.tylerbartnick.programs;
+
+import java.lang.IllegalArgumentException;
+
+/**
+ * A Reverse Polish Notation expression that has been parsed once into opcode/operand form.
+ * Every token becomes a single opcode, and every numeric token has its value parsed ahead of
+ * time, so evaluating the program is nothing more than a walk over two arrays with a primitive
+ * double[] operand stack. No text is parsed and nothing is allocated per operator.
+ *
+ * Evaluation follows a standard operand stack: operands are pushed, and each operator pops the
+ * right-hand then the left-hand operand and pushes the result. The "operand operand operator"
+ * chains accepted by ReversePolishNotation evaluate exactly as before, e.g. "3 4 + 2 *" is 14.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public final class RpnProgram {
+    /**
+     * Opcode pushing the operand stored alongside it.
+     */
+    static final byte PUSH = 0;
+
+    /**
+     * Opcode pushing the bound value of the variable whose slot is stored alongside it.
+     */
+    static final byte LOAD = 7;
+
+    /**
+     * Opcodes for the arithmetic operators, see apply() for their semantics.
+     */
+    static final byte ADD = 1;
+    static final byte SUBTRACT = 2;
+    static final byte MULTIPLY = 3;
+    static final byte DIVIDE = 4;
+    static final byte FLOOR_DIVIDE = 5;
+    static final byte POWER = 6;
+
+    /**
+     * Marker returned by opcodeOf() for characters that are not operators.
+     */
+    static final byte NOT_AN_OPERATOR = -1;
+
+    /**
+     * The variable names of a program without variables.
+     */
+    private static final String[] NO_VARIABLES = new String[0];
+
+    /**
+     * The bindings used to evaluate a program without variables.
+     */
+    private static final double[] NO_BINDINGS = new double[0];
+
+    /**
+     * One opcode per token of the expression, in evaluation order.
+     */
+    private final byte[] opcodes;
+
+    /**
+     * The pre-parsed value of each PUSH opcode, at the same index as the opcode.
+     */
+    private final double[] operands;
+
+    /**
+     * The binding slot of each LOAD opcode, at the same index as the opcode.
+     */
+    private final int[] slots;
+
+    /**
+     * The number of variables that must be bound to evaluate the program.
+     */
+    private final int variableCount;
+
+    /**
+     * The deepest the operand stack gets while evaluating, and so the scratch space required.
+     */
+    private final int maxDepth;
+
+    /**
+     * Private constructor, use parse() to create a program.
+     * @param opcodes The opcodes of the program
+     * @param operands The operands of the program
+     * @param slots The binding slots of the program
+     * @param variableCount The number of variables of the program
+     * @param maxDepth The maximum operand stack depth
+     */
+    private RpnProgram(byte[] opcodes, double[] operands, int[] slots, int variableCount, int maxDepth) {
+        this.opcodes = opcodes;
+        this.operands = operands;
+        this.slots = slots;
+        this.variableCount = variableCount;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Parses and validates the given tokens into a program. A token is an operator if it is
+     * exactly one of the operator characters, otherwise it must parse as a double.
+     * @param tokens The whitespace-delimited tokens of the expression
+     * @return The parsed program
+     * @throws IllegalArgumentException Thrown if the tokens do not form a valid expression
+     */
+    public static RpnProgram parse(String[] tokens) throws IllegalArgumentException {
+        return parse(tokens, NO_VARIABLES);
+    }
+
+    /**
+     * Parses and validates the given tokens into a program. A token is a variable if it is one of
+     * the given names, an operator if it is exactly one of the operator characters, otherwise it
+     * must parse as a double. Each variable is bound by its position within the given names.
+     * @param tokens The whitespace-delimited tokens of the expression
+     * @param variables The names of the variables the expression may refer to
+     * @return The parsed program
+     * @throws IllegalArgumentException Thrown if the tokens do not form a valid expression
+     */
+    public static RpnProgram parse(String[] tokens, String[] variables) throws IllegalArgumentException {
+        if (variables == null) {
+            throw new IllegalArgumentException("Variables cannot be null.");
+        }
+        if (tokens == null || tokens.length == 0) {
+            throw new IllegalArgumentException("Arguments cannot be null or empty.");
+        }
+
+        byte[] opcodes = new byte[tokens.length];
+        double[] operands = new double[tokens.length];
+        int[] slots = new int[tokens.length];
+        int depth = 0;
+        int maxDepth = 0;
+        for (int i = 0; i < tokens.length; i++) {
+            String token = tokens[i];
+            if (token == null || token.isEmpty()) {
+                throw new IllegalArgumentException("Tokens cannot be null or empty.");
+            }
+
+            byte opcode = token.length() == 1 ? opcodeOf(token.charAt(0)) : NOT_AN_OPERATOR;
+            if (opcode != NOT_AN_OPERATOR) {
+                if (depth < 2) {
+                    throw new IllegalArgumentException(String.format("Operator %s is missing an operand.", token));
+                }
+                opcodes[i] = opcode;
+                depth--;
+                continue;
+            }
+
+            int slot = indexOf(variables, token);
+            if (slot >= 0) {
+                opcodes[i] = LOAD;
+                slots[i] = slot;
+                if (++depth > maxDepth) { maxDepth = depth; }
+                continue;
+            }
+
+            try {
+                operands[i] = Double.parseDouble(token);
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException(String.format("Token %s is not a valid operand.", token), ex);
+            }
+            opcodes[i] = PUSH;
+            if (++depth > maxDepth) { maxDepth = depth; }
+        }
+
+        if (depth != 1) {
+            throw new IllegalArgumentException("Expression does not reduce to a single result.");
+        }
+        return new RpnProgram(opcodes, operands, slots, variables.length, maxDepth);
+    }
+
+    /**
+     * Evaluates the program. Allocates only the operand stack for this call.
+     * @return The result of the expression
+     */
+    public double evaluate() {
+        return evaluate(new double[maxDepth]);
+    }
+
+    /**
+     * Evaluates the program on the given operand stack, allocating nothing.
+     * @param scratch The operand stack, at least getMaxDepth() long
+     * @return The result of the expression
+     * @throws IllegalArgumentException Thrown if the scratch space is too small or the program has variables
+     */
+    public double evaluate(double[] scratch) throws IllegalArgumentException {
+        return evaluate(scratch, NO_BINDINGS);
+    }
+
+    /**
+     * Evaluates the program on the given operand stack with the given variable bindings, allocating nothing.
+     * @param scratch The operand stack, at least getMaxDepth() long
+     * @param bindings The value of each variable, in the order the variables were named when parsed
+     * @return The result of the expression
+     * @throws IllegalArgumentException Thrown if the scratch space is too small or a variable is unbound
+     */
+    public double evaluate(double[] scratch, double[] bindings) throws IllegalArgumentException {
+        if (scratch == null || scratch.length < maxDepth) {
+            throw new IllegalArgumentException("Scratch space is smaller than the program's maximum depth.");
+        }
+        if (bindings == null || bindings.length < variableCount) {
+            throw new IllegalArgumentException(String.format("Expected %d variable bindings.", variableCount));
+        }
+
+        int top = -1;
+        for (int i = 0; i < opcodes.length; i++) {
+            byte opcode = opcodes[i];
+            if (opcode == PUSH) {
+                scratch[++top] = operands[i];
+            } else if (opcode == LOAD) {
+                scratch[++top] = bindings[slots[i]];
+            } else {
+                double right = scratch[top--];
+                scratch[top] = apply(opcode, scratch[top], right);
+            }
+        }
+        return scratch[0];
+    }
+
+    /**
+     * Gets the operand stack depth required to evaluate the program.
+     * @return The maximum depth of the operand stack
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Gets the number of opcodes in the program.
+     * @return The length of the program
+     */
+    int length() {
+        return opcodes.length;
+    }
+
+    /**
+     * Gets the opcode at the given position in the program.
+     * @param index The position of the opcode
+     * @return The opcode
+     */
+    byte opcodeAt(int index) {
+        return opcodes[index];
+    }
+
+    /**
+     * Gets the operand of the PUSH opcode at the given position in the program.
+     * @param index The position of the opcode
+     * @return The operand
+     */
+    double operandAt(int index) {
+        return operands[index];
+    }
+
+    /**
+     * Gets the binding slot of the LOAD opcode at the given position in the program.
+     * @param index The position of the opcode
+     * @return The binding slot
+     */
+    int slotAt(int index) {
+        return slots[index];
+    }
+
+    /**
+     * Gets the number of variables that must be bound to evaluate the program.
+     * @return The number of variables
+     */
+    public int getVariableCount() {
+        return variableCount;
+    }
+
+    /**
+     * Finds the position of a name within the given variable names.
+     * @param variables The variable names
+     * @param token The name to search for
+     * @return The position of the name, -1 if not found
+     */
+    private static int indexOf(String[] variables, String token) {
+        for (int i = 0; i < variables.length; i++) {
+            if (token.equals(variables[i])) { return i; }
+        }
+        return -1;
+    }
+
+    /**
+     * Maps an operator character to its opcode.
+     * @param token The operator character
+     * @return The opcode, or NOT_AN_OPERATOR if the character is not an operator
+     */
+    static byte opcodeOf(char token) {
+        return switch (token) {
+            case '+' -> ADD;
+            case '-' -> SUBTRACT;
+            case '*' -> MULTIPLY;
+            case '/' -> DIVIDE;
+            case '_' -> FLOOR_DIVIDE;
+            case '^' -> POWER;
+            default -> NOT_AN_OPERATOR;
+        };
+    }
+
+    /**
+     * Evaluates and returns the result of the operands and operator. Division by zero is protected
+     * against by dividing by one instead.
+     * @param opcode The operator's opcode
+     * @param left The first operand
+     * @param right The second operand
+     * @return The result of the expression
+     */
+    static double apply(byte opcode, double left, double right) {
+        switch (opcode) {
+            case ADD -> {
+                return left + right;
+            }
+            case SUBTRACT -> {
+                return left - right;
+            }
+            case MULTIPLY -> {
+                return left * right;
+            }
+            case DIVIDE -> {
+                // Don't allow divide by zero
+                return left / (right == 0.0d ? 1.0d : right);
+            }
+            case FLOOR_DIVIDE -> {
+                // Don't allow divide by zero, which includes divisors that truncate to zero
+                int divisor = (int) right;
+                return Math.floorDiv((int) left, divisor == 0 ? 1 : divisor);
+            }
+            case POWER -> {
+                return Math.pow(left, right);
+            }
+            default -> {
+                // should never happen
+                return 0.0d;
+            }
+        }
+    }
+}
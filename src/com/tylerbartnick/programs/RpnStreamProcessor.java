@@ -0,0 +1,158 @@
+package com.tylerbartnick.programs;
+
+import java.io.IOException;
+import java.lang.IllegalArgumentException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Evaluates a stream of newline-delimited Reverse Polish Notation expressions, writing one result line per
+ * expression line. Input is read through a fixed direct buffer and each expression is tokenized in place,
+ * and results are gathered in a second buffer that is written out only when full, so memory use stays flat
+ * however large the input is. A line is only ever copied when it straddles the end of the input buffer, and
+ * the buffer only grows if a single line is longer than it.
+ *
+ * Each output line holds the result formatted as Double.toString() would, "invalid" for an expression that
+ * cannot be evaluated, or nothing for a blank line, so output lines always correspond to input lines.
+ * A processor is owned by a single thread, but may process any number of streams one after another.
+ *
+ * @author Tyler Bartnick
+ * @version 1.0.0
+ */
+public final class RpnStreamProcessor {
+    /**
+     * The buffer size used by the default constructor.
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Evaluates each line in place.
+     */
+    private final RpnByteEvaluator evaluator = new RpnByteEvaluator();
+
+    /**
+     * Holds the bytes read but not yet evaluated.
+     */
+    private ByteBuffer input;
+
+    /**
+     * Holds the results not yet written.
+     */
+    private final ByteBuffer output;
+
+    /**
+     * Default constructor, creates a processor with 64 KiB buffers.
+     */
+    public RpnStreamProcessor() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a processor with the given buffer size for both input and output.
+     * @param bufferSize The size of each buffer in bytes
+     * @throws IllegalArgumentException Thrown if the buffer size is too small to hold a result
+     */
+    public RpnStreamProcessor(int bufferSize) throws IllegalArgumentException {
+        if (bufferSize < RpnByteEvaluator.MAX_RESULT_BYTES) {
+            throw new IllegalArgumentException(String.format("Buffer size %d is too small.", bufferSize));
+        }
+        this.input = ByteBuffer.allocateDirect(bufferSize);
+        this.output = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Evaluates every expression in the input file, writing the results to the output file.
+     * @param inputFile The file of newline-delimited expressions
+     * @param outputFile The file to write the results to, created or truncated
+     * @return The number of lines processed
+     * @throws IOException Thrown if either file cannot be read or written
+     */
+    public long process(Path inputFile, Path outputFile) throws IOException {
+        try (FileChannel in = FileChannel.open(inputFile, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(outputFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                StandardOpenOption.TRUNCATE_EXISTING)) {
+            return process(in, out);
+        }
+    }
+
+    /**
+     * Evaluates every expression read from the input channel, writing the results to the output channel.
+     * Neither channel is closed.
+     * @param in The channel of newline-delimited expressions
+     * @param out The channel to write the results to
+     * @return The number of lines processed
+     * @throws IOException Thrown if either channel cannot be read or written
+     */
+    public long process(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        input.clear();
+        output.clear();
+        long lines = 0;
+        int lineStart = 0;
+        int scanFrom = 0;
+        while (in.read(input) >= 0) {
+            int end = input.position();
+            for (int i = scanFrom; i < end; i++) {
+                if (input.get(i) == '\n') {
+                    evaluateLine(lineStart, i, out);
+                    lines++;
+                    lineStart = i + 1;
+                }
+            }
+            scanFrom = end;
+
+            if (lineStart > 0) {
+                // carry the partial line at the end of the buffer over to the start
+                input.limit(end).position(lineStart);
+                input.compact();
+                scanFrom -= lineStart;
+                lineStart = 0;
+            } else if (!input.hasRemaining()) {
+                // a single line longer than the buffer, the only time the buffer grows
+                ByteBuffer larger = ByteBuffer.allocateDirect(input.capacity() << 1);
+                input.flip();
+                larger.put(input);
+                input = larger;
+            }
+        }
+
+        if (input.position() > lineStart) {
+            // the final line had no terminator
+            evaluateLine(lineStart, input.position(), out);
+            lines++;
+        }
+        flush(out);
+        return lines;
+    }
+
+    /**
+     * Evaluates a single line of the input buffer and queues its result for output.
+     * @param from The position of the first byte of the line
+     * @param to The position of the line terminator
+     * @param out The channel to flush results to when the output buffer fills
+     * @throws IOException Thrown if the output channel cannot be written
+     */
+    private void evaluateLine(int from, int to, WritableByteChannel out) throws IOException {
+        evaluator.evaluate(input, from, to);
+        if (output.remaining() < RpnByteEvaluator.MAX_RESULT_BYTES) {
+            flush(out);
+        }
+        evaluator.writeResult(output);
+    }
+
+    /**
+     * Writes every queued result to the output channel.
+     * @param out The channel to write to
+     * @throws IOException Thrown if the channel cannot be written
+     */
+    private void flush(WritableByteChannel out) throws IOException {
+        output.flip();
+        while (output.hasRemaining()) {
+            out.write(output);
+        }
+        output.clear();
+    }
+}